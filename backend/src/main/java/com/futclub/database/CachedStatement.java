@@ -0,0 +1,184 @@
+package com.futclub.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handle around a statement checked out of a {@link StatementCache}.
+ * Closing the handle closes any result sets it produced, clears the bound
+ * parameters and hands the compiled statement back to the cache. A caller
+ * that changes statement settings (fetch size, max rows, timeouts) gets its
+ * statement finalized on close instead, so the next caller starts clean.
+ * Without a cache the statement is simply closed.
+ *
+ * Every execution is timed and reported to {@link QueryMetrics}; queries are
+ * reported when their result set closes, so the time spent fetching rows and
+ * the row count are included.
+ */
+final class CachedStatement implements InvocationHandler {
+
+    private static final Set<String> SETTINGS = Set.of(
+            "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+            "setQueryTimeout", "setEscapeProcessing", "setPoolable", "setCursorName", "closeOnCompletion");
+
+    private final PreparedStatement physical;
+    private final Connection lease;
+    private final StatementCache cache;
+    private final StatementCache.Key key;
+    private final String sql;
+    private final List<ResultSet> openResults = new ArrayList<>(1);
+    private boolean returned;
+    private boolean dirty;
+
+    private CachedStatement(PreparedStatement physical, Connection lease, StatementCache cache,
+                            StatementCache.Key key, String sql) {
+        this.physical = physical;
+        this.lease = lease;
+        this.cache = cache;
+        this.key = key;
+        this.sql = sql;
+    }
+
+    /**
+     * @param cache the cache to return the statement to, or null to close it
+     */
+    static PreparedStatement wrap(PreparedStatement physical, Connection lease, StatementCache cache,
+                                  StatementCache.Key key, String sql) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                new CachedStatement(physical, lease, cache, key, sql));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "close":
+                giveBack();
+                return null;
+            case "isClosed":
+                return returned || physical.isClosed();
+            case "getConnection":
+                return lease;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(physical)) {
+                    return physical;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(physical)) {
+                    return true;
+                }
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "CachedStatement[" + physical + "]";
+            default:
+                break;
+        }
+
+        if (returned) {
+            throw new SQLException("Statement has already been returned to the cache");
+        }
+        if (SETTINGS.contains(name)) {
+            dirty = true;
+        }
+        boolean executing = name.startsWith("execute");
+        if (executing) {
+            // A new execution invalidates the previous result sets, as in JDBC.
+            closeOpenResults();
+        }
+        boolean timed = QueryMetrics.isEnabled() && executing;
+        long start = timed ? System.nanoTime() : 0L;
+        Object result;
+        try {
+            result = method.invoke(physical, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            if (result instanceof ResultSet) {
+                result = MeteredResultSet.wrap((ResultSet) result, sql, elapsed);
+            } else {
+                QueryMetrics.record(sql, elapsed, affectedRows(result));
+            }
+        }
+        if (result instanceof ResultSet) {
+            openResults.add((ResultSet) result);
+        }
+        return result;
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            return Math.max(0L, ((Number) result).longValue());
+        }
+        long rows = 0L;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                rows += Math.max(0L, count);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Closes the result sets of earlier executions; false if one failed to close.
+     */
+    private boolean closeOpenResults() {
+        boolean closed = true;
+        for (ResultSet rs : openResults) {
+            try {
+                rs.close();
+            } catch (SQLException e) {
+                closed = false;
+            }
+        }
+        openResults.clear();
+        return closed;
+    }
+
+    private void giveBack() {
+        if (returned) {
+            return;
+        }
+        returned = true;
+
+        boolean closed = closeOpenResults();
+        boolean reusable = !dirty && closed;
+
+        try {
+            if (cache != null && reusable && !physical.isClosed()) {
+                physical.clearParameters();
+                physical.clearBatch();
+                cache.checkin(key, physical);
+                return;
+            }
+        } catch (SQLException e) {
+            // Fall through and finalize the statement.
+        }
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // Statement is being discarded anyway.
+        }
+    }
+}
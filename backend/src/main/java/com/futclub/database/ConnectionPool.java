@@ -0,0 +1,491 @@
+package com.futclub.database;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Pooled connection provider for the SQLite database.
+ * Keeps a bounded set of read connections and a single writer connection,
+ * since SQLite only ever allows one writer at a time. Connections handed out
+ * by the pool are leases: closing them returns the physical connection to the
+ * pool instead of closing it.
+ *
+ * Every physical connection carries its own {@link StatementCache}, so DAO
+ * statements are compiled once per connection and reused across leases.
+ *
+ * The writer lease is reentrant per thread, so a thread that already holds the
+ * writer (for example inside a transaction) can request it again without
+ * deadlocking against itself.
+ */
+public class ConnectionPool implements DataSource {
+
+    private final String url;
+    private final int minReadConnections;
+    private final int maxReadConnections;
+    private final long timeoutMs;
+    private final PragmaProfile pragmaProfile;
+    private final int statementCacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition readerReleased = lock.newCondition();
+    private final Condition writerReleased = lock.newCondition();
+
+    private final Deque<Connection> idleReaders = new ArrayDeque<>();
+    private final List<Connection> allReaders = new ArrayList<>();
+    private final Map<Connection, StatementCache> statementCaches =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private int openingReaders;
+
+    private volatile Connection writer;
+    private Thread writerOwner;
+    private int writerHolds;
+
+    private boolean closed;
+    private PrintWriter logWriter;
+
+    public ConnectionPool(String url, int minReadConnections, int maxReadConnections, long timeoutMs) {
+        this(url, minReadConnections, maxReadConnections, timeoutMs, PragmaProfile.fromConfig(),
+                DatabaseConfig.getStatementCacheSize());
+    }
+
+    public ConnectionPool(String url, int minReadConnections, int maxReadConnections, long timeoutMs,
+                          PragmaProfile pragmaProfile, int statementCacheSize) {
+        if (maxReadConnections < 1) {
+            throw new IllegalArgumentException("Pool needs at least one read connection");
+        }
+        this.url = url;
+        this.minReadConnections = Math.max(0, Math.min(minReadConnections, maxReadConnections));
+        this.maxReadConnections = maxReadConnections;
+        this.timeoutMs = timeoutMs;
+        this.pragmaProfile = pragmaProfile;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Creates a pool sized from database.properties.
+     */
+    public static ConnectionPool fromConfig() {
+        return new ConnectionPool(
+                DatabaseConfig.getDatabaseUrl(),
+                DatabaseConfig.getPoolMinConnections(),
+                DatabaseConfig.getPoolMaxConnections(),
+                DatabaseConfig.getPoolTimeoutMs(),
+                PragmaProfile.fromConfig(),
+                DatabaseConfig.getStatementCacheSize());
+    }
+
+    /**
+     * Opens the configured minimum number of read connections.
+     */
+    public void start() throws SQLException {
+        List<Connection> opened = new ArrayList<>();
+        for (int i = 0; i < minReadConnections; i++) {
+            opened.add(openPhysicalConnection(true));
+        }
+        lock.lock();
+        try {
+            for (Connection conn : opened) {
+                allReaders.add(conn);
+                idleReaders.push(conn);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Leases a read-only connection.
+     */
+    public Connection getReadConnection() throws SQLException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        lock.lock();
+        try {
+            while (true) {
+                ensureOpen();
+                Connection idle = idleReaders.poll();
+                if (idle != null) {
+                    if (!idle.isClosed()) {
+                        return lease(idle, this::releaseReader);
+                    }
+                    allReaders.remove(idle);
+                    closeStatementCache(idle);
+                    continue;
+                }
+                if (allReaders.size() + openingReaders < maxReadConnections) {
+                    openingReaders++;
+                    break;
+                }
+                if (remaining <= 0L) {
+                    throw new SQLException("Timed out after " + timeoutMs + " ms waiting for a read connection");
+                }
+                remaining = readerReleased.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a read connection", e);
+        } finally {
+            lock.unlock();
+        }
+
+        // Open the new connection outside the lock so other leases are not blocked.
+        Connection physical = null;
+        try {
+            physical = openPhysicalConnection(true);
+        } finally {
+            lock.lock();
+            try {
+                openingReaders--;
+                if (physical != null) {
+                    allReaders.add(physical);
+                } else {
+                    readerReleased.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return lease(physical, this::releaseReader);
+    }
+
+    /**
+     * Leases the single writer connection, waiting for the current owner to release it.
+     */
+    public Connection getWriteConnection() throws SQLException {
+        Thread current = Thread.currentThread();
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        lock.lock();
+        try {
+            ensureOpen();
+            if (writerOwner == current) {
+                writerHolds++;
+                return lease(writer, this::releaseWriter);
+            }
+            while (writerOwner != null) {
+                if (remaining <= 0L) {
+                    throw new SQLException("Timed out after " + timeoutMs + " ms waiting for the writer connection");
+                }
+                remaining = writerReleased.awaitNanos(remaining);
+                ensureOpen();
+            }
+            writerOwner = current;
+            writerHolds = 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the writer connection", e);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            if (writer == null || writer.isClosed()) {
+                writer = openPhysicalConnection(false);
+            }
+        } catch (SQLException | RuntimeException e) {
+            relinquishWriter();
+            throw e;
+        }
+        return lease(writer, this::releaseWriter);
+    }
+
+    /**
+     * Checks whether the calling thread currently holds the writer connection.
+     */
+    public boolean isWriterHeldByCurrentThread() {
+        lock.lock();
+        try {
+            return writerOwner == Thread.currentThread();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes every physical connection. Outstanding leases fail on next use.
+     */
+    public void shutdown() {
+        List<Connection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose.addAll(allReaders);
+            allReaders.clear();
+            idleReaders.clear();
+            if (writer != null) {
+                toClose.add(writer);
+                writer = null;
+            }
+            writerOwner = null;
+            writerHolds = 0;
+            readerReleased.signalAll();
+            writerReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        for (Connection conn : toClose) {
+            closeStatementCache(conn);
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing pooled connection: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getOpenReadConnections() {
+        lock.lock();
+        try {
+            return allReaders.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleReadConnections() {
+        lock.lock();
+        try {
+            return idleReaders.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxReadConnections() {
+        return maxReadConnections;
+    }
+
+    public PragmaProfile getPragmaProfile() {
+        return pragmaProfile;
+    }
+
+    /**
+     * Gets the statement cache of the physical connection behind a lease,
+     * or null when statement caching is disabled.
+     */
+    public StatementCache getStatementCache(Connection lease) throws SQLException {
+        return statementCaches.get(lease.unwrap(Connection.class));
+    }
+
+    /**
+     * Total statement cache hits across every open connection.
+     */
+    public long getStatementCacheHits() {
+        synchronized (statementCaches) {
+            return statementCaches.values().stream().mapToLong(StatementCache::getHits).sum();
+        }
+    }
+
+    /**
+     * Total statement cache misses across every open connection.
+     */
+    public long getStatementCacheMisses() {
+        synchronized (statementCaches) {
+            return statementCaches.values().stream().mapToLong(StatementCache::getMisses).sum();
+        }
+    }
+
+    private Connection lease(Connection physical, Consumer<Connection> release) {
+        return PooledConnection.wrap(physical, statementCaches.get(physical), release);
+    }
+
+    private void closeStatementCache(Connection physical) {
+        StatementCache cache = statementCaches.remove(physical);
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    private void releaseReader(Connection physical) {
+        boolean healthy = resetConnection(physical);
+        lock.lock();
+        try {
+            if (closed || !healthy) {
+                allReaders.remove(physical);
+                closeQuietly(physical);
+            } else {
+                idleReaders.push(physical);
+            }
+            readerReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseWriter(Connection physical) {
+        lock.lock();
+        try {
+            if (writerOwner == null || physical != writer) {
+                // Pool was shut down while the lease was outstanding.
+                return;
+            }
+            if (--writerHolds > 0) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!resetConnection(physical)) {
+            closeQuietly(physical);
+        }
+        relinquishWriter();
+    }
+
+    private void relinquishWriter() {
+        lock.lock();
+        try {
+            writerOwner = null;
+            writerHolds = 0;
+            writerReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rolls back anything a caller left open so the next lease starts clean.
+     */
+    private boolean resetConnection(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Discarding pooled connection after failed reset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Connection openPhysicalConnection(boolean readOnly) throws SQLException {
+        try {
+            Class.forName(DatabaseConfig.getDriverClassName());
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite JDBC driver not found", e);
+        }
+
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement stmt = conn.createStatement()) {
+            // Applied before query_only, since switching to WAL writes the file header.
+            pragmaProfile.applyTo(conn);
+            stmt.execute("PRAGMA foreign_keys = ON;");
+            if (readOnly) {
+                stmt.execute("PRAGMA query_only = ON;");
+            }
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw e;
+        }
+        if (statementCacheSize > 0) {
+            statementCaches.put(conn, new StatementCache(conn, statementCacheSize));
+        }
+        return conn;
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        closeStatementCache(conn);
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            // Connection is being discarded anyway.
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // DataSource
+    // ------------------------------------------------------------------
+
+    /**
+     * Returns the writer connection, which supports both reads and writes.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getWriteConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("SQLite connections do not use credentials");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        // Leases use database.pool.timeout.ms instead.
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return (int) TimeUnit.MILLISECONDS.toSeconds(timeoutMs);
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used by the pool");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("ConnectionPool does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
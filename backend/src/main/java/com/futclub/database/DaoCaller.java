@@ -0,0 +1,63 @@
+package com.futclub.database;
+
+/**
+ * Works out which DAO method is responsible for the database work running on
+ * the current thread, so retries and query metrics can be reported per DAO
+ * method (for example "PlayerMatchStatsDAOImpl.insert").
+ */
+public final class DaoCaller {
+
+    private static final String DAO_PACKAGE = "com.futclub.database.dao.";
+    private static final String DATABASE_PACKAGE = "com.futclub.database.";
+
+    /** Set by the writer thread while it runs work queued by another thread. */
+    private static final ThreadLocal<String> BOUND = new ThreadLocal<>();
+
+    private DaoCaller() {}
+
+    /**
+     * Names the DAO method on the current stack or, failing that, the first
+     * caller outside the database package.
+     */
+    public static String describe() {
+        String bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        return StackWalker.getInstance().walk(frames -> {
+            String outside = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith(DAO_PACKAGE)) {
+                    return name(className, frame.getMethodName());
+                }
+                if (outside == null && !className.startsWith(DATABASE_PACKAGE)
+                        && !className.startsWith("java.") && !className.startsWith("jdk.")) {
+                    outside = name(className, frame.getMethodName());
+                }
+            }
+            return outside != null ? outside : "unknown";
+        });
+    }
+
+    /**
+     * Attributes work on this thread to a caller captured elsewhere.
+     */
+    static void bind(String caller) {
+        BOUND.set(caller);
+    }
+
+    static void clear() {
+        BOUND.remove();
+    }
+
+    private static String name(String className, String methodName) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        // lambda$insert$0 -> insert
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', 7);
+            methodName = end > 7 ? methodName.substring(7, end) : methodName.substring(7);
+        }
+        return simpleName + "." + methodName;
+    }
+}
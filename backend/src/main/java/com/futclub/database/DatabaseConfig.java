@@ -33,6 +33,18 @@ public class DatabaseConfig {
             System.err.println("Error loading configuration: " + e.getMessage());
             setDefaults();
         }
+        applySystemOverrides();
+    }
+    
+    /**
+     * Let -Ddatabase.* system properties override the file, e.g. -Ddatabase.url=jdbc:sqlite:other.db.
+     */
+    private static void applySystemOverrides() {
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("database.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
     }
     
     /**
@@ -43,6 +55,31 @@ public class DatabaseConfig {
         properties.setProperty("database.driver", "org.sqlite.JDBC");
         properties.setProperty("database.schema.auto.init", "true");
         properties.setProperty("database.log.queries", "false");
+        properties.setProperty("database.pool.min.connections", "2");
+        properties.setProperty("database.pool.max.connections", "10");
+        properties.setProperty("database.pool.timeout.ms", "30000");
+        properties.setProperty("database.pragma.profile", "fast");
+        properties.setProperty("database.statement.cache.size", "64");
+        properties.setProperty("database.stream.fetch.size", "500");
+        properties.setProperty("database.entity.cache.enabled", "true");
+        properties.setProperty("database.entity.cache.size", "1000");
+        properties.setProperty("database.writer.queue.enabled", "true");
+        properties.setProperty("database.writer.queue.capacity", "10000");
+        properties.setProperty("database.writer.flush.window.ms", "1");
+        properties.setProperty("database.writer.max.batch", "256");
+        properties.setProperty("database.retry.max.attempts", "5");
+        properties.setProperty("database.retry.initial.backoff.ms", "10");
+        properties.setProperty("database.retry.max.backoff.ms", "500");
+        properties.setProperty("database.retry.deadline.ms", "10000");
+        properties.setProperty("database.metrics.enabled", "true");
+        properties.setProperty("database.log.slow.query.ms", "200");
+        properties.setProperty("database.log.level", "INFO");
+        properties.setProperty("database.log.async", "true");
+        properties.setProperty("database.log.buffer.size", "8192");
+        properties.setProperty("database.log.overflow", "DROP");
+        properties.setProperty("database.log.file", "");
+        properties.setProperty("database.log.file.max.bytes", "10485760");
+        properties.setProperty("database.log.file.backups", "5");
     }
     
     /**
@@ -73,6 +110,182 @@ public class DatabaseConfig {
         return Boolean.parseBoolean(properties.getProperty("database.log.queries", "false"));
     }
     
+    /**
+     * Get the number of read connections opened when the pool starts.
+     */
+    public static int getPoolMinConnections() {
+        return getIntProperty("database.pool.min.connections", 2);
+    }
+    
+    /**
+     * Get the maximum number of read connections held by the pool.
+     */
+    public static int getPoolMaxConnections() {
+        return getIntProperty("database.pool.max.connections", 10);
+    }
+    
+    /**
+     * Get how long a caller waits for a pooled connection before failing.
+     */
+    public static long getPoolTimeoutMs() {
+        return getLongProperty("database.pool.timeout.ms", 30000L);
+    }
+    
+    /**
+     * Get the name of the SQLite pragma preset applied to new connections.
+     */
+    public static String getPragmaProfileName() {
+        return properties.getProperty("database.pragma.profile", "fast");
+    }
+    
+    /**
+     * Get how many prepared statements each pooled connection keeps compiled.
+     * Zero disables statement caching.
+     */
+    public static int getStatementCacheSize() {
+        return getIntProperty("database.statement.cache.size", 64);
+    }
+    
+    /**
+     * Get the number of rows fetched per round trip by streaming DAO queries.
+     */
+    public static int getStreamFetchSize() {
+        return getIntProperty("database.stream.fetch.size", 500);
+    }
+    
+    /**
+     * Check if player, match and staff lookups by id are cached in memory.
+     */
+    public static boolean isEntityCacheEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("database.entity.cache.enabled", "true"));
+    }
+    
+    /**
+     * Get how many entities each cached DAO keeps before evicting the least recently used.
+     */
+    public static int getEntityCacheSize() {
+        return getIntProperty("database.entity.cache.size", 1000);
+    }
+    
+    /**
+     * Check if DAO writes go through the single-writer queue.
+     */
+    public static boolean isWriterQueueEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("database.writer.queue.enabled", "true"));
+    }
+    
+    /**
+     * Get how many writes may wait for the writer thread before callers block.
+     */
+    public static int getWriterQueueCapacity() {
+        return getIntProperty("database.writer.queue.capacity", 10000);
+    }
+    
+    /**
+     * Get how long the writer waits for more writes before committing a batch.
+     */
+    public static long getWriterFlushWindowMs() {
+        return getLongProperty("database.writer.flush.window.ms", 1L);
+    }
+    
+    /**
+     * Get the maximum number of writes committed in one transaction.
+     */
+    public static int getWriterMaxBatchSize() {
+        return getIntProperty("database.writer.max.batch", 256);
+    }
+    
+    /**
+     * Get how many times a busy or locked operation is attempted in total.
+     */
+    public static int getRetryMaxAttempts() {
+        return getIntProperty("database.retry.max.attempts", 5);
+    }
+    
+    /**
+     * Get the wait before the first retry of a busy operation.
+     */
+    public static long getRetryInitialBackoffMs() {
+        return getLongProperty("database.retry.initial.backoff.ms", 10L);
+    }
+    
+    /**
+     * Get the longest wait between two retries.
+     */
+    public static long getRetryMaxBackoffMs() {
+        return getLongProperty("database.retry.max.backoff.ms", 500L);
+    }
+    
+    /**
+     * Get the total time budget for retrying one operation.
+     */
+    public static long getRetryDeadlineMs() {
+        return getLongProperty("database.retry.deadline.ms", 10000L);
+    }
+    
+    /**
+     * Check if per-query latency metrics should be collected.
+     */
+    public static boolean isQueryMetricsEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("database.metrics.enabled", "true"));
+    }
+    
+    /**
+     * Get the duration above which a statement is logged as slow.
+     */
+    public static long getSlowQueryThresholdMs() {
+        return getLongProperty("database.log.slow.query.ms", 200L);
+    }
+    
+    /**
+     * Get the minimum level written by DatabaseLogger.
+     */
+    public static String getLogLevel() {
+        return properties.getProperty("database.log.level", "INFO").trim();
+    }
+    
+    /**
+     * Check if log messages are written by a background thread.
+     */
+    public static boolean isAsyncLoggingEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("database.log.async", "true"));
+    }
+    
+    /**
+     * Get how many log messages may wait for the background writer.
+     */
+    public static int getLogBufferSize() {
+        return getIntProperty("database.log.buffer.size", 8192);
+    }
+    
+    /**
+     * Get what happens when the log buffer is full (DROP or BLOCK).
+     */
+    public static String getLogOverflowPolicy() {
+        return properties.getProperty("database.log.overflow", "DROP").trim();
+    }
+    
+    /**
+     * Get the log file path, or an empty string to log to the console only.
+     */
+    public static String getLogFile() {
+        return properties.getProperty("database.log.file", "").trim();
+    }
+    
+    /**
+     * Get the size at which the log file is rolled over.
+     */
+    public static long getLogFileMaxBytes() {
+        return getLongProperty("database.log.file.max.bytes", 10485760L);
+    }
+    
+    /**
+     * Get how many rolled log files are kept.
+     */
+    public static int getLogFileBackups() {
+        return getIntProperty("database.log.file.backups", 5);
+    }
+    
     /**
      * Get a configuration property by key.
      */
@@ -80,10 +293,51 @@ public class DatabaseConfig {
         return properties.getProperty(key);
     }
     
+    /**
+     * Override a configuration property at runtime.
+     * Connections opened afterwards pick up the new value; call
+     * DatabaseConnection.closeConnection() first to re-point an open pool.
+     */
+    public static void setProperty(String key, String value) {
+        properties.setProperty(key, value);
+    }
+    
     /**
      * Get a configuration property with default value.
      */
     public static String getProperty(String key, String defaultValue) {
         return properties.getProperty(key, defaultValue);
     }
+    
+    /**
+     * Get an integer property, falling back to the default when missing or malformed.
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid integer for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get a long property, falling back to the default when missing or malformed.
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid long for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
 }
@@ -1,67 +1,134 @@
 package com.futclub.database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
  * Manages database connections for the FutClub Manager application.
- * Implements singleton pattern to ensure only one connection exists.
+ * Hands out leases from a shared {@link ConnectionPool}; callers close the
+ * returned connection to give it back to the pool. While the calling thread
+ * is inside a {@link TransactionManager} transaction, both read and write
+ * leases refer to the transaction's connection instead.
  */
 public class DatabaseConnection {
 
-    private static final String DB_URL = "jdbc:sqlite:data/futclub.db";
-    private static Connection connection = null;
+    private static volatile ConnectionPool pool;
+    private static volatile WriteQueue writeQueue;
+
     private DatabaseConnection() {}
 
     /**
-     * Gets the database connection. Creates a new connection if one doesn't exist.
+     * Gets the shared connection pool, starting it on first use.
      */
-    public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            try {
-                // Load SQLite JDBC driver
-                Class.forName("org.sqlite.JDBC");
+    public static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current != null && !current.isClosed()) {
+            return current;
+        }
+        synchronized (DatabaseConnection.class) {
+            if (pool == null || pool.isClosed()) {
+                ConnectionPool created = ConnectionPool.fromConfig();
+                created.start();
+                pool = created;
+                System.out.println("Database connection pool started.");
+            }
+            return pool;
+        }
+    }
 
-                // Create connection
-                connection = DriverManager.getConnection(DB_URL);
+    /**
+     * Gets the shared single-writer queue, starting it on first use.
+     * Returns null when the queue is disabled in database.properties.
+     */
+    public static WriteQueue getWriteQueue() throws SQLException {
+        WriteQueue current = writeQueue;
+        if (current != null && current.isRunning()) {
+            return current;
+        }
+        if (!DatabaseConfig.isWriterQueueEnabled()) {
+            return null;
+        }
+        ConnectionPool currentPool = getPool();
+        synchronized (DatabaseConnection.class) {
+            if (writeQueue == null || !writeQueue.isRunning()) {
+                WriteQueue created = WriteQueue.fromConfig(currentPool);
+                created.start();
+                writeQueue = created;
+            }
+            return writeQueue;
+        }
+    }
 
-                // Enable foreign keys
-                connection.createStatement().execute("PRAGMA foreign_keys = ON;");
+    /**
+     * Gets a general-purpose connection that can read and write.
+     * This is a lease on the writer connection.
+     */
+    public static Connection getConnection() throws SQLException {
+        return getWriteConnection();
+    }
 
-                System.out.println("Database connection established successfully.");
+    /**
+     * Leases a read-only connection for queries.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection joined = TransactionManager.joinCurrent(false);
+        if (joined != null) {
+            return joined;
+        }
+        return getPool().getReadConnection();
+    }
 
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("SQLite JDBC driver not found", e);
-            }
+    /**
+     * Leases the single writer connection for inserts, updates and deletes.
+     */
+    public static Connection getWriteConnection() throws SQLException {
+        Connection joined = TransactionManager.joinCurrent(true);
+        if (joined != null) {
+            return joined;
         }
-        return connection;
+        return getPool().getWriteConnection();
     }
 
     /**
-     * Closes the database connection.
+     * Commits any queued writes, shuts down the pool and closes every
+     * physical connection. The next lease starts a fresh pool.
      */
     public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                System.out.println("Database connection closed.");
-            }
-        } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
+        ConnectionPool current;
+        WriteQueue queue;
+        synchronized (DatabaseConnection.class) {
+            current = pool;
+            queue = writeQueue;
+            pool = null;
+            writeQueue = null;
+        }
+        if (queue != null) {
+            queue.shutdown();
+        }
+        if (current != null) {
+            current.shutdown();
+            System.out.println("Database connection pool closed.");
         }
     }
 
+    /**
+     * Points every later lease at another database, closing the current pool
+     * first. Used by benchmarks and tests to work on a file of their own.
+     */
+    public static void useDatabase(String url) {
+        closeConnection();
+        DatabaseConfig.setProperty("database.url", url);
+    }
+
     /**
      * Tests if the database connection is valid.
      */
     public static boolean testConnection() {
-        try {
-            Connection conn = getConnection();
+        try (Connection conn = getReadConnection()) {
             return conn != null && !conn.isClosed();
         } catch (SQLException e) {
             System.err.println("Connection test failed: " + e.getMessage());
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,110 +1,171 @@
 package com.futclub.database;
 
-import com.futclub.security.PasswordHasher;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Map;
 
 /**
  * Initializes the database by creating tables.
  */
 public class DatabaseInitializer {
 
-    private static final String SCHEMA_FILE = "/database/schema.sql";
-    private static final String SEED_DATA_FILE = "/database/seed_data.sql";
-    private static final Map<String, String> DEFAULT_SEED_PASSWORDS = Map.of(
-        "coach.smith", "password123",
-        "analyst.jones", "password123",
-        "admin.wilson", "password123"
-    );
+    /** Every date and timestamp column, as table.column. */
+    private static final String[] DATE_COLUMNS = {
+        "users.created_at", "users.last_login",
+        "staff.hire_date",
+        "players.date_of_birth", "players.joined_date", "players.contract_end",
+        "players.created_at", "players.updated_at",
+        "matches.match_date", "matches.created_at", "matches.updated_at",
+        "training_sessions.session_date", "training_sessions.created_at",
+        "attendance.recorded_at",
+        "player_match_stats.created_at",
+        "match_events.recorded_at"
+    };
+
+    private static final String REBUILD_PLAYER_TOTALS_SQL =
+            "INSERT INTO player_totals (player_id, appearances, minutes_played, goals, assists, " +
+            "rating_sum, rating_count, yellow_cards, red_cards) " +
+            "SELECT player_id, COUNT(*), IFNULL(SUM(minutes_played), 0), IFNULL(SUM(goals), 0), " +
+            "IFNULL(SUM(assists), 0), TOTAL(IIF(minutes_played > 0, rating, NULL)), " +
+            "COUNT(IIF(minutes_played > 0, rating, NULL)), IFNULL(SUM(yellow_cards), 0), IFNULL(SUM(red_cards), 0) " +
+            "FROM player_match_stats GROUP BY player_id";
 
     /**
-     * Initializes the database by creating all tables.
-     * Only creates tables if they don't already exist.
+     * Initializes the database by applying any pending schema migrations.
+     * A database that is already current is left untouched.
      */
     public static void initializeDatabase() throws SQLException {
         // Ensure data directory exists
         createDataDirectory();
 
-        // Get connection
-        Connection conn = DatabaseConnection.getConnection();
+        // Migrate on the writer connection
+        try (Connection conn = DatabaseConnection.getWriteConnection()) {
+            applySchema(conn);
+        }
+    }
 
-        // Execute schema SQL
-        System.out.println("Initializing database schema...");
-        executeSQL(conn, SCHEMA_FILE);
-        System.out.println("Database schema initialized successfully.");
+    /**
+     * Brings the schema up to date on the given connection, which need not come from the pool.
+     */
+    public static void applySchema(Connection conn) throws SQLException {
+        SchemaMigrator.migrate(conn);
     }
 
     /**
-     * Loads seed data into the database.
+     * Replaces all data in the database with the seed data, in one transaction.
      */
     public static void loadSeedData() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getWriteConnection()) {
+            System.out.println("Loading seed data...");
+            SeedLoader.replace(conn);
+            System.out.println("Seed data loaded successfully.");
+        }
+    }
 
-        System.out.println("Loading seed data...");
-        clearExistingData(conn);
-        executeSQL(conn, SEED_DATA_FILE);
-        upgradeSeedUserPasswords(conn);
-        System.out.println("Seed data loaded successfully.");
+    /**
+     * Adds any missing seed rows without touching existing data. Safe to run repeatedly.
+     */
+    public static void upsertSeedData() throws SQLException {
+        try (Connection conn = DatabaseConnection.getWriteConnection()) {
+            SeedLoader.upsert(conn);
+        }
     }
 
-    private static void clearExistingData(Connection conn) throws SQLException {
-        Statement stmt = null;
-        try {
-            stmt = conn.createStatement();
-            stmt.execute("PRAGMA foreign_keys = OFF;");
-
-            String[] tables = {
-                "attendance",
-                "player_match_stats",
-                "match_events",
-                "training_sessions",
-                "matches",
-                "players",
-                "staff",
-                "users"
-            };
-
-            for (String table : tables) {
-                try {
-                    stmt.executeUpdate("DELETE FROM " + table + ";");
-                } catch (SQLException e) {
-                    if (!e.getMessage().toLowerCase().contains("no such table")) {
-                        throw e;
-                    }
-                }
+    /**
+     * Rewrites date and timestamp values stored as text into epoch milliseconds.
+     *
+     * Text is read as local time, the way the JDBC driver parsed it, and text
+     * that is already a millisecond count is cast as is. Values SQLite cannot
+     * parse are left for {@link EpochDates} to report when read. Rows that are
+     * already integers are skipped, so running this again is cheap. Joins the
+     * caller's transaction if one is open.
+     */
+    public static void convertLegacyDates(Connection conn) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        if (autoCommit) {
+            conn.setAutoCommit(false);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            int converted = 0;
+            for (String column : DATE_COLUMNS) {
+                int dot = column.indexOf('.');
+                converted += stmt.executeUpdate(convertLegacyDatesSql(column.substring(0, dot), column.substring(dot + 1)));
             }
-
-            try {
-                stmt.executeUpdate("DELETE FROM sqlite_sequence;");
-            } catch (SQLException e) {
-                if (!e.getMessage().toLowerCase().contains("no such table")) {
-                    throw e;
-                }
+            if (autoCommit) {
+                conn.commit();
+            }
+            if (converted > 0) {
+                System.out.println("Converted " + converted + " text date values to epoch milliseconds.");
+            }
+        } catch (SQLException e) {
+            if (autoCommit) {
+                conn.rollback();
+            }
+            throw e;
+        } finally {
+            if (autoCommit) {
+                conn.setAutoCommit(true);
             }
+        }
+    }
+
+    /**
+     * Recomputes player_totals from player_match_stats on the writer connection.
+     */
+    public static void rebuildPlayerTotals() throws SQLException {
+        try (Connection conn = DatabaseConnection.getWriteConnection()) {
+            rebuildPlayerTotals(conn);
+        }
+    }
 
+    /**
+     * Recomputes player_totals from player_match_stats.
+     *
+     * The stats triggers keep the totals current, so this is only needed to
+     * backfill them or to recover from writes made with the triggers missing.
+     * Joins the caller's transaction if one is open.
+     */
+    public static void rebuildPlayerTotals(Connection conn) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        if (autoCommit) {
+            conn.setAutoCommit(false);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM player_totals");
+            int players = stmt.executeUpdate(REBUILD_PLAYER_TOTALS_SQL);
+            if (autoCommit) {
+                conn.commit();
+            }
+            System.out.println("Rebuilt season totals for " + players + " players.");
+        } catch (SQLException e) {
+            if (autoCommit) {
+                conn.rollback();
+            }
+            throw e;
         } finally {
-            if (stmt != null) {
-                try {
-                    stmt.execute("PRAGMA foreign_keys = ON;");
-                } catch (SQLException e) {
-                    // Ignore inability to re-enable foreign keys; subsequent operations will fail fast.
-                }
-                stmt.close();
+            if (autoCommit) {
+                conn.setAutoCommit(true);
             }
         }
     }
 
+    private static String convertLegacyDatesSql(String table, String column) {
+        String value = "TRIM(" + column + ")";
+        String digits = value + " <> '' AND " + value + " NOT GLOB '*[^0-9]*'";
+        String parsed = "unixepoch(" + value + ", 'utc')";
+        return "UPDATE " + table + " SET " + column + " = CASE WHEN " + digits
+                + " THEN CAST(" + value + " AS INTEGER) ELSE " + parsed + " * 1000 END"
+                + " WHERE typeof(" + column + ") = 'text' AND (" + digits + " OR " + parsed + " IS NOT NULL)";
+    }
+
     /**
      * Executes SQL statements from a resource file.
      */
-    private static void executeSQL(Connection conn, String resourcePath) throws SQLException {
+    static void executeScript(Connection conn, String resourcePath) throws SQLException {
         try {
             // Read SQL file from resources
             InputStream inputStream = DatabaseInitializer.class.getResourceAsStream(resourcePath);
@@ -198,18 +259,6 @@ public class DatabaseInitializer {
         }
     }
 
-    private static void upgradeSeedUserPasswords(Connection conn) throws SQLException {
-        String sql = "UPDATE users SET password_hash = ? WHERE username = ? AND password_hash LIKE 'hashed_password_%'";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            for (Map.Entry<String, String> entry : DEFAULT_SEED_PASSWORDS.entrySet()) {
-                pstmt.setString(1, PasswordHasher.hash(entry.getValue()));
-                pstmt.setString(2, entry.getKey());
-                pstmt.addBatch();
-            }
-            pstmt.executeBatch();
-        }
-    }
-
     /**
      * Creates the data directory if it doesn't exist.
      */
@@ -231,13 +280,11 @@ public class DatabaseInitializer {
      * Checks if the database has been initialized (if tables exist).
      */
     public static boolean isDatabaseInitialized() {
-        try {
-            Connection conn = DatabaseConnection.getConnection();
-            Statement stmt = conn.createStatement();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             Statement stmt = conn.createStatement()) {
 
             // Try to query users table
             stmt.executeQuery("SELECT COUNT(*) FROM users");
-            stmt.close();
 
             return true;
         } catch (SQLException e) {
@@ -247,9 +294,17 @@ public class DatabaseInitializer {
 
     /**
      * Main method for testing database initialization.
+     * Pass "rebuild-totals" to only recompute player_totals.
      */
     public static void main(String[] args) {
         try {
+            if (args.length > 0 && "rebuild-totals".equals(args[0])) {
+                initializeDatabase();
+                rebuildPlayerTotals();
+                DatabaseConnection.closeConnection();
+                return;
+            }
+
             System.out.println("=== Database Initialization ===");
 
             // Initialize database
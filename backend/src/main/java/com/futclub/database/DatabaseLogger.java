@@ -1,89 +1,492 @@
 package com.futclub.database;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Simple logging utility for database operations.
  * Provides consistent logging format across the database layer.
+ *
+ * In async mode (database.log.async, the default) callers only put the
+ * message in a bounded buffer; a background thread formats it and writes it
+ * to the console and any extra sinks such as a {@link RollingFileSink}.
+ * When the buffer is full the overflow policy decides: DROP discards the
+ * message and counts it (the writer reports the count once it catches up),
+ * BLOCK makes the caller wait for room.
  */
 public class DatabaseLogger {
-    
+
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static boolean loggingEnabled = true;
-    private static LogLevel minimumLevel = LogLevel.INFO;
-    
+    private static final int DRAIN_BATCH = 256;
+    private static volatile boolean loggingEnabled = true;
+    private static volatile LogLevel minimumLevel = LogLevel.INFO;
+    private static volatile boolean consoleEnabled = true;
+    private static volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, "");
+    private static final List<LogSink> sinks = new CopyOnWriteArrayList<>();
+    private static final LongAdder dropped = new LongAdder();
+    private static volatile AsyncWriter asyncWriter;
+
     public enum LogLevel {
         DEBUG, INFO, WARN, ERROR
     }
-    
+
+    /**
+     * What a caller does when the async buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the message and count it. The caller never waits. */
+        DROP,
+        /** Wait until the writer thread makes room. No message is lost. */
+        BLOCK
+    }
+
+    static {
+        configureFromConfig();
+        Runtime.getRuntime().addShutdownHook(new Thread(DatabaseLogger::stopAsync, "db-log-shutdown"));
+    }
+
+    /**
+     * Apply the database.log.* settings: level, async buffer and log file.
+     */
+    public static synchronized void configureFromConfig() {
+        try {
+            minimumLevel = LogLevel.valueOf(DatabaseConfig.getLogLevel().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level: " + DatabaseConfig.getLogLevel());
+        }
+        for (LogSink sink : sinks) {
+            if (sink instanceof RollingFileSink) {
+                removeSink(sink);
+            }
+        }
+        try {
+            RollingFileSink file = RollingFileSink.fromConfig();
+            if (file != null) {
+                addSink(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot open log file " + DatabaseConfig.getLogFile() + ": " + e.getMessage());
+        }
+        if (DatabaseConfig.isAsyncLoggingEnabled()) {
+            OverflowPolicy policy = OverflowPolicy.DROP;
+            try {
+                policy = OverflowPolicy.valueOf(DatabaseConfig.getLogOverflowPolicy().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown log overflow policy: " + DatabaseConfig.getLogOverflowPolicy());
+            }
+            startAsync(DatabaseConfig.getLogBufferSize(), policy);
+        } else {
+            stopAsync();
+        }
+    }
+
     /**
      * Enable or disable logging.
      */
     public static void setLoggingEnabled(boolean enabled) {
         loggingEnabled = enabled;
     }
-    
+
     /**
      * Set minimum log level to display.
      */
     public static void setMinimumLevel(LogLevel level) {
         minimumLevel = level;
     }
-    
+
+    /**
+     * Enable or disable writing to System.out / System.err.
+     */
+    public static void setConsoleEnabled(boolean enabled) {
+        consoleEnabled = enabled;
+    }
+
+    /**
+     * Check whether messages at the given level are written.
+     */
+    public static boolean isEnabled(LogLevel level) {
+        return loggingEnabled && level.ordinal() >= minimumLevel.ordinal();
+    }
+
+    /**
+     * Add a destination that receives every logged line.
+     */
+    public static void addSink(LogSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * Remove and close a destination.
+     */
+    public static void removeSink(LogSink sink) {
+        if (sinks.remove(sink)) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                System.err.println("Error closing log sink: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Switch to async mode with a buffer of the given size.
+     * Messages already buffered by a previous writer are written first.
+     */
+    public static synchronized void startAsync(int capacity, OverflowPolicy policy) {
+        stopAsync();
+        AsyncWriter writer = new AsyncWriter(Math.max(1, capacity), policy);
+        writer.start();
+        asyncWriter = writer;
+    }
+
+    /**
+     * Write out everything still buffered and go back to logging on the calling thread.
+     */
+    public static synchronized void stopAsync() {
+        AsyncWriter writer = asyncWriter;
+        if (writer != null) {
+            asyncWriter = null;
+            writer.stop();
+        }
+    }
+
+    public static boolean isAsync() {
+        return asyncWriter != null;
+    }
+
+    /**
+     * Wait until every message logged so far has been written and the sinks flushed.
+     */
+    public static void flush() {
+        AsyncWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.flush();
+        } else {
+            flushSinks();
+        }
+    }
+
+    /**
+     * Get the number of messages discarded because the async buffer was full.
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get the number of messages waiting for the writer thread.
+     */
+    public static int getPendingCount() {
+        AsyncWriter writer = asyncWriter;
+        return writer == null ? 0 : writer.queue.size();
+    }
+
     /**
      * Log a debug message.
      */
     public static void debug(String message) {
-        log(LogLevel.DEBUG, message);
+        log(LogLevel.DEBUG, message, null);
     }
-    
+
+    /**
+     * Log a debug message built only if debug logging is enabled.
+     */
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message.get(), null);
+        }
+    }
+
     /**
      * Log an info message.
      */
     public static void info(String message) {
-        log(LogLevel.INFO, message);
+        log(LogLevel.INFO, message, null);
     }
-    
+
+    /**
+     * Log an info message built only if info logging is enabled.
+     */
+    public static void info(Supplier<String> message) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message.get(), null);
+        }
+    }
+
     /**
      * Log a warning message.
      */
     public static void warn(String message) {
-        log(LogLevel.WARN, message);
+        log(LogLevel.WARN, message, null);
     }
-    
+
+    /**
+     * Log a warning message built only if warnings are enabled.
+     */
+    public static void warn(Supplier<String> message) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message.get(), null);
+        }
+    }
+
     /**
      * Log an error message.
      */
     public static void error(String message) {
-        log(LogLevel.ERROR, message);
+        log(LogLevel.ERROR, message, null);
     }
-    
+
     /**
      * Log an error message with exception.
      */
     public static void error(String message, Throwable throwable) {
-        log(LogLevel.ERROR, message + " - " + throwable.getMessage());
-        if (loggingEnabled && LogLevel.ERROR.ordinal() >= minimumLevel.ordinal()) {
-            throwable.printStackTrace();
-        }
+        log(LogLevel.ERROR, message + " - " + throwable.getMessage(), throwable);
     }
-    
+
     /**
-     * Core logging method.
+     * Core logging method. Hands the message to the writer thread in async mode.
      */
-    private static void log(LogLevel level, String message) {
-        if (!loggingEnabled || level.ordinal() < minimumLevel.ordinal()) {
+    private static void log(LogLevel level, String message, Throwable throwable) {
+        if (!isEnabled(level)) {
             return;
         }
-        
-        String timestamp = LocalDateTime.now().format(formatter);
-        String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
-        
-        if (level == LogLevel.ERROR || level == LogLevel.WARN) {
-            System.err.println(logMessage);
-        } else {
-            System.out.println(logMessage);
+        Entry entry = new Entry(System.currentTimeMillis(), level, message, throwable);
+        AsyncWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.offer(entry);
+            return;
+        }
+        synchronized (DatabaseLogger.class) {
+            write(entry);
+            flushSinks();
+        }
+    }
+
+    private static void write(Entry entry) {
+        String line = new StringBuilder(32 + entry.message.length())
+                .append('[').append(timestamp(entry.millis)).append("] [")
+                .append(entry.level).append("] ")
+                .append(entry.message)
+                .toString();
+        String trace = null;
+        if (entry.throwable != null) {
+            StringWriter buffer = new StringWriter();
+            entry.throwable.printStackTrace(new PrintWriter(buffer));
+            trace = buffer.toString().stripTrailing();
+        }
+
+        if (consoleEnabled) {
+            if (entry.level == LogLevel.ERROR || entry.level == LogLevel.WARN) {
+                System.err.println(line);
+                if (trace != null) {
+                    System.err.println(trace);
+                }
+            } else {
+                System.out.println(line);
+            }
+        }
+        for (LogSink sink : sinks) {
+            try {
+                sink.write(entry.level, line);
+                if (trace != null) {
+                    sink.write(entry.level, trace);
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing log: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void flushSinks() {
+        for (LogSink sink : sinks) {
+            try {
+                sink.flush();
+            } catch (IOException e) {
+                System.err.println("Error flushing log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Format a timestamp, reusing the last result while the second has not changed.
+     */
+    static String timestamp(long millis) {
+        long second = Math.floorDiv(millis, 1000L);
+        Timestamp cached = lastTimestamp;
+        if (cached.second != second) {
+            String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault())
+                    .format(formatter);
+            cached = new Timestamp(second, text);
+            lastTimestamp = cached;
+        }
+        return cached.text;
+    }
+
+    private static final class Timestamp {
+        private final long second;
+        private final String text;
+
+        private Timestamp(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+
+    private static final class Entry {
+        private final long millis;
+        private final LogLevel level;
+        private final String message;
+        private final Throwable throwable;
+        private final CountDownLatch flushed;
+
+        private Entry(long millis, LogLevel level, String message, Throwable throwable) {
+            this(millis, level, message, throwable, null);
+        }
+
+        private Entry(long millis, LogLevel level, String message, Throwable throwable, CountDownLatch flushed) {
+            this.millis = millis;
+            this.level = level;
+            this.message = message;
+            this.throwable = throwable;
+            this.flushed = flushed;
+        }
+    }
+
+    /**
+     * Background thread draining the bounded buffer in batches.
+     */
+    private static final class AsyncWriter implements Runnable {
+        private static final Entry STOP = new Entry(0L, LogLevel.INFO, "", null);
+
+        private final BlockingQueue<Entry> queue;
+        private final OverflowPolicy policy;
+        private final Thread thread;
+        private long reportedDrops;
+
+        private AsyncWriter(int capacity, OverflowPolicy policy) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.policy = policy;
+            this.thread = new Thread(this, "db-log-writer");
+            this.thread.setDaemon(true);
+            this.reportedDrops = dropped.sum();
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void offer(Entry entry) {
+            if (policy == OverflowPolicy.BLOCK) {
+                try {
+                    queue.put(entry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            } else if (!queue.offer(entry)) {
+                dropped.increment();
+            }
+        }
+
+        private void flush() {
+            if (Thread.currentThread() == thread) {
+                return;
+            }
+            CountDownLatch latch = new CountDownLatch(1);
+            try {
+                queue.put(new Entry(0L, LogLevel.INFO, "", null, latch));
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void stop() {
+            try {
+                // A full buffer behind a stalled sink must not hang shutdown.
+                if (!queue.offer(STOP, 1, TimeUnit.SECONDS)) {
+                    thread.interrupt();
+                }
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!thread.isAlive()) {
+                // Pick up anything logged while the writer was shutting down.
+                synchronized (DatabaseLogger.class) {
+                    drainRemaining();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Entry> batch = new ArrayList<>(DRAIN_BATCH);
+            while (true) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.drainTo(batch, DRAIN_BATCH - 1);
+                boolean stopping = false;
+                for (Entry entry : batch) {
+                    if (entry == STOP) {
+                        stopping = true;
+                    } else if (entry.flushed == null) {
+                        write(entry);
+                    }
+                }
+                reportDrops();
+                flushSinks();
+                for (Entry entry : batch) {
+                    if (entry.flushed != null) {
+                        entry.flushed.countDown();
+                    }
+                }
+                batch.clear();
+                if (stopping) {
+                    drainRemaining();
+                    return;
+                }
+            }
+        }
+
+        private void drainRemaining() {
+            List<Entry> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            for (Entry entry : rest) {
+                if (entry.flushed != null) {
+                    entry.flushed.countDown();
+                } else if (entry != STOP) {
+                    write(entry);
+                }
+            }
+            reportDrops();
+            flushSinks();
+        }
+
+        private void reportDrops() {
+            long total = dropped.sum();
+            if (total > reportedDrops) {
+                write(new Entry(System.currentTimeMillis(), LogLevel.WARN,
+                        (total - reportedDrops) + " log messages dropped because the log buffer was full", null));
+                reportedDrops = total;
+            }
         }
     }
 }
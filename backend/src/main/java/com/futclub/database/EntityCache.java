@@ -0,0 +1,169 @@
+package com.futclub.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded LRU cache of entities keyed by id, used by the caching DAO
+ * decorators. Misses are loaded through the caller's loader and kept; writes
+ * call {@link #invalidate(int)}. A load that overlaps an invalidation is
+ * returned to its caller but not kept, so a row read just before a write
+ * cannot outlive it. Entities without a row are never cached.
+ *
+ * Entities are mutable, so the cache keeps its own copy and hands every
+ * caller a fresh one. Loads inside a transaction are not kept, since they
+ * may see rows that are later rolled back.
+ */
+public final class EntityCache<T> {
+
+    private final int capacity;
+    private final UnaryOperator<T> copier;
+    private final LinkedHashMap<Integer, T> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param copier makes an independent copy of an entity, such as its copy constructor
+     */
+    public EntityCache(int capacity, UnaryOperator<T> copier) {
+        this.capacity = capacity;
+        this.copier = Objects.requireNonNull(copier, "copier");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get the entity with the given id, loading and keeping it on a miss.
+     */
+    public T get(int id, IntFunction<T> loader) {
+        long loadedGeneration;
+        synchronized (this) {
+            T cached = entries.get(id);
+            if (cached != null) {
+                hits++;
+                return copier.apply(cached);
+            }
+            misses++;
+            loadedGeneration = generation;
+        }
+        T loaded = loader.apply(id);
+        if (loaded != null) {
+            put(id, loaded, loadedGeneration);
+        }
+        return loaded;
+    }
+
+    /**
+     * Get the entities with the given ids, keyed by id. Only the misses are
+     * passed to the loader, in one call.
+     */
+    public Map<Integer, T> getAll(Collection<Integer> ids, Function<Collection<Integer>, Map<Integer, T>> loader) {
+        Map<Integer, T> found = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return found;
+        }
+        List<Integer> missing = new ArrayList<>();
+        long loadedGeneration;
+        synchronized (this) {
+            for (Integer id : new LinkedHashSet<>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+                T cached = entries.get(id);
+                if (cached != null) {
+                    hits++;
+                    found.put(id, copier.apply(cached));
+                } else {
+                    misses++;
+                    missing.add(id);
+                }
+            }
+            loadedGeneration = generation;
+        }
+        if (!missing.isEmpty()) {
+            Map<Integer, T> loaded = loader.apply(missing);
+            loaded.forEach((id, entity) -> put(id, entity, loadedGeneration));
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    /**
+     * Drops the entity with the given id. Call after every write to its row.
+     * Inside a transaction the entity is dropped again once it completes, so
+     * a copy another thread reads before the commit does not outlive it.
+     */
+    public void invalidate(int id) {
+        drop(id);
+        if (TransactionManager.isTransactionActive()) {
+            TransactionManager.afterCompletion(() -> drop(id));
+        }
+    }
+
+    /**
+     * Drops every entity.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Get the share of lookups served from memory, or 0 before the first lookup.
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private synchronized void drop(int id) {
+        generation++;
+        entries.remove(id);
+    }
+
+    private synchronized void put(int id, T entity, long loadedGeneration) {
+        Objects.requireNonNull(entity, "entity");
+        if (capacity <= 0 || generation != loadedGeneration || TransactionManager.isTransactionActive()) {
+            return;
+        }
+        entries.put(id, copier.apply(entity));
+        Iterator<T> eldest = entries.values().iterator();
+        while (entries.size() > capacity) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
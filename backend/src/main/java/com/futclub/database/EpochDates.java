@@ -0,0 +1,122 @@
+package com.futclub.database;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Reads and writes date and timestamp columns stored as epoch milliseconds.
+ *
+ * Every DATE, DATETIME and TIMESTAMP column holds an INTEGER count of
+ * milliseconds since 1970-01-01 UTC, so the read path is a single getLong.
+ * Rows written as text before the switch (seed scripts, CURRENT_TIMESTAMP
+ * defaults on older files) are still accepted: SQLite converts such text to
+ * the leading year when asked for an integer, and any value in 0-9999 is
+ * re-read as a string and parsed the way the driver used to.
+ */
+public final class EpochDates {
+
+    /**
+     * Integers below this are the year prefix of a legacy text value, or a
+     * moment in the first ten seconds of 1970.
+     */
+    private static final long LEGACY_TEXT_LIMIT = 10_000L;
+
+    private EpochDates() {
+    }
+
+    /**
+     * Get the date stored in a column, or null if the column is null or blank.
+     */
+    public static Date getDate(ResultSet rs, int column) throws SQLException {
+        long millis = rs.getLong(column);
+        if (rs.wasNull()) {
+            return null;
+        }
+        if (millis >= 0 && millis < LEGACY_TEXT_LIMIT) {
+            return parseLegacyDate(rs.getString(column), rs, column);
+        }
+        return new Date(millis);
+    }
+
+    /**
+     * Get the timestamp stored in a column, or null if the column is null or blank.
+     */
+    public static Timestamp getTimestamp(ResultSet rs, int column) throws SQLException {
+        long millis = rs.getLong(column);
+        if (rs.wasNull()) {
+            return null;
+        }
+        if (millis >= 0 && millis < LEGACY_TEXT_LIMIT) {
+            return parseLegacyTimestamp(rs.getString(column), rs, column);
+        }
+        return new Timestamp(millis);
+    }
+
+    /**
+     * Binds a date or timestamp as epoch milliseconds, or NULL.
+     */
+    public static void set(PreparedStatement pstmt, int index, java.util.Date value) throws SQLException {
+        if (value != null) {
+            pstmt.setLong(index, value.getTime());
+        } else {
+            pstmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static Date parseLegacyDate(String raw, ResultSet rs, int column) throws SQLException {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String normalized = raw.trim();
+        if (isDigits(normalized)) {
+            return new Date(Long.parseLong(normalized));
+        }
+        int timeStart = normalized.indexOf(' ');
+        if (timeStart < 0) {
+            timeStart = normalized.indexOf('T');
+        }
+        if (timeStart > 0) {
+            normalized = normalized.substring(0, timeStart);
+        }
+        try {
+            return Date.valueOf(normalized);
+        } catch (IllegalArgumentException ex) {
+            throw new SQLException("Failed to parse date value '" + raw + "' for column "
+                    + rs.getMetaData().getColumnName(column), ex);
+        }
+    }
+
+    private static Timestamp parseLegacyTimestamp(String raw, ResultSet rs, int column) throws SQLException {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String normalized = raw.trim().replace('T', ' ');
+        if (isDigits(normalized)) {
+            return new Timestamp(Long.parseLong(normalized));
+        }
+        if (normalized.length() == 10) {
+            normalized += " 00:00:00";
+        } else if (normalized.length() == 16) {
+            normalized += ":00";
+        }
+        try {
+            return Timestamp.valueOf(normalized);
+        } catch (IllegalArgumentException ex) {
+            throw new SQLException("Failed to parse timestamp value '" + raw + "' for column "
+                    + rs.getMetaData().getColumnName(column), ex);
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return !value.isEmpty() && value.length() <= 18;
+    }
+}
@@ -0,0 +1,24 @@
+package com.futclub.database;
+
+import java.io.IOException;
+
+/**
+ * Destination for formatted DatabaseLogger lines.
+ */
+public interface LogSink {
+
+    /**
+     * Writes one formatted line, without a trailing line separator.
+     */
+    void write(DatabaseLogger.LogLevel level, String line) throws IOException;
+
+    /**
+     * Pushes buffered lines out. Called after each batch of writes.
+     */
+    default void flush() throws IOException {
+    }
+
+    default void close() throws IOException {
+        flush();
+    }
+}
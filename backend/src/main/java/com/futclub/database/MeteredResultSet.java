@@ -0,0 +1,92 @@
+package com.futclub.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Result set handle that counts the rows read and the time spent in
+ * {@code next()}, then reports the whole query to {@link QueryMetrics} once
+ * the result set is closed.
+ *
+ * The driver reuses one physical result set per statement, so a closed
+ * handle refuses further calls rather than reading the next execution's rows.
+ */
+final class MeteredResultSet implements InvocationHandler {
+
+    private final ResultSet physical;
+    private final String sql;
+    private long nanos;
+    private long rows;
+    private boolean reported;
+    private boolean closed;
+
+    private MeteredResultSet(ResultSet physical, String sql, long executeNanos) {
+        this.physical = physical;
+        this.sql = sql;
+        this.nanos = executeNanos;
+    }
+
+    static ResultSet wrap(ResultSet physical, String sql, long executeNanos) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                new MeteredResultSet(physical, sql, executeNanos));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                closed = true;
+                report();
+                break;
+            case "isClosed":
+                return closed || physical.isClosed();
+            case "next":
+                if (!closed) {
+                    return next();
+                }
+                break;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(physical)) {
+                    return physical;
+                }
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+        if (closed && !"close".equals(method.getName())) {
+            throw new SQLException("Result set has already been closed");
+        }
+        try {
+            return method.invoke(physical, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean next() throws Exception {
+        long start = System.nanoTime();
+        boolean more = physical.next();
+        nanos += System.nanoTime() - start;
+        if (more) {
+            rows++;
+        }
+        return more;
+    }
+
+    private void report() {
+        if (!reported) {
+            reported = true;
+            QueryMetrics.record(sql, nanos, rows);
+        }
+    }
+}
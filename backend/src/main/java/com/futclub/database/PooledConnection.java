@@ -0,0 +1,106 @@
+package com.futclub.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * Lease handle around a physical pooled connection.
+ * Closing the handle hands the physical connection back to the pool.
+ * prepareStatement calls are served from the connection's statement cache
+ * when it has one, and timed by {@link QueryMetrics}; every other call is
+ * delegated unchanged.
+ */
+final class PooledConnection implements InvocationHandler {
+
+    private final Connection physical;
+    private final StatementCache statementCache;
+    private final Consumer<Connection> release;
+    private final boolean instrumented;
+    private boolean returned;
+
+    private PooledConnection(Connection physical, StatementCache statementCache, Consumer<Connection> release,
+                             boolean instrumented) {
+        this.physical = physical;
+        this.statementCache = statementCache;
+        this.release = release;
+        this.instrumented = instrumented;
+    }
+
+    static Connection wrap(Connection physical, StatementCache statementCache, Consumer<Connection> release) {
+        return proxy(new PooledConnection(physical, statementCache, release, true));
+    }
+
+    /**
+     * Wraps an existing lease in a handle whose close does nothing. Statements
+     * are left to the underlying lease, so they are cached and timed only once.
+     */
+    static Connection borrow(Connection lease) {
+        return proxy(new PooledConnection(lease, null, released -> { }, false));
+    }
+
+    private static Connection proxy(PooledConnection handler) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!returned) {
+                    returned = true;
+                    release.accept(physical);
+                }
+                return null;
+            case "isClosed":
+                return returned || physical.isClosed();
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(physical)) {
+                    return physical;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(physical)) {
+                    return true;
+                }
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "PooledConnection[" + physical + "]";
+            default:
+                break;
+        }
+
+        if (returned) {
+            throw new SQLException("Connection has already been returned to the pool");
+        }
+        if (instrumented && method.getName().equals("prepareStatement")
+                && (args.length == 1 || (args.length == 2 && args[1] instanceof Integer))) {
+            String sql = (String) args[0];
+            int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+            if (statementCache != null) {
+                return statementCache.checkout((Connection) proxy, sql, autoGeneratedKeys);
+            }
+            if (QueryMetrics.isEnabled()) {
+                return CachedStatement.wrap(physical.prepareStatement(sql, autoGeneratedKeys),
+                        (Connection) proxy, null, null, sql);
+            }
+        }
+        try {
+            return method.invoke(physical, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
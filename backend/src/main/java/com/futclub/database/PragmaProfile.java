@@ -0,0 +1,136 @@
+package com.futclub.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * SQLite pragma settings applied to every new pooled connection.
+ * Ships with three named presets:
+ * <ul>
+ *   <li>{@code durable} - WAL with synchronous FULL; every commit survives power loss.</li>
+ *   <li>{@code fast} - WAL with synchronous NORMAL, a larger page cache and memory-mapped I/O.
+ *       A power cut can lose the last few commits but never corrupts the file.</li>
+ *   <li>{@code bulk-load} - WAL with synchronous OFF and a large cache, for generators and
+ *       imports that can simply be re-run after a crash.</li>
+ * </ul>
+ * Any value can be overridden in database.properties.
+ */
+public final class PragmaProfile {
+
+    public static final String DURABLE = "durable";
+    public static final String FAST = "fast";
+    public static final String BULK_LOAD = "bulk-load";
+
+    private final String name;
+    private final String journalMode;
+    private final String synchronous;
+    private final int cacheSize;
+    private final long mmapSize;
+    private final String tempStore;
+    private final int busyTimeoutMs;
+
+    private PragmaProfile(String name, String journalMode, String synchronous, int cacheSize,
+                          long mmapSize, String tempStore, int busyTimeoutMs) {
+        this.name = name;
+        this.journalMode = journalMode;
+        this.synchronous = synchronous;
+        this.cacheSize = cacheSize;
+        this.mmapSize = mmapSize;
+        this.tempStore = tempStore;
+        this.busyTimeoutMs = busyTimeoutMs;
+    }
+
+    /**
+     * Look up a preset by name.
+     *
+     * @throws IllegalArgumentException if the name is not a known preset
+     */
+    public static PragmaProfile forName(String name) {
+        String key = name == null ? FAST : name.trim().toLowerCase(Locale.ROOT);
+        return switch (key) {
+            // Negative cache sizes are in KiB rather than pages.
+            case DURABLE -> new PragmaProfile(DURABLE, "WAL", "FULL", -8000, 0L, "DEFAULT", 5000);
+            case FAST -> new PragmaProfile(FAST, "WAL", "NORMAL", -16000, 268435456L, "MEMORY", 5000);
+            case BULK_LOAD -> new PragmaProfile(BULK_LOAD, "WAL", "OFF", -262144, 268435456L, "MEMORY", 30000);
+            default -> throw new IllegalArgumentException("Unknown pragma profile: " + name);
+        };
+    }
+
+    /**
+     * Build the profile selected by database.pragma.profile, applying any
+     * individual overrides from the configuration file.
+     */
+    public static PragmaProfile fromConfig() {
+        PragmaProfile preset = forName(DatabaseConfig.getPragmaProfileName());
+        return new PragmaProfile(
+                preset.name,
+                DatabaseConfig.getProperty("database.journal.mode", preset.journalMode),
+                DatabaseConfig.getProperty("database.synchronous", preset.synchronous),
+                DatabaseConfig.getIntProperty("database.cache.size", preset.cacheSize),
+                DatabaseConfig.getLongProperty("database.mmap.size", preset.mmapSize),
+                DatabaseConfig.getProperty("database.temp.store", preset.tempStore),
+                DatabaseConfig.getIntProperty("database.busy.timeout.ms", preset.busyTimeoutMs));
+    }
+
+    /**
+     * Apply this profile to a freshly opened connection.
+     */
+    public void applyTo(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + busyTimeoutMs + ";");
+            stmt.execute("PRAGMA journal_mode = " + pragmaWord(journalMode) + ";");
+            stmt.execute("PRAGMA synchronous = " + pragmaWord(synchronous) + ";");
+            stmt.execute("PRAGMA cache_size = " + cacheSize + ";");
+            stmt.execute("PRAGMA mmap_size = " + mmapSize + ";");
+            stmt.execute("PRAGMA temp_store = " + pragmaWord(tempStore) + ";");
+        }
+    }
+
+    /**
+     * Guard against anything other than a bare keyword ending up in a pragma.
+     */
+    private static String pragmaWord(String value) {
+        String word = value.trim().toUpperCase(Locale.ROOT);
+        if (!word.matches("[A-Z0-9_]+")) {
+            throw new IllegalArgumentException("Invalid pragma value: " + value);
+        }
+        return word;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    public String getTempStore() {
+        return tempStore;
+    }
+
+    public int getBusyTimeoutMs() {
+        return busyTimeoutMs;
+    }
+
+    @Override
+    public String toString() {
+        return "PragmaProfile[" + name + ": journal_mode=" + journalMode + ", synchronous=" + synchronous +
+                ", cache_size=" + cacheSize + ", mmap_size=" + mmapSize + ", temp_store=" + tempStore +
+                ", busy_timeout=" + busyTimeoutMs + "]";
+    }
+}
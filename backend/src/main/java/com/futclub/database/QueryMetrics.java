@@ -0,0 +1,111 @@
+package com.futclub.database;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement latency metrics for every prepared statement run through the
+ * connection pool. Statements are grouped by their SQL text, which for the
+ * DAO layer is a parameterized template. Statements slower than the
+ * configured threshold are logged as warnings; with database.log.queries on
+ * every statement is logged.
+ */
+public final class QueryMetrics {
+
+    private static final Map<String, QueryStats> STATS = new ConcurrentHashMap<>();
+    private static final LongAdder SLOW_QUERIES = new LongAdder();
+
+    private static volatile boolean enabled = DatabaseConfig.isQueryMetricsEnabled();
+    private static volatile boolean logQueries = DatabaseConfig.isQueryLoggingEnabled();
+    private static volatile long slowQueryThresholdNanos =
+            TimeUnit.MILLISECONDS.toNanos(DatabaseConfig.getSlowQueryThresholdMs());
+
+    private QueryMetrics() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static long getSlowQueryThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(slowQueryThresholdNanos);
+    }
+
+    /**
+     * Set the duration above which a statement is logged as slow.
+     */
+    public static void setSlowQueryThresholdMs(long thresholdMs) {
+        slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    }
+
+    /**
+     * Record one execution of a statement, including the time spent reading its rows.
+     */
+    static void record(String sql, long nanos, long rows) {
+        QueryStats existing = STATS.get(sql);
+        QueryStats stats = existing != null ? existing
+                : STATS.computeIfAbsent(sql, key -> new QueryStats(normalize(key), DaoCaller.describe()));
+        stats.record(nanos, rows);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            SLOW_QUERIES.increment();
+            DatabaseLogger.warn(() -> format("Slow query", stats, nanos, rows));
+        } else if (logQueries) {
+            DatabaseLogger.info(() -> format("Query", stats, nanos, rows));
+        }
+    }
+
+    /**
+     * Get the metrics for a statement, or null if it has not run yet.
+     */
+    public static QueryStats get(String sql) {
+        return STATS.get(sql);
+    }
+
+    /**
+     * Get the metrics of every statement seen, most total time first.
+     */
+    public static List<QueryStats> snapshot() {
+        List<QueryStats> all = new ArrayList<>(STATS.values());
+        all.sort(Comparator.comparingDouble(QueryStats::getTotalMillis).reversed());
+        return all;
+    }
+
+    /**
+     * Get the statements with the highest p99 latency.
+     */
+    public static List<QueryStats> slowest(int limit) {
+        List<QueryStats> all = new ArrayList<>(STATS.values());
+        all.sort(Comparator.comparingDouble(QueryStats::getP99Millis).reversed());
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    /**
+     * Get how many executions crossed the slow-query threshold.
+     */
+    public static long getSlowQueryCount() {
+        return SLOW_QUERIES.sum();
+    }
+
+    public static void reset() {
+        STATS.clear();
+        SLOW_QUERIES.reset();
+    }
+
+    private static String format(String label, QueryStats stats, long nanos, long rows) {
+        return String.format("%s (%.2f ms, %d rows) from %s: %s",
+                label, nanos / 1_000_000.0, rows, stats.getSource(), stats.getSql());
+    }
+
+    private static String normalize(String sql) {
+        return sql.trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,96 @@
+package com.futclub.database;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and row counts collected for one SQL statement template.
+ */
+public final class QueryStats {
+
+    private final String sql;
+    private final String source;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    QueryStats(String sql, String source) {
+        this.sql = sql;
+        this.source = source;
+    }
+
+    void record(long nanos, long rowCount) {
+        count.increment();
+        rows.add(rowCount);
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        histogram.recordNanos(nanos);
+    }
+
+    /**
+     * Get the statement text with whitespace collapsed.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Get the DAO method that first ran this statement.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the rows returned by queries or affected by updates, summed over all executions.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMeanMillis() {
+        long executions = getCount();
+        return executions == 0 ? 0.0 : getTotalMillis() / executions;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getP50Millis() {
+        return histogram.percentileMillis(50.0);
+    }
+
+    public double getP95Millis() {
+        return histogram.percentileMillis(95.0);
+    }
+
+    public double getP99Millis() {
+        return histogram.percentileMillis(99.0);
+    }
+
+    /**
+     * Get the latency at any percentile (0-100).
+     */
+    public double percentileMillis(double percentile) {
+        return histogram.percentileMillis(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s x%d rows=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms [%s]",
+                source, getCount(), getRows(), getP50Millis(), getP95Millis(), getP99Millis(),
+                getMaxMillis(), sql);
+    }
+}
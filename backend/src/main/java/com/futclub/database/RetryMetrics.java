@@ -0,0 +1,59 @@
+package com.futclub.database;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for busy/locked retries, keyed by DAO method (for example
+ * "PlayerMatchStatsDAOImpl.insert").
+ */
+public final class RetryMetrics {
+
+    private static final Map<String, LongAdder> RETRIES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> EXHAUSTED = new ConcurrentHashMap<>();
+
+    private RetryMetrics() {}
+
+    static void recordRetry(String operation) {
+        RETRIES.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    static void recordExhausted(String operation) {
+        EXHAUSTED.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Gets how many times the operation was retried.
+     */
+    public static long getRetryCount(String operation) {
+        LongAdder count = RETRIES.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * Gets how many times the operation gave up after running out of retries.
+     */
+    public static long getExhaustedCount(String operation) {
+        LongAdder count = EXHAUSTED.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * Gets a sorted snapshot of the retry counts of every operation.
+     */
+    public static Map<String, Long> getRetryCounts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        RETRIES.forEach((operation, count) -> snapshot.put(operation, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public static void reset() {
+        RETRIES.clear();
+        EXHAUSTED.clear();
+    }
+}
@@ -0,0 +1,179 @@
+package com.futclub.database;
+
+import com.futclub.database.exception.DAOException;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries database work that failed because SQLite reported the database as
+ * busy or locked. Waits grow exponentially with jitter, bounded both by a
+ * maximum number of attempts and by a total deadline. Any other error is
+ * passed through untouched; once retries run out a {@link DAOException} is
+ * thrown. Every retry is counted in {@link RetryMetrics} under the name of
+ * the DAO method that was retried.
+ */
+public final class RetryPolicy {
+
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+
+    private static volatile RetryPolicy shared;
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long deadlineMs;
+
+    public RetryPolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs, long deadlineMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry policy needs at least one attempt");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = Math.max(1L, initialBackoffMs);
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, maxBackoffMs);
+        this.deadlineMs = deadlineMs;
+    }
+
+    /**
+     * Creates a policy from the database.retry.* settings.
+     */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+                DatabaseConfig.getRetryMaxAttempts(),
+                DatabaseConfig.getRetryInitialBackoffMs(),
+                DatabaseConfig.getRetryMaxBackoffMs(),
+                DatabaseConfig.getRetryDeadlineMs());
+    }
+
+    /**
+     * Gets the policy shared by the DAO layer.
+     */
+    public static RetryPolicy getDefault() {
+        RetryPolicy current = shared;
+        if (current == null) {
+            synchronized (RetryPolicy.class) {
+                if (shared == null) {
+                    shared = fromConfig();
+                }
+                current = shared;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Runs the call, retrying while it fails with a busy or locked error.
+     *
+     * @param operation names the retried operation for the retry counters
+     * @throws DAOException if the database is still busy when retries run out
+     */
+    public <T> T execute(Supplier<String> operation, SqlCall<T> call) throws SQLException {
+        long started = System.nanoTime();
+        String name = null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (SQLException | RuntimeException e) {
+                if (!isBusy(e)) {
+                    throw e;
+                }
+                if (name == null) {
+                    name = operation.get();
+                }
+                long delay = nextDelayMillis(attempt);
+                if (!allowsRetry(attempt, started, delay)) {
+                    RetryMetrics.recordExhausted(name);
+                    throw exhausted(name, attempt, e);
+                }
+                RetryMetrics.recordRetry(name);
+                pause(delay);
+            }
+        }
+    }
+
+    /**
+     * Gets the jittered wait before the attempt after the given one.
+     * Uses "equal jitter": half the exponential step plus a random share of the other half.
+     */
+    public long nextDelayMillis(int attempt) {
+        long step = initialBackoffMs << Math.min(attempt - 1, 20);
+        long capped = Math.min(maxBackoffMs, step);
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+
+    /**
+     * Checks whether another attempt fits within the attempt limit and deadline.
+     */
+    public boolean allowsRetry(int attempt, long startedNanos, long delayMs) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        return elapsedMs + delayMs <= deadlineMs;
+    }
+
+    /**
+     * Builds the exception reported when retries run out.
+     */
+    public static DAOException exhausted(String operation, int attempts, Throwable cause) {
+        return new DAOException(operation + " failed: database still busy after " + attempts + " attempts", cause);
+    }
+
+    /**
+     * Sleeps between attempts.
+     */
+    static void pause(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DAOException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    /**
+     * Checks whether an error, or any of its causes, is SQLITE_BUSY or SQLITE_LOCKED
+     * (including their extended result codes).
+     */
+    public static boolean isBusy(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLException) {
+                int primary = ((SQLException) t).getErrorCode() & 0xff;
+                if (primary == SQLITE_BUSY || primary == SQLITE_LOCKED) {
+                    return true;
+                }
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialBackoffMs() {
+        return initialBackoffMs;
+    }
+
+    public long getMaxBackoffMs() {
+        return maxBackoffMs;
+    }
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+
+    /**
+     * Database work that may be retried.
+     */
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+}
@@ -0,0 +1,98 @@
+package com.futclub.database;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Log file that rolls over once it reaches a maximum size.
+ * The current file keeps its name; older ones become name.1, name.2, ...
+ * up to the configured number of backups, the oldest being deleted.
+ */
+public final class RollingFileSink implements LogSink {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int backups;
+    private BufferedWriter writer;
+    private long size;
+
+    public RollingFileSink(Path file, long maxBytes, int backups) throws IOException {
+        this.file = file;
+        this.maxBytes = Math.max(1024L, maxBytes);
+        this.backups = Math.max(0, backups);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    /**
+     * Creates the sink configured by database.log.file, or null when file logging is off.
+     */
+    public static RollingFileSink fromConfig() throws IOException {
+        String path = DatabaseConfig.getLogFile();
+        if (path.isEmpty()) {
+            return null;
+        }
+        return new RollingFileSink(Path.of(path), DatabaseConfig.getLogFileMaxBytes(),
+                DatabaseConfig.getLogFileBackups());
+    }
+
+    @Override
+    public synchronized void write(DatabaseLogger.LogLevel level, String line) throws IOException {
+        long length = line.length() + (long) System.lineSeparator().length();
+        if (size > 0 && size + length > maxBytes) {
+            roll();
+        }
+        writer.write(line);
+        writer.newLine();
+        size += length;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        if (backups == 0) {
+            Files.delete(file);
+        } else {
+            Files.deleteIfExists(backup(backups));
+            for (int i = backups - 1; i >= 1; i--) {
+                Path source = backup(i);
+                if (Files.exists(source)) {
+                    Files.move(source, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path backup(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
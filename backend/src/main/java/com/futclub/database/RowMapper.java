@@ -0,0 +1,29 @@
+package com.futclub.database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Builds one object from the current row of a result set.
+ *
+ * A mapper is created for a specific result set and looks up the positions of
+ * the columns it reads once, from the result set's metadata. Rows are then read
+ * by index, so the driver does not resolve a column name for every field of
+ * every row.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the row the result set is currently positioned on.
+     */
+    T map(ResultSet rs) throws SQLException;
+
+    /**
+     * Creates a mapper bound to the columns of a result set.
+     */
+    @FunctionalInterface
+    interface Factory<T> {
+        RowMapper<T> forResultSet(ResultSet rs) throws SQLException;
+    }
+}
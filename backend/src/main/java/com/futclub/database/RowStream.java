@@ -0,0 +1,135 @@
+package com.futclub.database;
+
+import com.futclub.database.exception.DAOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily mapped query results for walking large tables in constant memory.
+ *
+ * The stream holds a read connection, its statement and its open cursor
+ * until it is closed, so callers must close it (try-with-resources). The
+ * resources are also released as soon as the last row has been read or a
+ * row fails to map. Rows are fetched from SQLite in chunks of
+ * database.stream.fetch.size.
+ */
+public final class RowStream<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Connection conn;
+    private final PreparedStatement pstmt;
+    private final ResultSet rs;
+    private final RowMapper<T> mapper;
+    private final String sql;
+    private boolean closed;
+
+    private RowStream(Connection conn, PreparedStatement pstmt, ResultSet rs, RowMapper<T> mapper, String sql) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.conn = conn;
+        this.pstmt = pstmt;
+        this.rs = rs;
+        this.mapper = mapper;
+        this.sql = sql;
+    }
+
+    /**
+     * Runs a query on a read connection and streams its rows through a mapper
+     * made by the factory.
+     *
+     * @throws DAOException if the query cannot be started
+     */
+    public static <T> Stream<T> open(String sql, RowMapper.Factory<T> mappers, Object... params) {
+        return open(sql, DatabaseConfig.getStreamFetchSize(), mappers, params);
+    }
+
+    /**
+     * Runs a query with the given fetch size and streams its rows through a
+     * mapper made by the factory.
+     *
+     * @throws DAOException if the query cannot be started
+     */
+    public static <T> Stream<T> open(String sql, int fetchSize, RowMapper.Factory<T> mappers, Object... params) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            conn = DatabaseConnection.getReadConnection();
+            pstmt = conn.prepareStatement(sql);
+            if (fetchSize > 0) {
+                pstmt.setFetchSize(fetchSize);
+            }
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            rs = pstmt.executeQuery();
+            RowStream<T> rows = new RowStream<>(conn, pstmt, rs, mappers.forResultSet(rs), sql);
+            return StreamSupport.stream(rows, false).onClose(rows::close);
+        } catch (SQLException e) {
+            if (rs != null) {
+                try {
+                    rs.close();
+                } catch (SQLException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            closeQuietly(pstmt, conn);
+            throw new DAOException("Error opening stream for " + sql, e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        T row;
+        try {
+            if (!rs.next()) {
+                close();
+                return false;
+            }
+            row = mapper.map(rs);
+        } catch (SQLException e) {
+            close();
+            throw new DAOException("Error reading stream for " + sql, e);
+        }
+        action.accept(row);
+        return true;
+    }
+
+    private void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            rs.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing streamed result set: " + e.getMessage());
+        }
+        closeQuietly(pstmt, conn);
+    }
+
+    private static void closeQuietly(PreparedStatement pstmt, Connection conn) {
+        if (pstmt != null) {
+            try {
+                pstmt.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing streamed statement: " + e.getMessage());
+            }
+        }
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                System.err.println("Error releasing streamed connection: " + e.getMessage());
+            }
+        }
+    }
+}
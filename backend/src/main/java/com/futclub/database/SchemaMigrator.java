@@ -0,0 +1,112 @@
+package com.futclub.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Brings a database file up to the current schema version.
+ *
+ * The version lives in PRAGMA user_version. Migrations are numbered from 1;
+ * the ones above the stored version run in order inside a single transaction
+ * that also writes the new version, so a failed upgrade leaves the file as it
+ * was. A database that is already current costs one pragma read.
+ *
+ * Files created before versioning report version 0. The baseline script only
+ * uses IF NOT EXISTS (or drops what it recreates), so replaying it on them is safe.
+ * Schema changes go in a new numbered migration; released ones are never edited.
+ */
+public final class SchemaMigrator {
+
+    private static final List<Migration> MIGRATIONS = List.of(
+        new Migration(1, "baseline schema",
+                conn -> DatabaseInitializer.executeScript(conn, "/database/schema.sql")),
+        new Migration(2, "epoch millisecond dates", DatabaseInitializer::convertLegacyDates),
+        new Migration(3, "player season totals", conn -> {
+            DatabaseInitializer.executeScript(conn, "/database/migrations/003_player_totals.sql");
+            DatabaseInitializer.rebuildPlayerTotals(conn);
+        }),
+        new Migration(4, "drop superseded indexes",
+                conn -> DatabaseInitializer.executeScript(conn, "/database/migrations/004_drop_superseded_indexes.sql"))
+    );
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * Get the schema version this build expects.
+     */
+    public static int latestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version();
+    }
+
+    /**
+     * Get the schema version stored in the database.
+     */
+    public static int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Applies every pending migration and returns how many ran.
+     *
+     * @throws SQLException if the database is newer than this build or a migration fails
+     */
+    public static int migrate(Connection conn) throws SQLException {
+        int current = currentVersion(conn);
+        int latest = latestVersion();
+        if (current == latest) {
+            return 0;
+        }
+        if (current > latest) {
+            throw new SQLException("Database schema version " + current
+                    + " is newer than this build supports (" + latest + ")");
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        if (autoCommit) {
+            conn.setAutoCommit(false);
+        }
+        int applied = 0;
+        try {
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version() <= current) {
+                    continue;
+                }
+                System.out.println("Applying schema migration " + migration.version() + ": " + migration.description());
+                migration.step().apply(conn);
+                applied++;
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA user_version = " + latest);
+            }
+            if (autoCommit) {
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            if (autoCommit) {
+                conn.rollback();
+            }
+            throw e;
+        } finally {
+            if (autoCommit) {
+                conn.setAutoCommit(true);
+            }
+        }
+        System.out.println("Database schema migrated from version " + current + " to " + latest + ".");
+        return applied;
+    }
+
+    private record Migration(int version, String description, Step step) {
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+}
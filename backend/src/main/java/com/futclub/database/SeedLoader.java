@@ -0,0 +1,316 @@
+package com.futclub.database;
+
+import com.futclub.security.PasswordHasher;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Copies the sample data in seed_data.sql into the database.
+ *
+ * The script is first run against a private in-memory database with the same
+ * schema, where its text dates are converted and its placeholder passwords
+ * replaced. The rows are then copied into the real database with batched
+ * inserts in one transaction, so a failed load changes nothing and readers
+ * never see a half-seeded file.
+ *
+ * In upsert mode the target may already hold unrelated rows with the seed
+ * ids, so seed rows are matched on their natural keys instead and their
+ * foreign keys rewritten to the ids actually found or assigned.
+ */
+final class SeedLoader {
+
+    private static final String SEED_DATA_FILE = "/database/seed_data.sql";
+
+    /** Tables in foreign key order, parents first. */
+    private static final SeedTable[] TABLES = {
+        new SeedTable("users", "user_id", List.of("username"), Map.of()),
+        new SeedTable("staff", "staff_id", List.of("user_id"), Map.of("user_id", "users")),
+        new SeedTable("players", "player_id", List.of("first_name", "last_name", "date_of_birth"), Map.of()),
+        new SeedTable("matches", "match_id", List.of("match_date", "opponent"), Map.of()),
+        new SeedTable("training_sessions", "session_id", List.of("session_date", "focus"),
+                Map.of("coach_id", "staff")),
+        new SeedTable("attendance", "attendance_id", List.of("player_id", "session_id"),
+                Map.of("player_id", "players", "session_id", "training_sessions")),
+        new SeedTable("player_match_stats", "stats_id", List.of("player_id", "match_id"),
+                Map.of("player_id", "players", "match_id", "matches")),
+        new SeedTable("match_events", "event_id", List.of("match_id", "player_id", "event_type", "minute", "second"),
+                Map.of("match_id", "matches", "player_id", "players"))
+    };
+
+    private static final Map<String, String> DEFAULT_SEED_PASSWORDS = Map.of(
+        "coach.smith", "password123",
+        "analyst.jones", "password123",
+        "admin.wilson", "password123"
+    );
+
+    /**
+     * BCrypt hashes of seed passwords, keyed by cost, account and plaintext.
+     * Each account gets its own salt; the seed accounts are public sample
+     * logins, so reusing an account's hash for every reload in the process
+     * costs nothing in secrecy and saves ~250ms per hash.
+     */
+    private static final Map<String, String> SEED_HASHES = new ConcurrentHashMap<>();
+
+    private SeedLoader() {
+    }
+
+    /**
+     * Replaces every row in the database with the seed data.
+     */
+    static void replace(Connection conn) throws SQLException {
+        load(conn, true);
+    }
+
+    /**
+     * Adds the seed rows that are missing, matched on their natural keys.
+     * Existing rows, seeded or not, are left as they are. A seed row that
+     * clashes with an existing row on another unique column is skipped, and
+     * so are the seed rows that refer to it.
+     */
+    static void upsert(Connection conn) throws SQLException {
+        load(conn, false);
+    }
+
+    private static void load(Connection conn, boolean replace) throws SQLException {
+        Map<String, String> hashes = hashSeedPasswords();
+        try (Connection staging = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            SchemaMigrator.migrate(staging);
+            DatabaseInitializer.executeScript(staging, SEED_DATA_FILE);
+            DatabaseInitializer.convertLegacyDates(staging);
+            setSeedPasswords(staging, hashes);
+
+            boolean autoCommit = conn.getAutoCommit();
+            if (autoCommit) {
+                conn.setAutoCommit(false);
+            }
+            try {
+                if (replace) {
+                    clear(conn);
+                    for (SeedTable table : TABLES) {
+                        copy(staging, conn, table.name());
+                    }
+                } else {
+                    Map<String, Map<Integer, Integer>> ids = new HashMap<>();
+                    for (SeedTable table : TABLES) {
+                        ids.put(table.name(), merge(staging, conn, table, ids));
+                    }
+                }
+                if (autoCommit) {
+                    conn.commit();
+                }
+            } catch (SQLException e) {
+                if (autoCommit) {
+                    conn.rollback();
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    private static void clear(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (int i = TABLES.length - 1; i >= 0; i--) {
+                stmt.executeUpdate("DELETE FROM " + TABLES[i].name());
+            }
+            stmt.executeUpdate("DELETE FROM sqlite_sequence");
+        }
+    }
+
+    private static void copy(Connection from, Connection to, String table) throws SQLException {
+        try (Statement select = from.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM " + table)) {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            StringBuilder names = new StringBuilder();
+            StringBuilder params = new StringBuilder();
+            for (int i = 1; i <= columns; i++) {
+                names.append(i > 1 ? ", " : "").append(meta.getColumnName(i));
+                params.append(i > 1 ? ", ?" : "?");
+            }
+            String sql = "INSERT INTO " + table + " (" + names + ") VALUES (" + params + ")";
+            try (PreparedStatement insert = to.prepareStatement(sql)) {
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rs.getObject(i));
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Adds the seed rows of one table that the target does not have yet.
+     *
+     * @param ids staging id to target id of every parent table merged so far
+     * @return staging id to target id of this table's seed rows
+     */
+    private static Map<Integer, Integer> merge(Connection from, Connection to, SeedTable table,
+                                               Map<String, Map<Integer, Integer>> ids) throws SQLException {
+        Map<Integer, Integer> merged = new HashMap<>();
+        try (Statement select = from.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM " + table.name())) {
+            ResultSetMetaData meta = rs.getMetaData();
+            List<String> columns = new ArrayList<>();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                if (!meta.getColumnName(i).equals(table.idColumn())) {
+                    columns.add(meta.getColumnName(i));
+                }
+            }
+            StringBuilder find = new StringBuilder("SELECT " + table.idColumn() + " FROM " + table.name() + " WHERE ");
+            for (int i = 0; i < table.keyColumns().size(); i++) {
+                find.append(i > 0 ? " AND " : "").append(table.keyColumns().get(i)).append(" IS ?");
+            }
+            String insert = "INSERT OR IGNORE INTO " + table.name() + " (" + String.join(", ", columns)
+                    + ") VALUES (" + "?, ".repeat(columns.size() - 1) + "?)";
+
+            try (PreparedStatement findStmt = to.prepareStatement(find.toString());
+                 PreparedStatement insertStmt = to.prepareStatement(insert, Statement.RETURN_GENERATED_KEYS)) {
+                while (rs.next()) {
+                    Map<String, Object> row = new HashMap<>();
+                    for (String column : columns) {
+                        row.put(column, rs.getObject(column));
+                    }
+                    if (!remapParents(row, table, ids)) {
+                        continue;
+                    }
+
+                    for (int i = 0; i < table.keyColumns().size(); i++) {
+                        findStmt.setObject(i + 1, row.get(table.keyColumns().get(i)));
+                    }
+                    Integer id = null;
+                    try (ResultSet found = findStmt.executeQuery()) {
+                        if (found.next()) {
+                            id = found.getInt(1);
+                        }
+                    }
+                    if (id == null) {
+                        for (int i = 0; i < columns.size(); i++) {
+                            insertStmt.setObject(i + 1, row.get(columns.get(i)));
+                        }
+                        if (insertStmt.executeUpdate() == 0) {
+                            continue;
+                        }
+                        try (ResultSet keys = insertStmt.getGeneratedKeys()) {
+                            keys.next();
+                            id = keys.getInt(1);
+                        }
+                    }
+                    merged.put(rs.getInt(table.idColumn()), id);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Rewrites the row's foreign keys to target ids.
+     *
+     * @return false if a parent row was not merged, so the row must be skipped
+     */
+    private static boolean remapParents(Map<String, Object> row, SeedTable table,
+                                        Map<String, Map<Integer, Integer>> ids) {
+        for (Map.Entry<String, String> parent : table.parents().entrySet()) {
+            Object value = row.get(parent.getKey());
+            if (value == null) {
+                continue;
+            }
+            Integer target = ids.get(parent.getValue()).get(((Number) value).intValue());
+            if (target == null) {
+                return false;
+            }
+            row.put(parent.getKey(), target);
+        }
+        return true;
+    }
+
+    private static void setSeedPasswords(Connection staging, Map<String, String> hashes) throws SQLException {
+        String sql = "UPDATE users SET password_hash = ? WHERE username = ? AND password_hash LIKE 'hashed_password_%'";
+        try (PreparedStatement pstmt = staging.prepareStatement(sql)) {
+            for (String username : DEFAULT_SEED_PASSWORDS.keySet()) {
+                pstmt.setString(1, hashes.get(username));
+                pstmt.setString(2, username);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Get the password hash of every seed account, keyed by username,
+     * computing the ones not yet cached in parallel on at most one thread per core.
+     */
+    private static Map<String, String> hashSeedPasswords() throws SQLException {
+        int rounds = PasswordHasher.defaultRounds();
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, String> account : DEFAULT_SEED_PASSWORDS.entrySet()) {
+            if (!SEED_HASHES.containsKey(cacheKey(rounds, account.getKey(), account.getValue()))) {
+                missing.add(account.getKey());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            int threads = Math.min(missing.size(), Runtime.getRuntime().availableProcessors());
+            ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "seed-password-hasher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+                for (String username : missing) {
+                    String password = DEFAULT_SEED_PASSWORDS.get(username);
+                    futures.add(executor.submit(() -> PasswordHasher.hash(password, rounds)));
+                }
+                for (int i = 0; i < missing.size(); i++) {
+                    String username = missing.get(i);
+                    SEED_HASHES.put(cacheKey(rounds, username, DEFAULT_SEED_PASSWORDS.get(username)),
+                            futures.get(i).get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while hashing seed passwords", e);
+            } catch (ExecutionException e) {
+                throw new SQLException("Failed to hash seed passwords", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        Map<String, String> hashes = new HashMap<>();
+        for (Map.Entry<String, String> account : DEFAULT_SEED_PASSWORDS.entrySet()) {
+            hashes.put(account.getKey(), SEED_HASHES.get(cacheKey(rounds, account.getKey(), account.getValue())));
+        }
+        return hashes;
+    }
+
+    private static String cacheKey(int rounds, String username, String password) {
+        return rounds + ":" + username + ":" + password;
+    }
+
+    /**
+     * A seeded table, the columns that identify a seed row in it, and its
+     * foreign key columns with the tables they refer to.
+     */
+    private record SeedTable(String name, String idColumn, List<String> keyColumns, Map<String, String> parents) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.futclub.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of prepared statements for one physical connection.
+ * Statements are checked out while a caller uses them, so the same compiled
+ * statement is never handed to two callers at once, and checked back in when
+ * the caller closes its handle. The least recently used idle statement is
+ * finalized once the cache is full.
+ */
+public final class StatementCache {
+
+    private final Connection physical;
+    private final int capacity;
+    private final LinkedHashMap<Key, PreparedStatement> idle;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private boolean closed;
+
+    StatementCache(Connection physical, int capacity) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Hands out a cached statement for the SQL, preparing a new one on a miss.
+     */
+    PreparedStatement checkout(Connection lease, String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        synchronized (this) {
+            PreparedStatement cached = idle.remove(key);
+            if (cached != null) {
+                hits++;
+                return CachedStatement.wrap(cached, lease, this, key, sql);
+            }
+            misses++;
+        }
+        PreparedStatement prepared = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS
+                ? physical.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : physical.prepareStatement(sql);
+        return CachedStatement.wrap(prepared, lease, this, key, sql);
+    }
+
+    /**
+     * Takes a statement back once its handle is closed.
+     */
+    void checkin(Key key, PreparedStatement statement) {
+        List<PreparedStatement> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (closed || capacity <= 0 || idle.containsKey(key)) {
+                // Cache is closed or disabled, or a nested caller already returned this SQL.
+                toClose.add(statement);
+            } else {
+                idle.put(key, statement);
+                Iterator<PreparedStatement> eldest = idle.values().iterator();
+                while (idle.size() > capacity) {
+                    toClose.add(eldest.next());
+                    eldest.remove();
+                    evictions++;
+                }
+            }
+        }
+        toClose.forEach(StatementCache::closeQuietly);
+    }
+
+    /**
+     * Finalizes every idle statement; later check-ins are closed straight away.
+     */
+    void close() {
+        List<PreparedStatement> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+        toClose.forEach(StatementCache::closeQuietly);
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return idle.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // Statement is being discarded anyway.
+        }
+    }
+
+    /**
+     * Cache key: the SQL text plus whether generated keys were requested.
+     */
+    static final class Key {
+        private final String sql;
+        private final int autoGeneratedKeys;
+
+        Key(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return autoGeneratedKeys == other.autoGeneratedKeys && sql.equals(other.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, autoGeneratedKeys);
+        }
+    }
+}
@@ -0,0 +1,769 @@
+package com.futclub.database;
+
+import com.futclub.security.PasswordHasher;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a realistic club history for load tests and benchmarks: staff,
+ * a squad that turns over every season, league and cup matches with
+ * consistent events and per-player stats, training sessions and attendance.
+ *
+ * The same seed and scale always produce the same rows (only the BCrypt salts
+ * of the generated logins differ; every login uses "password123"). Data is written with
+ * JDBC batches and committed every {@value #DEFAULT_COMMIT_ROWS} rows, so
+ * tens of millions of rows load without one huge transaction.
+ *
+ * Run from the command line with, for example:
+ * <pre>
+ * java -cp ... com.futclub.database.SyntheticDataGenerator --url jdbc:sqlite:data/load.db \
+ *      --seed 42 --seasons 50 --events 10000000
+ * </pre>
+ */
+public final class SyntheticDataGenerator {
+
+    public static final int DEFAULT_COMMIT_ROWS = 50_000;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int STARTERS = 11;
+    private static final double PLAYED_SHARE_OF_LAST_SEASON = 0.8;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Lucas", "Mateo", "Noah", "Leo", "Hugo", "Oliver", "Liam", "Marco", "Diego",
+            "Kai", "Emil", "Jonas", "Rafael", "Tomas", "Yusuf", "Andre", "Ivan", "Samuel", "Adam",
+            "Luca", "Pablo", "Felix", "Omar", "Nico", "Theo", "Bruno", "Victor", "Elias", "Jamal"};
+    private static final String[] LAST_NAMES = {
+            "Silva", "Smith", "Garcia", "Muller", "Rossi", "Dubois", "Jensen", "Kowalski", "Santos", "Novak",
+            "Costa", "Fischer", "Moreno", "Larsen", "Okafor", "Mensah", "Ivanov", "Haddad", "Berg", "Romero",
+            "Lopez", "Martin", "Weber", "Conti", "Nakamura", "Petrov", "Diallo", "Andersen", "Ferreira", "Kane"};
+    private static final String[] NATIONALITIES = {
+            "England", "Spain", "Brazil", "France", "Germany", "Portugal", "Italy", "Netherlands",
+            "Argentina", "Nigeria", "Ghana", "Denmark", "Croatia", "Japan", "USA"};
+    private static final String[] OPPONENTS = {
+            "Riverside United", "Northbridge FC", "Harbor City", "Ashford Athletic", "Kingsway Rovers",
+            "Westfield Town", "Eastport Albion", "Millbrook Wanderers", "Stonegate FC", "Oakridge City",
+            "Redcliffe United", "Lakeside Rangers", "Hillcrest Town", "Bayview Athletic", "Granite City",
+            "Southend Villa", "Fairmont Rovers", "Crescent FC", "Ironworks United", "Meadowbank Town"};
+    private static final String[] WEATHER = {"Sunny", "Cloudy", "Rain", "Windy", "Cold", "Clear"};
+    private static final String[] FOCUS = {
+            "Possession", "Pressing", "Set pieces", "Finishing", "Defensive shape", "Conditioning",
+            "Transitions", "Recovery", "Crossing", "Small-sided games"};
+    private static final String[] LOCATIONS = {"Main Pitch", "Training Ground A", "Training Ground B", "Gym", "Indoor Hall"};
+    private static final String[] FILLER_EVENTS = {
+            "SHOT", "SHOT", "SHOT_ON_TARGET", "FOUL", "FOUL", "CORNER", "OFFSIDE", "TACKLE", "SAVE", "FREE_KICK"};
+    private static final String[] ATTENDANCE_STATUSES = {
+            "PRESENT", "PRESENT", "PRESENT", "PRESENT", "PRESENT", "PRESENT", "LATE", "ABSENT", "EXCUSED", "INJURED"};
+    /** Position mix of a balanced squad; departures are replaced like for like. */
+    private static final String[] SQUAD_POSITIONS = {
+            "GK", "CB", "CB", "LB", "RB", "CDM", "CM", "CM", "CAM", "LW", "RW", "ST",
+            "GK", "CB", "CB", "LB", "RB", "CM", "CAM", "ST", "LW", "RW", "CDM", "ST", "GK", "CB", "CM", "ST", "CM", "RW"};
+
+    private final long seed;
+    private final Scale scale;
+    private final int firstSeasonYear;
+    private final int commitRows;
+
+    private Random random;
+    private int pendingRows;
+    private List<SquadPlayer> signed;
+
+    /**
+     * Size and shape of the generated history.
+     *
+     * @param seasons            number of seasons, each running from August to May
+     * @param squadSize          players registered in any one season
+     * @param matchesPerSeason   league and cup matches per season
+     * @param sessionsPerSeason  training sessions per season
+     * @param events             total match events, spread evenly over the played matches
+     * @param staff              user accounts with linked staff records
+     */
+    public record Scale(int seasons, int squadSize, int matchesPerSeason, int sessionsPerSeason,
+                        long events, int staff) {
+        public Scale {
+            if (seasons < 1 || squadSize < STARTERS + 5 || matchesPerSeason < 1
+                    || sessionsPerSeason < 0 || events < 0 || staff < 2) {
+                throw new IllegalArgumentException("Invalid synthetic data scale: " + seasons + " seasons, squad of "
+                        + squadSize + ", " + matchesPerSeason + " matches, " + staff + " staff");
+            }
+        }
+
+        /**
+         * A typical club: 30-player squad, 46 matches and 160 training sessions a season.
+         */
+        public static Scale of(int seasons, long events) {
+            return new Scale(seasons, 30, 46, 160, events, 12);
+        }
+    }
+
+    /**
+     * Row counts written by a generator run.
+     */
+    public record Summary(int users, int players, int matches, long matchEvents, long playerMatchStats,
+                          int trainingSessions, long attendance) {
+    }
+
+    /**
+     * @param seed            drives every random choice; the same seed gives the same data
+     * @param scale           how much data to generate
+     * @param lastSeasonYear  the calendar year in which the final season starts
+     */
+    public SyntheticDataGenerator(long seed, Scale scale, int lastSeasonYear) {
+        this(seed, scale, lastSeasonYear, DEFAULT_COMMIT_ROWS);
+    }
+
+    public SyntheticDataGenerator(long seed, Scale scale, int lastSeasonYear, int commitRows) {
+        this.seed = seed;
+        this.scale = scale;
+        this.firstSeasonYear = lastSeasonYear - scale.seasons() + 1;
+        this.commitRows = Math.max(BATCH_SIZE, commitRows);
+    }
+
+    /**
+     * Gets the year the current season started in (seasons start in August).
+     */
+    public static int currentSeasonYear() {
+        LocalDate today = LocalDate.now();
+        return today.getMonthValue() >= 8 ? today.getYear() : today.getYear() - 1;
+    }
+
+    /**
+     * Writes the generated history into an empty, already initialized database.
+     *
+     * @throws IllegalStateException if the database already has players or matches
+     */
+    public Summary generate(Connection conn) throws SQLException {
+        requireEmpty(conn);
+        random = new Random(seed);
+        pendingRows = 0;
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            Summary summary = generateAll(conn);
+            conn.commit();
+            return summary;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private Summary generateAll(Connection conn) throws SQLException {
+        int[] coachIds = insertStaff(conn);
+        List<List<SquadPlayer>> squads = planSquads();
+        insertPlayers(conn, signed, squads.get(squads.size() - 1));
+
+        int totalMatches = scale.seasons() * scale.matchesPerSeason();
+        int playedMatches = totalMatches - (scale.matchesPerSeason() - playedInLastSeason(scale.matchesPerSeason()));
+        Counters counters = new Counters();
+        try (Batch matches = new Batch(conn, "INSERT INTO matches (match_id, match_date, opponent, venue, competition, "
+                     + "goals_for, goals_against, match_status, attendance, weather) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch events = new Batch(conn, "INSERT INTO match_events (match_id, player_id, event_type, minute, second, "
+                     + "description) VALUES (?, ?, ?, ?, ?, ?)");
+             Batch stats = new Batch(conn, "INSERT INTO player_match_stats (player_id, match_id, minutes_played, goals, "
+                     + "assists, rating, shots, shots_on_target, passes_completed, passes_attempted, tackles, "
+                     + "interceptions, yellow_cards, red_cards, fouls_committed, fouls_won, was_starter) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch sessions = new Batch(conn, "INSERT INTO training_sessions (session_id, session_date, focus, location, "
+                     + "duration_minutes, intensity, coach_id) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Batch attendance = new Batch(conn, "INSERT INTO attendance (player_id, session_id, status) VALUES (?, ?, ?)")) {
+            List<Batch> all = List.of(matches, events, stats, sessions, attendance);
+            for (int season = 0; season < scale.seasons(); season++) {
+                boolean last = season == scale.seasons() - 1;
+                List<SquadPlayer> squad = squads.get(season);
+                LocalDate start = LocalDate.of(firstSeasonYear + season, 8, 10);
+                int played = last ? playedInLastSeason(scale.matchesPerSeason()) : scale.matchesPerSeason();
+                for (int i = 0; i < scale.matchesPerSeason(); i++) {
+                    int matchId = ++counters.matches;
+                    LocalDateTime kickOff = start.plusDays(i * 290L / scale.matchesPerSeason()).atTime(15, 0);
+                    long quota = i < played ? eventQuota(counters.played++, playedMatches) : 0L;
+                    writeMatch(matches, events, stats, counters, matchId, kickOff, i < played, quota, squad);
+                    commitIfDue(conn, all);
+                }
+                int sessionsPlayed = last ? playedInLastSeason(scale.sessionsPerSeason()) : scale.sessionsPerSeason();
+                for (int i = 0; i < scale.sessionsPerSeason(); i++) {
+                    int sessionId = ++counters.sessions;
+                    LocalDateTime time = start.plusDays(i * 290L / scale.sessionsPerSeason()).atTime(10, 0);
+                    writeSession(sessions, attendance, counters, sessionId, time, i < sessionsPlayed, squad, coachIds);
+                    commitIfDue(conn, all);
+                }
+            }
+            for (Batch batch : all) {
+                batch.flush();
+            }
+        }
+        return new Summary(scale.staff(), signed.size(), counters.matches, counters.events, counters.stats,
+                counters.sessions, counters.attendance);
+    }
+
+    /**
+     * Spreads the requested events evenly; the first matches absorb the remainder.
+     */
+    private long eventQuota(int playedIndex, int playedMatches) {
+        return (playedIndex + 1L) * scale.events() / playedMatches - (long) playedIndex * scale.events() / playedMatches;
+    }
+
+    private static int playedInLastSeason(int count) {
+        return (int) Math.round(count * PLAYED_SHARE_OF_LAST_SEASON);
+    }
+
+    private void requireEmpty(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT (SELECT COUNT(*) FROM players) + (SELECT COUNT(*) FROM matches) "
+                     + "+ (SELECT COUNT(*) FROM users)")) {
+            if (rs.next() && rs.getLong(1) > 0) {
+                throw new IllegalStateException("Synthetic data can only be generated into an empty database");
+            }
+        }
+    }
+
+    private int[] insertStaff(Connection conn) throws SQLException {
+        String hash = PasswordHasher.hash("password123");
+        List<Integer> coaches = new ArrayList<>();
+        try (Batch users = new Batch(conn, "INSERT INTO users (user_id, username, password_hash, role, is_active) "
+                     + "VALUES (?, ?, ?, ?, 1)");
+             Batch staff = new Batch(conn, "INSERT INTO staff (staff_id, full_name, user_id, email, phone, hire_date) "
+                     + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= scale.staff(); id++) {
+                String role = id == 1 ? "ADMINISTRATOR" : (id % 3 == 0 ? "ANALYST" : "COACH");
+                if ("COACH".equals(role)) {
+                    coaches.add(id);
+                }
+                String username = ("ADMINISTRATOR".equals(role) ? "admin" : role.toLowerCase()) + ".gen" + id;
+                PreparedStatement u = users.statement();
+                u.setInt(1, id);
+                u.setString(2, username);
+                u.setString(3, hash);
+                u.setString(4, role);
+                users.add();
+                PreparedStatement s = staff.statement();
+                s.setInt(1, id);
+                s.setString(2, pick(FIRST_NAMES) + " " + pick(LAST_NAMES));
+                s.setInt(3, id);
+                s.setString(4, username + "@futclub.test");
+                s.setString(5, String.format("+44 7700 %06d", random.nextInt(1_000_000)));
+                s.setDate(6, Date.valueOf(LocalDate.of(firstSeasonYear, 7, 1).minusDays(random.nextInt(3_000))));
+                staff.add();
+            }
+        }
+        return coaches.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Works out every season's squad. A quarter of each squad leaves at the
+     * end of a season and is replaced by new signings in the same positions.
+     */
+    private List<List<SquadPlayer>> planSquads() {
+        List<List<SquadPlayer>> squads = new ArrayList<>();
+        signed = new ArrayList<>();
+        int nextId = 0;
+        List<SquadPlayer> squad = new ArrayList<>();
+        for (int i = 0; i < scale.squadSize(); i++) {
+            squad.add(newPlayer(++nextId, SQUAD_POSITIONS[i % SQUAD_POSITIONS.length], 0));
+        }
+        squads.add(List.copyOf(squad));
+        int turnover = Math.max(1, scale.squadSize() / 4);
+        for (int season = 1; season < scale.seasons(); season++) {
+            for (int i = 0; i < turnover; i++) {
+                SquadPlayer leaving = squad.remove(random.nextInt(squad.size()));
+                leaving.leftSeason = season - 1;
+                squad.add(newPlayer(++nextId, leaving.position, season));
+            }
+            squads.add(List.copyOf(squad));
+        }
+        return squads;
+    }
+
+    private SquadPlayer newPlayer(int id, String position, int season) {
+        SquadPlayer player = new SquadPlayer(id, position, season);
+        player.quality = 55 + random.nextInt(35);
+        signed.add(player);
+        return player;
+    }
+
+    private void insertPlayers(Connection conn, List<SquadPlayer> players, List<SquadPlayer> finalSquad)
+            throws SQLException {
+        List<SquadPlayer> numbered = new ArrayList<>(finalSquad);
+        numbered.sort(Comparator.comparingInt(p -> p.id));
+        int shirt = 0;
+        for (SquadPlayer player : numbered) {
+            // Shirt numbers are unique and limited to 1-99; only the current squad wears one.
+            if (shirt < 99) {
+                player.shirtNumber = ++shirt;
+            }
+        }
+        try (Batch batch = new Batch(conn, "INSERT INTO players (player_id, first_name, last_name, date_of_birth, "
+                + "position, shirt_number, status, overall_rating, fitness_level, injury_details, joined_date, "
+                + "contract_end, nationality, height_cm, weight_kg, preferred_foot) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (SquadPlayer player : players) {
+                LocalDate joined = LocalDate.of(firstSeasonYear + player.joinedSeason, 7, 1);
+                boolean current = player.leftSeason < 0;
+                String status = !current ? "UNAVAILABLE"
+                        : random.nextInt(10) == 0 ? "INJURED" : random.nextInt(25) == 0 ? "SUSPENDED" : "AVAILABLE";
+                PreparedStatement pstmt = batch.statement();
+                pstmt.setInt(1, player.id);
+                pstmt.setString(2, pick(FIRST_NAMES));
+                pstmt.setString(3, pick(LAST_NAMES));
+                pstmt.setDate(4, Date.valueOf(joined.minusYears(17 + random.nextInt(15)).minusDays(random.nextInt(365))));
+                pstmt.setString(5, player.position);
+                if (player.shirtNumber > 0) {
+                    pstmt.setInt(6, player.shirtNumber);
+                } else {
+                    pstmt.setNull(6, Types.INTEGER);
+                }
+                pstmt.setString(7, status);
+                pstmt.setInt(8, player.quality);
+                pstmt.setInt(9, "INJURED".equals(status) ? 40 + random.nextInt(30) : 75 + random.nextInt(26));
+                pstmt.setString(10, "INJURED".equals(status) ? "Hamstring strain" : null);
+                pstmt.setDate(11, Date.valueOf(joined));
+                LocalDate contractEnd = current
+                        ? LocalDate.of(firstSeasonYear + scale.seasons() + random.nextInt(4), 6, 30)
+                        : LocalDate.of(firstSeasonYear + player.leftSeason + 1, 6, 30);
+                pstmt.setDate(12, Date.valueOf(contractEnd));
+                pstmt.setString(13, pick(NATIONALITIES));
+                pstmt.setInt(14, "GK".equals(player.position) ? 185 + random.nextInt(12) : 168 + random.nextInt(24));
+                pstmt.setInt(15, 62 + random.nextInt(28));
+                int foot = random.nextInt(10);
+                pstmt.setString(16, foot < 7 ? "RIGHT" : foot < 9 ? "LEFT" : "BOTH");
+                batch.add();
+            }
+        }
+    }
+
+    private void writeMatch(Batch matches, Batch events, Batch stats, Counters counters, int matchId,
+                            LocalDateTime kickOff, boolean played, long quota, List<SquadPlayer> squad)
+            throws SQLException {
+        List<MatchLine> lineup = played ? pickLineup(squad) : List.of();
+        List<Event> timeline = played ? buildTimeline(lineup, quota) : List.of();
+        int goalsFor = 0;
+        for (Event event : timeline) {
+            if ("GOAL".equals(event.type)) {
+                goalsFor++;
+            }
+        }
+
+        PreparedStatement m = matches.statement();
+        m.setInt(1, matchId);
+        m.setTimestamp(2, Timestamp.valueOf(kickOff));
+        m.setString(3, pick(OPPONENTS));
+        m.setString(4, matchId % 2 == 0 ? "HOME" : "AWAY");
+        int competition = random.nextInt(10);
+        m.setString(5, competition < 8 ? "League" : competition < 9 ? "Cup" : "Continental");
+        m.setInt(6, goalsFor);
+        m.setInt(7, played ? countEvents(timeline, "GOAL_CONCEDED") : 0);
+        m.setString(8, played ? "COMPLETED" : "SCHEDULED");
+        if (played) {
+            m.setInt(9, 8_000 + random.nextInt(40_000));
+            m.setString(10, pick(WEATHER));
+        } else {
+            m.setNull(9, Types.INTEGER);
+            m.setNull(10, Types.VARCHAR);
+        }
+        matches.add();
+        if (!played) {
+            return;
+        }
+
+        for (Event event : timeline) {
+            PreparedStatement e = events.statement();
+            e.setInt(1, matchId);
+            if (event.player != null) {
+                e.setInt(2, event.player.player.id);
+            } else {
+                e.setNull(2, Types.INTEGER);
+            }
+            e.setString(3, event.type);
+            e.setInt(4, event.minute);
+            e.setInt(5, event.second);
+            e.setString(6, event.describe());
+            events.add();
+            counters.events++;
+        }
+
+        for (MatchLine line : lineup) {
+            int shots = line.goals + random.nextInt(3 + ("ST".equals(line.player.position) ? 3 : 0));
+            int attempted = 15 + random.nextInt(60);
+            double rating = 6.0 + line.goals + line.assists * 0.5 - line.yellowCards * 0.3 - line.redCards * 2.0
+                    + (random.nextInt(21) - 10) / 10.0;
+            PreparedStatement s = stats.statement();
+            s.setInt(1, line.player.id);
+            s.setInt(2, matchId);
+            s.setInt(3, line.minutesPlayed());
+            s.setInt(4, line.goals);
+            s.setInt(5, line.assists);
+            s.setDouble(6, Math.round(Math.max(1.0, Math.min(10.0, rating)) * 10.0) / 10.0);
+            s.setInt(7, shots);
+            s.setInt(8, line.goals + (shots > line.goals ? random.nextInt(shots - line.goals + 1) : 0));
+            s.setInt(9, attempted - random.nextInt(attempted / 3 + 1));
+            s.setInt(10, attempted);
+            s.setInt(11, random.nextInt("GK".equals(line.player.position) ? 2 : 6));
+            s.setInt(12, random.nextInt(5));
+            s.setInt(13, line.yellowCards);
+            s.setInt(14, line.redCards);
+            s.setInt(15, random.nextInt(4));
+            s.setInt(16, random.nextInt(4));
+            s.setInt(17, line.starter ? 1 : 0);
+            stats.add();
+            counters.stats++;
+        }
+    }
+
+    /**
+     * Picks a goalkeeper and ten outfield starters plus three to five substitutes.
+     */
+    private List<MatchLine> pickLineup(List<SquadPlayer> squad) {
+        List<SquadPlayer> pool = new ArrayList<>(squad);
+        Collections.shuffle(pool, random);
+        List<MatchLine> lineup = new ArrayList<>();
+        SquadPlayer keeper = null;
+        for (SquadPlayer player : pool) {
+            if ("GK".equals(player.position)) {
+                keeper = player;
+                break;
+            }
+        }
+        if (keeper != null) {
+            pool.remove(keeper);
+            lineup.add(new MatchLine(keeper, true));
+        }
+        int substitutes = 3 + random.nextInt(3);
+        for (SquadPlayer player : pool) {
+            if (lineup.size() >= STARTERS + substitutes) {
+                break;
+            }
+            if (!"GK".equals(player.position) || lineup.size() >= STARTERS) {
+                lineup.add(new MatchLine(player, lineup.size() < STARTERS));
+            }
+        }
+        return lineup;
+    }
+
+    /**
+     * Builds the event log of a match: goals with assists, goals conceded,
+     * substitutions and cards first, then filler events up to the quota.
+     */
+    private List<Event> buildTimeline(List<MatchLine> lineup, long quota) {
+        List<Event> timeline = new ArrayList<>();
+        List<MatchLine> starters = new ArrayList<>();
+        List<MatchLine> bench = new ArrayList<>();
+        for (MatchLine line : lineup) {
+            (line.starter ? starters : bench).add(line);
+        }
+        // The keeper (first starter) stays on; each substitute replaces a different outfield starter.
+        List<MatchLine> replaceable = new ArrayList<>(starters.subList(1, starters.size()));
+        for (MatchLine sub : bench) {
+            MatchLine off = replaceable.remove(random.nextInt(replaceable.size()));
+            int minute = 55 + random.nextInt(35);
+            off.subbedOff = minute;
+            sub.subbedOn = minute;
+            timeline.add(new Event("SUBSTITUTION", sub, minute, "replaces #" + off.player.id));
+        }
+        int goals = sampleGoals();
+        for (int i = 0; i < goals; i++) {
+            MatchLine scorer = pickOnPitch(lineup, true);
+            Event goal = new Event("GOAL", scorer, scorer.randomMinute(random), null);
+            timeline.add(goal);
+            if (random.nextInt(10) < 7) {
+                MatchLine assist = pickOnPitch(lineup, false);
+                if (assist != scorer) {
+                    timeline.add(new Event("ASSIST", assist, goal.minute, null));
+                }
+            }
+        }
+        int conceded = Math.max(0, sampleGoals() - 1);
+        for (int i = 0; i < conceded; i++) {
+            timeline.add(new Event("GOAL_CONCEDED", null, 1 + random.nextInt(90), null));
+        }
+        int cards = random.nextInt(4);
+        for (int i = 0; i < cards; i++) {
+            MatchLine booked = pickOnPitch(lineup, false);
+            timeline.add(new Event(random.nextInt(40) == 0 ? "RED_CARD" : "YELLOW_CARD", booked,
+                    booked.randomMinute(random), null));
+        }
+        while (timeline.size() < quota) {
+            MatchLine line = lineup.get(random.nextInt(lineup.size()));
+            timeline.add(new Event(pick(FILLER_EVENTS), line, line.randomMinute(random), null));
+        }
+        if (timeline.size() > quota) {
+            timeline.subList((int) quota, timeline.size()).clear();
+        }
+        for (Event event : timeline) {
+            event.second = random.nextInt(60);
+            if (event.player != null) {
+                event.player.count(event.type);
+            }
+        }
+        timeline.sort(Comparator.comparingInt((Event e) -> e.minute).thenComparingInt(e -> e.second));
+        return timeline;
+    }
+
+    private int sampleGoals() {
+        int roll = random.nextInt(100);
+        return roll < 25 ? 0 : roll < 55 ? 1 : roll < 80 ? 2 : roll < 92 ? 3 : 4 + random.nextInt(2);
+    }
+
+    /**
+     * Picks a player who was on the pitch, favouring forwards for goals.
+     */
+    private MatchLine pickOnPitch(List<MatchLine> lineup, boolean scoring) {
+        for (int attempt = 0; attempt < 8; attempt++) {
+            MatchLine line = lineup.get(random.nextInt(lineup.size()));
+            if (scoring && "GK".equals(line.player.position)) {
+                continue;
+            }
+            boolean attacker = line.player.position.matches("ST|LW|RW|CAM");
+            if (!scoring || attacker || random.nextInt(3) == 0) {
+                return line;
+            }
+        }
+        return lineup.get(lineup.size() > 1 ? 1 : 0);
+    }
+
+    private void writeSession(Batch sessions, Batch attendance, Counters counters, int sessionId,
+                              LocalDateTime time, boolean held, List<SquadPlayer> squad, int[] coachIds)
+            throws SQLException {
+        String focus = pick(FOCUS);
+        PreparedStatement s = sessions.statement();
+        s.setInt(1, sessionId);
+        s.setTimestamp(2, Timestamp.valueOf(time));
+        s.setString(3, focus);
+        s.setString(4, "Recovery".equals(focus) ? "Gym" : pick(LOCATIONS));
+        s.setInt(5, 45 + 15 * random.nextInt(5));
+        s.setString(6, "Recovery".equals(focus) ? "LOW" : random.nextBoolean() ? "MEDIUM" : "HIGH");
+        s.setInt(7, coachIds[random.nextInt(coachIds.length)]);
+        sessions.add();
+        if (!held) {
+            return;
+        }
+        for (SquadPlayer player : squad) {
+            PreparedStatement a = attendance.statement();
+            a.setInt(1, player.id);
+            a.setInt(2, sessionId);
+            a.setString(3, pick(ATTENDANCE_STATUSES));
+            attendance.add();
+            counters.attendance++;
+        }
+    }
+
+    private void commitIfDue(Connection conn, List<Batch> batches) throws SQLException {
+        if (pendingRows < commitRows) {
+            return;
+        }
+        for (Batch batch : batches) {
+            batch.flush();
+        }
+        conn.commit();
+        pendingRows = 0;
+    }
+
+    private static int countEvents(List<Event> timeline, String type) {
+        int count = 0;
+        for (Event event : timeline) {
+            if (type.equals(event.type)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Command line entry point. Options: --url, --seed, --seasons, --events,
+     * --squad, --matches, --sessions, --staff, --last-season.
+     */
+    public static void main(String[] args) {
+        String url = DatabaseConfig.getDatabaseUrl();
+        long seed = 42L;
+        int seasons = 5;
+        Long events = null;
+        int squad = 30;
+        int matches = 46;
+        int sessions = 160;
+        int staff = 12;
+        int lastSeason = currentSeasonYear();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                String value;
+                int eq = arg.indexOf('=');
+                if (eq > 0) {
+                    value = arg.substring(eq + 1);
+                    arg = arg.substring(0, eq);
+                } else if (i + 1 < args.length) {
+                    value = args[++i];
+                } else {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+                switch (arg) {
+                    case "--url" -> url = value;
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--seasons" -> seasons = Integer.parseInt(value);
+                    case "--events" -> events = Long.parseLong(value);
+                    case "--squad" -> squad = Integer.parseInt(value);
+                    case "--matches" -> matches = Integer.parseInt(value);
+                    case "--sessions" -> sessions = Integer.parseInt(value);
+                    case "--staff" -> staff = Integer.parseInt(value);
+                    case "--last-season" -> lastSeason = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            long eventCount = events != null ? events : (long) seasons * matches * 40L;
+            Scale scale = new Scale(seasons, squad, matches, sessions, eventCount, staff);
+
+            System.out.println("=== Synthetic Data Generation ===");
+            Class.forName(DatabaseConfig.getDriverClassName());
+            long started = System.nanoTime();
+            try (Connection conn = DriverManager.getConnection(url)) {
+                PragmaProfile.forName(PragmaProfile.BULK_LOAD).applyTo(conn);
+                DatabaseInitializer.applySchema(conn);
+                Summary summary = new SyntheticDataGenerator(seed, scale, lastSeason).generate(conn);
+                long elapsedMs = (System.nanoTime() - started) / 1_000_000L;
+                System.out.println("Generated " + summary + " in " + elapsedMs + " ms");
+            }
+        } catch (SQLException | ClassNotFoundException | RuntimeException e) {
+            System.err.println("Synthetic data generation failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static final class Counters {
+        private int matches;
+        private int played;
+        private int sessions;
+        private long events;
+        private long stats;
+        private long attendance;
+    }
+
+    private static final class SquadPlayer {
+        private final int id;
+        private final String position;
+        private final int joinedSeason;
+        private int leftSeason = -1;
+        private int quality;
+        private int shirtNumber;
+
+        private SquadPlayer(int id, String position, int joinedSeason) {
+            this.id = id;
+            this.position = position;
+            this.joinedSeason = joinedSeason;
+        }
+    }
+
+    private static final class MatchLine {
+        private final SquadPlayer player;
+        private final boolean starter;
+        private int subbedOn = -1;
+        private int subbedOff = -1;
+        private int goals;
+        private int assists;
+        private int yellowCards;
+        private int redCards;
+
+        private MatchLine(SquadPlayer player, boolean starter) {
+            this.player = player;
+            this.starter = starter;
+        }
+
+        private int minutesPlayed() {
+            int from = starter ? 0 : Math.max(0, subbedOn);
+            int to = subbedOff >= 0 ? subbedOff : 90;
+            return starter || subbedOn >= 0 ? to - from : 0;
+        }
+
+        private int randomMinute(Random random) {
+            int from = starter ? 1 : Math.max(1, subbedOn);
+            int to = subbedOff >= 0 ? subbedOff : 90;
+            return to > from ? from + random.nextInt(to - from + 1) : from;
+        }
+
+        private void count(String type) {
+            switch (type) {
+                case "GOAL" -> goals++;
+                case "ASSIST" -> assists++;
+                case "YELLOW_CARD" -> yellowCards++;
+                case "RED_CARD" -> redCards++;
+                default -> { }
+            }
+        }
+    }
+
+    private static final class Event {
+        private final String type;
+        private final MatchLine player;
+        private final int minute;
+        private final String detail;
+        private int second;
+
+        private Event(String type, MatchLine player, int minute, String detail) {
+            this.type = type;
+            this.player = player;
+            this.minute = minute;
+            this.detail = detail;
+        }
+
+        private String describe() {
+            String text = type.charAt(0) + type.substring(1).toLowerCase().replace('_', ' ');
+            return detail == null ? text : text + " " + detail;
+        }
+    }
+
+    /**
+     * A prepared insert that executes every {@value #BATCH_SIZE} rows.
+     */
+    private final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private int size;
+
+        private Batch(Connection conn, String sql) throws SQLException {
+            this.statement = conn.prepareStatement(sql);
+        }
+
+        private PreparedStatement statement() {
+            return statement;
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            pendingRows++;
+            if (++size >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (size > 0) {
+                statement.executeBatch();
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -3,58 +3,246 @@ package com.futclub.database;
 import com.futclub.database.exception.DatabaseException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
 
 /**
  * Manages database transactions.
  * Ensures that multiple database operations either all succeed or all fail together.
+ *
+ * The transaction is bound to the calling thread, so DAOs that fetch their
+ * connection from {@link DatabaseConnection} join it automatically. A
+ * transaction started while another is active on the same thread becomes a
+ * savepoint: its failure rolls back only its own work, and nothing is
+ * committed until the outermost transaction finishes. An outermost
+ * transaction that fails because the database is busy is run again
+ * according to the {@link RetryPolicy}.
  */
 public class TransactionManager {
-    
+
+    private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+
+    private TransactionManager() {}
+
     /**
      * Executes a transaction with automatic commit/rollback.
      * If any exception occurs, the transaction is rolled back.
-     * 
+     *
      * @param transaction The transaction to execute
      * @throws DatabaseException if transaction fails
      */
     public static void executeTransaction(Transaction transaction) {
+        executeTransaction(TransactionMode.IMMEDIATE, transaction);
+    }
+
+    /**
+     * Executes a transaction in the given mode with automatic commit/rollback.
+     *
+     * @throws DatabaseException if transaction fails
+     */
+    public static void executeTransaction(TransactionMode mode, Transaction transaction) {
+        Objects.requireNonNull(transaction, "transaction");
+        inTransaction(mode, conn -> {
+            transaction.execute(conn);
+            return null;
+        });
+    }
+
+    /**
+     * Executes a transaction in the given mode and returns its result.
+     *
+     * @throws DatabaseException if transaction fails
+     */
+    public static <T> T inTransaction(TransactionMode mode, TransactionCallback<T> callback) {
+        Objects.requireNonNull(mode, "mode");
+        Objects.requireNonNull(callback, "callback");
+        TransactionContext current = CURRENT.get();
+        if (current != null) {
+            return runNested(current, mode, callback);
+        }
+        try {
+            // Only the outermost transaction is retried; a busy savepoint fails its parent.
+            return RetryPolicy.getDefault().execute(DaoCaller::describe, () -> runOutermost(mode, callback));
+        } catch (SQLException e) {
+            throw new DatabaseException("Transaction failed", e);
+        }
+    }
+
+    /**
+     * Checks whether the calling thread is inside a transaction.
+     */
+    public static boolean isTransactionActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Runs the action once the calling thread's outermost transaction commits
+     * or rolls back, or straight away if no transaction is active.
+     */
+    public static void afterCompletion(Runnable action) {
+        Objects.requireNonNull(action, "action");
+        TransactionContext current = CURRENT.get();
+        if (current == null) {
+            action.run();
+        } else {
+            current.completionActions.add(action);
+        }
+    }
+
+    /**
+     * Gets the mode of the calling thread's outermost transaction, or null if none is active.
+     */
+    public static TransactionMode getCurrentMode() {
+        TransactionContext current = CURRENT.get();
+        return current == null ? null : current.mode;
+    }
+
+    /**
+     * Gets a handle on the calling thread's transaction connection, or null if
+     * no transaction is active. Closing the handle leaves the transaction open.
+     */
+    static Connection joinCurrent(boolean forWrite) throws SQLException {
+        TransactionContext current = CURRENT.get();
+        if (current == null) {
+            return null;
+        }
+        if (forWrite && current.mode.isReadOnly()) {
+            throw new SQLException("Cannot write inside a read-only transaction");
+        }
+        return current.handle();
+    }
+
+    private static <T> T runOutermost(TransactionMode mode, TransactionCallback<T> callback) {
         Connection conn = null;
+        SQLiteConfig.TransactionMode previousMode = null;
+        TransactionContext context = null;
         try {
-            conn = DatabaseConnection.getConnection();
-            
+            conn = mode.isReadOnly()
+                    ? DatabaseConnection.getReadConnection()
+                    : DatabaseConnection.getWriteConnection();
+
             // Start transaction
+            SQLiteConnection sqlite = conn.unwrap(SQLiteConnection.class);
+            previousMode = sqlite.getConnectionConfig().getTransactionMode();
+            sqlite.setCurrentTransactionMode(mode.getSqliteMode());
             conn.setAutoCommit(false);
-            
+
+            context = new TransactionContext(conn, mode);
+            CURRENT.set(context);
+
             // Execute transaction logic
-            transaction.execute(conn);
-            
+            T result = callback.execute(context.handle());
+
             // Commit if successful
             conn.commit();
-            
+            return result;
+
         } catch (Exception e) {
             // Rollback on error
             if (conn != null) {
                 try {
-                    conn.rollback();
+                    if (!conn.getAutoCommit()) {
+                        conn.rollback();
+                    }
                     System.err.println("Transaction rolled back due to error: " + e.getMessage());
                 } catch (SQLException rollbackEx) {
                     System.err.println("Error during rollback: " + rollbackEx.getMessage());
                 }
             }
-            throw new DatabaseException("Transaction failed", e);
-            
+            throw asDatabaseException(e);
+
         } finally {
-            // Restore auto-commit
+            if (context != null) {
+                CURRENT.remove();
+                context.completionActions.forEach(Runnable::run);
+            }
+            // Restore auto-commit and return the connection to the pool
             if (conn != null) {
                 try {
                     conn.setAutoCommit(true);
+                    if (previousMode != null) {
+                        conn.unwrap(SQLiteConnection.class).setCurrentTransactionMode(previousMode);
+                    }
                 } catch (SQLException e) {
                     System.err.println("Error restoring auto-commit: " + e.getMessage());
                 }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error releasing connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static <T> T runNested(TransactionContext context, TransactionMode mode, TransactionCallback<T> callback) {
+        if (context.mode.isReadOnly() && !mode.isReadOnly()) {
+            throw new DatabaseException("Cannot start a " + mode + " transaction inside a read-only transaction");
+        }
+
+        String savepoint = "sp_" + (++context.savepoints);
+        try {
+            execute(context.connection, "SAVEPOINT " + savepoint);
+        } catch (SQLException e) {
+            throw new DatabaseException("Could not create savepoint", e);
+        }
+
+        try {
+            T result = callback.execute(context.handle());
+            execute(context.connection, "RELEASE SAVEPOINT " + savepoint);
+            return result;
+        } catch (Exception e) {
+            try {
+                execute(context.connection, "ROLLBACK TO SAVEPOINT " + savepoint);
+                execute(context.connection, "RELEASE SAVEPOINT " + savepoint);
+                System.err.println("Rolled back to savepoint due to error: " + e.getMessage());
+            } catch (SQLException rollbackEx) {
+                System.err.println("Error rolling back to savepoint: " + rollbackEx.getMessage());
             }
+            throw asDatabaseException(e);
         }
     }
-    
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private static DatabaseException asDatabaseException(Exception e) {
+        if (e instanceof DatabaseException) {
+            return (DatabaseException) e;
+        }
+        return new DatabaseException("Transaction failed", e);
+    }
+
+    /**
+     * The transaction bound to one thread.
+     */
+    private static final class TransactionContext {
+        private final Connection connection;
+        private final TransactionMode mode;
+        private final List<Runnable> completionActions = new ArrayList<>();
+        private int savepoints;
+
+        private TransactionContext(Connection connection, TransactionMode mode) {
+            this.connection = connection;
+            this.mode = mode;
+        }
+
+        /**
+         * A lease on the transaction connection whose close does nothing, so
+         * DAOs can use try-with-resources without ending the transaction.
+         */
+        private Connection handle() {
+            return PooledConnection.borrow(connection);
+        }
+    }
+
     /**
      * Functional interface for transaction operations.
      */
@@ -62,4 +250,12 @@ public class TransactionManager {
     public interface Transaction {
         void execute(Connection conn) throws Exception;
     }
+
+    /**
+     * Functional interface for transaction operations that produce a result.
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T> {
+        T execute(Connection conn) throws Exception;
+    }
 }
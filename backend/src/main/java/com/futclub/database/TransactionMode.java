@@ -0,0 +1,37 @@
+package com.futclub.database;
+
+import org.sqlite.SQLiteConfig;
+
+/**
+ * How a transaction started by {@link TransactionManager} takes its locks.
+ */
+public enum TransactionMode {
+
+    /** BEGIN DEFERRED on the writer; locks are taken on first read or write. */
+    DEFERRED(SQLiteConfig.TransactionMode.DEFERRED, false),
+
+    /** BEGIN IMMEDIATE on the writer; the write lock is taken up front. */
+    IMMEDIATE(SQLiteConfig.TransactionMode.IMMEDIATE, false),
+
+    /** BEGIN EXCLUSIVE on the writer; no other connection may read or write until commit. */
+    EXCLUSIVE(SQLiteConfig.TransactionMode.EXCLUSIVE, false),
+
+    /** BEGIN DEFERRED on a read connection; every query sees one consistent snapshot. */
+    READ_ONLY(SQLiteConfig.TransactionMode.DEFERRED, true);
+
+    private final SQLiteConfig.TransactionMode sqliteMode;
+    private final boolean readOnly;
+
+    TransactionMode(SQLiteConfig.TransactionMode sqliteMode, boolean readOnly) {
+        this.sqliteMode = sqliteMode;
+        this.readOnly = readOnly;
+    }
+
+    SQLiteConfig.TransactionMode getSqliteMode() {
+        return sqliteMode;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+}
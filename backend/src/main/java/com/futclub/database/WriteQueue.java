@@ -0,0 +1,646 @@
+package com.futclub.database;
+
+import com.futclub.database.exception.DAOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+
+/**
+ * Single writer thread that applies every DAO insert, update and delete.
+ * Writes that arrive within one flush window are coalesced into a single
+ * transaction (group commit), so concurrent users share one fsync instead of
+ * fighting over the SQLite write lock. Each write runs in its own savepoint,
+ * so one failing write does not undo the others in its batch.
+ *
+ * A batch that fails because the database is busy is retried as a whole
+ * according to the {@link RetryPolicy}.
+ *
+ * Callers that are already inside a {@link TransactionManager} transaction,
+ * or that hold the writer connection themselves, run their writes inline on
+ * that connection instead of queueing behind it.
+ */
+public class WriteQueue {
+
+    private static final long IDLE_POLL_MS = 100L;
+
+    private final ConnectionPool pool;
+    private final BlockingQueue<WriteTask<?>> queue;
+    private final long flushWindowNanos;
+    private final int maxBatchSize;
+    private final long offerTimeoutMs;
+    private final RetryPolicy retryPolicy;
+    private final Thread worker;
+    private volatile boolean running;
+
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong totalCommitNanos = new AtomicLong();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+
+    public WriteQueue(ConnectionPool pool, int capacity, long flushWindowMs, int maxBatchSize, long offerTimeoutMs) {
+        this(pool, capacity, flushWindowMs, maxBatchSize, offerTimeoutMs, RetryPolicy.getDefault());
+    }
+
+    public WriteQueue(ConnectionPool pool, int capacity, long flushWindowMs, int maxBatchSize, long offerTimeoutMs,
+                      RetryPolicy retryPolicy) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.pool = pool;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.flushWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, flushWindowMs));
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryPolicy = retryPolicy;
+        this.worker = new Thread(this::run, "futclub-db-writer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Creates a queue for the pool's writer, sized from database.properties.
+     */
+    public static WriteQueue fromConfig(ConnectionPool pool) {
+        return new WriteQueue(
+                pool,
+                DatabaseConfig.getWriterQueueCapacity(),
+                DatabaseConfig.getWriterFlushWindowMs(),
+                DatabaseConfig.getWriterMaxBatchSize(),
+                DatabaseConfig.getPoolTimeoutMs(),
+                RetryPolicy.getDefault());
+    }
+
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * Queues a write and returns a future completed once its batch has committed.
+     */
+    public <T> CompletableFuture<T> submit(WriteOperation<T> operation) {
+        WriteTask<T> task = new WriteTask<>(operation, DaoCaller.describe());
+        try {
+            if (!running) {
+                task.future.completeExceptionally(new SQLException("Write queue has been shut down"));
+            } else if (!queue.offer(task, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                task.future.completeExceptionally(
+                        new SQLException("Timed out after " + offerTimeoutMs + " ms waiting for space in the write queue"));
+            } else if (!running && queue.remove(task)) {
+                // Shutdown began while we queued; the writer may already have drained and exited.
+                task.future.completeExceptionally(new SQLException("Write queue has been shut down"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.future.completeExceptionally(new SQLException("Interrupted while queueing a write", e));
+        }
+        return task.future;
+    }
+
+    /**
+     * Stops accepting writes, commits everything already queued and stops the writer thread.
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<WriteTask<?>> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        for (WriteTask<?> task : abandoned) {
+            task.future.completeExceptionally(new SQLException("Write queue has been shut down"));
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Checks whether the calling thread is the writer thread.
+     */
+    public boolean isWriterThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    // ------------------------------------------------------------------
+    // Static entry points used by the DAOs
+    // ------------------------------------------------------------------
+
+    /**
+     * Runs a write through the shared queue and waits for it to commit.
+     * Runs inline when the caller already owns the writer or a transaction.
+     */
+    public static <T> T execute(WriteOperation<T> operation) throws SQLException {
+        WriteQueue shared = DatabaseConnection.getWriteQueue();
+        if (shared == null || mustRunInline(shared)) {
+            if (TransactionManager.isTransactionActive()) {
+                return executeInTransaction(operation);
+            }
+            return RetryPolicy.getDefault().execute(DaoCaller::describe, () -> {
+                try (Connection conn = DatabaseConnection.getWriteConnection()) {
+                    return operation.execute(conn);
+                }
+            });
+        }
+        return await(shared.submit(operation));
+    }
+
+    /**
+     * Runs a write through the shared queue without waiting for it.
+     */
+    public static <T> CompletableFuture<T> executeAsync(WriteOperation<T> operation) {
+        try {
+            WriteQueue shared = DatabaseConnection.getWriteQueue();
+            if (shared == null || mustRunInline(shared)) {
+                return CompletableFuture.completedFuture(execute(operation));
+            }
+            return shared.submit(operation);
+        } catch (SQLException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executes an update or delete and returns the affected row count.
+     */
+    public static int update(String sql, StatementBinder binder) throws SQLException {
+        return execute(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                binder.bind(pstmt);
+                return pstmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Executes an insert and returns the generated key, or 0 if none was generated.
+     */
+    public static int insert(String sql, StatementBinder binder) throws SQLException {
+        return execute(insertOperation(sql, binder));
+    }
+
+    /**
+     * Queues an insert and returns a future for its generated key.
+     */
+    public static CompletableFuture<Integer> insertAsync(String sql, StatementBinder binder) {
+        return executeAsync(insertOperation(sql, binder));
+    }
+
+    /**
+     * Inserts every item with one batched statement in a single transaction,
+     * then hands each generated key to the key setter once it has committed.
+     *
+     * Keys are worked out from the last inserted rowid: the batch holds the
+     * write lock throughout and adds one row per item, so the rowids it
+     * assigns are consecutive.
+     */
+    public static <E> void insertAll(String sql, Collection<? extends E> items, BatchBinder<? super E> binder,
+                                     ObjIntConsumer<? super E> keySetter) throws SQLException {
+        if (items.isEmpty()) {
+            return;
+        }
+        long[] keys = execute(conn -> atomically(conn, () -> {
+            long lastKey;
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int[] counts = executeBatch(pstmt, items, binder);
+                for (int count : counts) {
+                    if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+                        throw new SQLException("Batched insert added " + count + " rows for one item");
+                    }
+                }
+                lastKey = lastInsertRowid(conn);
+            }
+            long[] generated = new long[items.size()];
+            for (int i = 0; i < generated.length; i++) {
+                generated[i] = lastKey - generated.length + 1 + i;
+            }
+            return generated;
+        }));
+        int i = 0;
+        for (E item : items) {
+            keySetter.accept(item, (int) keys[i++]);
+        }
+    }
+
+    /**
+     * Applies one batched update or delete per item in a single transaction
+     * and returns the affected row count of each.
+     */
+    public static <E> int[] updateAll(String sql, Collection<? extends E> items, BatchBinder<? super E> binder)
+            throws SQLException {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        return execute(conn -> atomically(conn, () -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                return executeBatch(pstmt, items, binder);
+            }
+        }));
+    }
+
+    private static <E> int[] executeBatch(PreparedStatement pstmt, Collection<? extends E> items,
+                                          BatchBinder<? super E> binder) throws SQLException {
+        for (E item : items) {
+            binder.bind(pstmt, item);
+            pstmt.addBatch();
+        }
+        return pstmt.executeBatch();
+    }
+
+    private static long lastInsertRowid(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    /**
+     * Runs a write in its own transaction unless the connection is already in one,
+     * as it is on the writer thread or inside a {@link TransactionManager} transaction.
+     */
+    private static <T> T atomically(Connection conn, BatchWork<T> work) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            return work.run();
+        }
+        conn.setAutoCommit(false);
+        try {
+            T result = work.run();
+            conn.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static WriteOperation<Integer> insertOperation(String sql, StatementBinder binder) {
+        return conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                binder.bind(pstmt);
+                pstmt.executeUpdate();
+                ResultSet generatedKeys = pstmt.getGeneratedKeys();
+                return generatedKeys.next() ? generatedKeys.getInt(1) : 0;
+            }
+        };
+    }
+
+    /**
+     * Runs a write on the caller's transaction. Any error is raised as a
+     * DAOException so it escapes the DAO's catch block and rolls the whole
+     * transaction back; a busy error also makes the transaction retry.
+     */
+    private static <T> T executeInTransaction(WriteOperation<T> operation) throws SQLException {
+        try (Connection conn = DatabaseConnection.getWriteConnection()) {
+            return operation.execute(conn);
+        } catch (SQLException e) {
+            if (RetryPolicy.isBusy(e)) {
+                throw new DAOException(DaoCaller.describe() + " failed: database busy inside a transaction", e);
+            }
+            throw new DAOException(DaoCaller.describe() + " failed inside a transaction", e);
+        }
+    }
+
+    private static boolean mustRunInline(WriteQueue shared) {
+        return !shared.isRunning()
+                || shared.isWriterThread()
+                || TransactionManager.isTransactionActive()
+                || shared.pool.isWriterHeldByCurrentThread();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a queued write", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException("Queued write failed", cause);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Writer thread
+    // ------------------------------------------------------------------
+
+    private void run() {
+        List<WriteTask<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteTask<?> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    WriteTask<?> next = queue.poll();
+                    if (next == null) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0L) {
+                            break;
+                        }
+                        next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Flush what we have; the loop exits once the queue is stopped and empty.
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Applies one batch, retrying the whole batch while the database is busy,
+     * and completes its futures once it has committed or failed for good.
+     */
+    private void flush(List<WriteTask<?>> batch) {
+        long started = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            Exception failure = applyBatch(batch);
+            if (failure == null) {
+                break;
+            }
+            if (!RetryPolicy.isBusy(failure)) {
+                failAll(batch, failure);
+                break;
+            }
+            long delay = retryPolicy.nextDelayMillis(attempt);
+            if (!retryPolicy.allowsRetry(attempt, started, delay)) {
+                for (WriteTask<?> task : batch) {
+                    RetryMetrics.recordExhausted(task.caller);
+                    task.error = RetryPolicy.exhausted(task.caller, attempt, failure);
+                }
+                break;
+            }
+            for (WriteTask<?> task : batch) {
+                RetryMetrics.recordRetry(task.caller);
+            }
+            try {
+                RetryPolicy.pause(delay);
+            } catch (DAOException e) {
+                failAll(batch, e);
+                break;
+            }
+        }
+
+        long now = System.nanoTime();
+        for (WriteTask<?> task : batch) {
+            totalWaitNanos.addAndGet(now - task.enqueuedAt);
+            if (task.error != null) {
+                failedWrites.incrementAndGet();
+            }
+        }
+        writes.addAndGet(batch.size());
+
+        // Completed last, so callers observe the metrics for their own write.
+        for (WriteTask<?> task : batch) {
+            task.complete();
+        }
+    }
+
+    /**
+     * Applies one batch in a single transaction.
+     *
+     * @return the error that aborted the whole batch, or null once it has committed
+     */
+    private Exception applyBatch(List<WriteTask<?>> batch) {
+        long start = System.nanoTime();
+        boolean savepoints = batch.size() > 1;
+        Connection conn = null;
+        SQLiteConfig.TransactionMode previousMode = null;
+        try {
+            conn = pool.getWriteConnection();
+            SQLiteConnection sqlite = conn.unwrap(SQLiteConnection.class);
+            previousMode = sqlite.getConnectionConfig().getTransactionMode();
+            sqlite.setCurrentTransactionMode(SQLiteConfig.TransactionMode.IMMEDIATE);
+            conn.setAutoCommit(false);
+
+            for (WriteTask<?> task : batch) {
+                task.error = null;
+                if (savepoints) {
+                    executeSql(conn, "SAVEPOINT write_task");
+                }
+                try {
+                    task.run(conn);
+                    if (savepoints) {
+                        executeSql(conn, "RELEASE SAVEPOINT write_task");
+                    }
+                } catch (Exception e) {
+                    if (!savepoints || RetryPolicy.isBusy(e)) {
+                        throw e;
+                    }
+                    executeSql(conn, "ROLLBACK TO SAVEPOINT write_task");
+                    executeSql(conn, "RELEASE SAVEPOINT write_task");
+                    task.error = e;
+                }
+            }
+
+            conn.commit();
+            recordCommit(start, batch.size());
+            return null;
+        } catch (Exception e) {
+            if (conn != null) {
+                try {
+                    if (!conn.getAutoCommit()) {
+                        conn.rollback();
+                    }
+                } catch (SQLException rollbackEx) {
+                    System.err.println("Error rolling back write batch: " + rollbackEx.getMessage());
+                }
+            }
+            return e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    if (previousMode != null) {
+                        conn.unwrap(SQLiteConnection.class).setCurrentTransactionMode(previousMode);
+                    }
+                } catch (SQLException e) {
+                    System.err.println("Error restoring auto-commit: " + e.getMessage());
+                }
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    System.err.println("Error releasing writer connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void failAll(List<WriteTask<?>> batch, Exception failure) {
+        for (WriteTask<?> task : batch) {
+            task.error = failure;
+        }
+    }
+
+    private void recordCommit(long start, int batchSize) {
+        long elapsed = System.nanoTime() - start;
+        commits.incrementAndGet();
+        totalCommitNanos.addAndGet(elapsed);
+        maxCommitNanos.accumulateAndGet(elapsed, Math::max);
+        lastBatchSize = batchSize;
+    }
+
+    private static void executeSql(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Metrics
+    // ------------------------------------------------------------------
+
+    /**
+     * Gets the number of writes waiting for the writer thread.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of batches committed.
+     */
+    public long getCommitCount() {
+        return commits.get();
+    }
+
+    /**
+     * Gets the number of writes processed, including failed ones.
+     */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    public long getFailedWriteCount() {
+        return failedWrites.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Gets the average number of writes per committed batch.
+     */
+    public double getAverageBatchSize() {
+        long committed = commits.get();
+        return committed == 0 ? 0.0 : (double) (writes.get() - failedWrites.get()) / committed;
+    }
+
+    /**
+     * Gets the average time from BEGIN to COMMIT of a batch, in milliseconds.
+     */
+    public double getAverageCommitLatencyMillis() {
+        long committed = commits.get();
+        return committed == 0 ? 0.0 : totalCommitNanos.get() / 1_000_000.0 / committed;
+    }
+
+    public double getMaxCommitLatencyMillis() {
+        return maxCommitNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Gets the average time from queueing a write to its completion, in milliseconds.
+     */
+    public double getAverageWriteLatencyMillis() {
+        long processed = writes.get();
+        return processed == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / processed;
+    }
+
+    /**
+     * A unit of work run on the writer connection.
+     */
+    @FunctionalInterface
+    public interface WriteOperation<T> {
+        T execute(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Binds parameters to a prepared write statement.
+     */
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement pstmt) throws SQLException;
+    }
+
+    /**
+     * Binds one item's parameters to a batched write statement.
+     */
+    @FunctionalInterface
+    public interface BatchBinder<E> {
+        void bind(PreparedStatement pstmt, E item) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface BatchWork<T> {
+        T run() throws SQLException;
+    }
+
+    private static final class WriteTask<T> {
+        private final WriteOperation<T> operation;
+        private final String caller;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private T result;
+        private Exception error;
+
+        private WriteTask(WriteOperation<T> operation, String caller) {
+            this.operation = operation;
+            this.caller = caller;
+        }
+
+        private void run(Connection conn) throws SQLException {
+            DaoCaller.bind(caller);
+            try {
+                result = operation.execute(conn);
+            } finally {
+                DaoCaller.clear();
+            }
+        }
+
+        private void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
@@ -1,14 +1,31 @@
 package com.futclub.database.dao;
 
 import com.futclub.model.AttendanceRecord;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AttendanceDAO {
     AttendanceRecord getById(int attendanceId);
     List<AttendanceRecord> getAll();
+
+    /**
+     * Streams every row in id order without loading the table into memory.
+     * The stream holds a database connection and must be closed.
+     */
+    Stream<AttendanceRecord> streamAll();
+
     void insert(AttendanceRecord attendance);
+    void insertAll(Collection<AttendanceRecord> records);
     void update(AttendanceRecord attendance);
+    void updateAll(Collection<AttendanceRecord> records);
     void delete(int attendanceId);
+
+    /**
+     * Inserts or updates the attendance of every listed player at a session in
+     * one batched transaction, keyed on the (player_id, session_id) constraint.
+     */
+    void upsertSessionAttendance(int sessionId, List<AttendanceRecord> records);
     
     List<AttendanceRecord> getBySessionId(int sessionId);
     List<AttendanceRecord> getByPlayerId(int playerId);
@@ -1,24 +1,40 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.RowStream;
+import com.futclub.database.WriteQueue;
+import com.futclub.database.exception.DAOException;
 import com.futclub.model.AttendanceRecord;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.Map;
 
 public class AttendanceDAOImpl implements AttendanceDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO attendance (player_id, session_id, status, notes) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE attendance SET player_id = ?, session_id = ?, status = ?, notes = ? WHERE attendance_id = ?";
+
+    private static final String UPSERT_SQL = INSERT_SQL +
+            " ON CONFLICT(player_id, session_id) DO UPDATE SET status = excluded.status, notes = excluded.notes";
     
     @Override
     public AttendanceRecord getById(int attendanceId) {
         String sql = "SELECT * FROM attendance WHERE attendance_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, attendanceId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractAttendanceFromResultSet(rs);
+                return new AttendanceRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting attendance by ID: " + e.getMessage());
@@ -31,69 +47,114 @@ public class AttendanceDAOImpl implements AttendanceDAO {
         List<AttendanceRecord> attendanceList = new ArrayList<>();
         String sql = "SELECT * FROM attendance ORDER BY recorded_at DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<AttendanceRecord> mapper = new AttendanceRowMapper(rs);
             while (rs.next()) {
-                attendanceList.add(extractAttendanceFromResultSet(rs));
+                attendanceList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all attendance records: " + e.getMessage());
         }
         return attendanceList;
     }
+
+    @Override
+    public Stream<AttendanceRecord> streamAll() {
+        try {
+            return RowStream.open("SELECT * FROM attendance ORDER BY attendance_id", AttendanceRowMapper::new);
+        } catch (DAOException e) {
+            System.err.println("Error streaming all attendance records: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
     
     @Override
     public void insert(AttendanceRecord attendance) {
-        String sql = "INSERT INTO attendance (player_id, session_id, status, notes) VALUES (?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setInt(1, attendance.getPlayerId());
-            pstmt.setInt(2, attendance.getSessionId());
-            pstmt.setString(3, attendance.getStatus());
-            pstmt.setString(4, attendance.getNotes());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                attendance.setAttendanceId(generatedKeys.getInt(1));
+        try {
+            int attendanceId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, attendance));
+            if (attendanceId > 0) {
+                attendance.setAttendanceId(attendanceId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting attendance: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<AttendanceRecord> records) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, records, AttendanceDAOImpl::bindInsert, AttendanceRecord::setAttendanceId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting attendance: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(AttendanceRecord attendance) {
-        String sql = "UPDATE attendance SET player_id = ?, session_id = ?, status = ?, notes = ? WHERE attendance_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, attendance.getPlayerId());
-            pstmt.setInt(2, attendance.getSessionId());
-            pstmt.setString(3, attendance.getStatus());
-            pstmt.setString(4, attendance.getNotes());
-            pstmt.setInt(5, attendance.getAttendanceId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, attendance));
+        } catch (SQLException e) {
+            System.err.println("Error updating attendance: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<AttendanceRecord> records) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, records, AttendanceDAOImpl::bindUpdate);
         } catch (SQLException e) {
             System.err.println("Error updating attendance: " + e.getMessage());
         }
     }
     
+    @Override
+    public void upsertSessionAttendance(int sessionId, List<AttendanceRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        for (AttendanceRecord record : records) {
+            record.setSessionId(sessionId);
+        }
+        try {
+            WriteQueue.updateAll(UPSERT_SQL, records, AttendanceDAOImpl::bindInsert);
+        } catch (SQLException e) {
+            System.err.println("Error upserting session attendance: " + e.getMessage());
+            return;
+        }
+
+        // An upsert that updates leaves last_insert_rowid alone, so read the ids back in one query.
+        String sql = "SELECT player_id, attendance_id FROM attendance WHERE session_id = ?";
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, sessionId);
+            Map<Integer, Integer> idsByPlayer = new HashMap<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    idsByPlayer.put(rs.getInt("player_id"), rs.getInt("attendance_id"));
+                }
+            }
+            for (AttendanceRecord record : records) {
+                Integer attendanceId = idsByPlayer.get(record.getPlayerId());
+                if (attendanceId != null) {
+                    record.setAttendanceId(attendanceId);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading back session attendance ids: " + e.getMessage());
+        }
+    }
+    
     @Override
     public void delete(int attendanceId) {
         String sql = "DELETE FROM attendance WHERE attendance_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, attendanceId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, attendanceId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting attendance: " + e.getMessage());
         }
@@ -104,14 +165,15 @@ public class AttendanceDAOImpl implements AttendanceDAO {
         List<AttendanceRecord> attendanceList = new ArrayList<>();
         String sql = "SELECT * FROM attendance WHERE session_id = ? ORDER BY player_id";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, sessionId);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<AttendanceRecord> mapper = new AttendanceRowMapper(rs);
             while (rs.next()) {
-                attendanceList.add(extractAttendanceFromResultSet(rs));
+                attendanceList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting attendance by session: " + e.getMessage());
@@ -124,14 +186,15 @@ public class AttendanceDAOImpl implements AttendanceDAO {
         List<AttendanceRecord> attendanceList = new ArrayList<>();
         String sql = "SELECT * FROM attendance WHERE player_id = ? ORDER BY recorded_at DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<AttendanceRecord> mapper = new AttendanceRowMapper(rs);
             while (rs.next()) {
-                attendanceList.add(extractAttendanceFromResultSet(rs));
+                attendanceList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting attendance by player: " + e.getMessage());
@@ -142,7 +205,7 @@ public class AttendanceDAOImpl implements AttendanceDAO {
     @Override
     public AttendanceRecord getByPlayerAndSession(int playerId, int sessionId) {
         String sql = "SELECT * FROM attendance WHERE player_id = ? AND session_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
@@ -150,7 +213,7 @@ public class AttendanceDAOImpl implements AttendanceDAO {
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractAttendanceFromResultSet(rs);
+                return new AttendanceRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting attendance by player and session: " + e.getMessage());
@@ -161,7 +224,7 @@ public class AttendanceDAOImpl implements AttendanceDAO {
     @Override
     public int getAttendanceCountByPlayer(int playerId, String status) {
         String sql = "SELECT COUNT(*) FROM attendance WHERE player_id = ? AND status = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
@@ -177,14 +240,48 @@ public class AttendanceDAOImpl implements AttendanceDAO {
         return 0;
     }
     
-    private AttendanceRecord extractAttendanceFromResultSet(ResultSet rs) throws SQLException {
-        AttendanceRecord attendance = new AttendanceRecord();
-        attendance.setAttendanceId(rs.getInt("attendance_id"));
-        attendance.setPlayerId(rs.getInt("player_id"));
-        attendance.setSessionId(rs.getInt("session_id"));
-        attendance.setStatus(rs.getString("status"));
-        attendance.setNotes(rs.getString("notes"));
-        attendance.setRecordedAt(rs.getTimestamp("recorded_at"));
-        return attendance;
+    /**
+     * Reads attendance rows by column index.
+     */
+    static final class AttendanceRowMapper implements RowMapper<AttendanceRecord> {
+        private final int attendanceId;
+        private final int playerId;
+        private final int sessionId;
+        private final int status;
+        private final int notes;
+        private final int recordedAt;
+
+        AttendanceRowMapper(ResultSet rs) throws SQLException {
+            attendanceId = rs.findColumn("attendance_id");
+            playerId = rs.findColumn("player_id");
+            sessionId = rs.findColumn("session_id");
+            status = rs.findColumn("status");
+            notes = rs.findColumn("notes");
+            recordedAt = rs.findColumn("recorded_at");
+        }
+
+        @Override
+        public AttendanceRecord map(ResultSet rs) throws SQLException {
+            AttendanceRecord attendance = new AttendanceRecord();
+            attendance.setAttendanceId(rs.getInt(attendanceId));
+            attendance.setPlayerId(rs.getInt(playerId));
+            attendance.setSessionId(rs.getInt(sessionId));
+            attendance.setStatus(rs.getString(status));
+            attendance.setNotes(rs.getString(notes));
+            attendance.setRecordedAt(EpochDates.getTimestamp(rs, recordedAt));
+            return attendance;
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, AttendanceRecord attendance) throws SQLException {
+        pstmt.setInt(1, attendance.getPlayerId());
+        pstmt.setInt(2, attendance.getSessionId());
+        pstmt.setString(3, attendance.getStatus());
+        pstmt.setString(4, attendance.getNotes());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, AttendanceRecord attendance) throws SQLException {
+        bindInsert(pstmt, attendance);
+        pstmt.setInt(5, attendance.getAttendanceId());
     }
 }
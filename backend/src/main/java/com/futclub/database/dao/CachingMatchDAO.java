@@ -0,0 +1,125 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConfig;
+import com.futclub.database.EntityCache;
+import com.futclub.model.Match;
+import com.futclub.model.MatchSummary;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MatchDAO that keeps matches looked up by id in a bounded LRU cache.
+ * Writes through this DAO drop the rows they touch; list queries always go
+ * to the database. Every caller gets its own copy, so editing a match that is
+ * never saved leaves the cache untouched.
+ */
+public class CachingMatchDAO implements MatchDAO {
+
+    private final MatchDAO delegate;
+    private final EntityCache<Match> cache;
+
+    public CachingMatchDAO(MatchDAO delegate, int capacity) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = new EntityCache<>(capacity, Match::new);
+    }
+
+    /**
+     * Wraps the DAO in a cache if database.entity.cache.enabled is set.
+     */
+    public static MatchDAO fromConfig(MatchDAO delegate) {
+        if (!DatabaseConfig.isEntityCacheEnabled()) {
+            return delegate;
+        }
+        return new CachingMatchDAO(delegate, DatabaseConfig.getEntityCacheSize());
+    }
+
+    /**
+     * Get the cache, for its size and hit-rate counters.
+     */
+    public EntityCache<Match> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Match getById(int matchId) {
+        return cache.get(matchId, delegate::getById);
+    }
+
+    @Override
+    public Map<Integer, Match> getByIds(Collection<Integer> ids) {
+        return cache.getAll(ids, delegate::getByIds);
+    }
+
+    @Override
+    public List<Match> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<MatchSummary> getSummaries() {
+        return delegate.getSummaries();
+    }
+
+    @Override
+    public List<Match> page(Timestamp afterMatchDate, int afterId, int limit) {
+        return delegate.page(afterMatchDate, afterId, limit);
+    }
+
+    @Override
+    public void insert(Match match) {
+        delegate.insert(match);
+        cache.invalidate(match.getMatchId());
+    }
+
+    @Override
+    public void insertAll(Collection<Match> matches) {
+        delegate.insertAll(matches);
+        matches.forEach(match -> cache.invalidate(match.getMatchId()));
+    }
+
+    @Override
+    public void update(Match match) {
+        delegate.update(match);
+        cache.invalidate(match.getMatchId());
+    }
+
+    @Override
+    public void updateAll(Collection<Match> matches) {
+        delegate.updateAll(matches);
+        matches.forEach(match -> cache.invalidate(match.getMatchId()));
+    }
+
+    @Override
+    public void delete(int matchId) {
+        delegate.delete(matchId);
+        cache.invalidate(matchId);
+    }
+
+    @Override
+    public List<Match> getUpcomingMatches() {
+        return delegate.getUpcomingMatches();
+    }
+
+    @Override
+    public List<Match> getCompletedMatches() {
+        return delegate.getCompletedMatches();
+    }
+
+    @Override
+    public List<Match> getByCompetition(String competition) {
+        return delegate.getByCompetition(competition);
+    }
+
+    @Override
+    public List<String> getCompetitions() {
+        return delegate.getCompetitions();
+    }
+
+    @Override
+    public List<Match> getMatchesInDateRange(Timestamp startDate, Timestamp endDate) {
+        return delegate.getMatchesInDateRange(startDate, endDate);
+    }
+}
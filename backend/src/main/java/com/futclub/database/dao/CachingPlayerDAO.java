@@ -0,0 +1,124 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConfig;
+import com.futclub.database.EntityCache;
+import com.futclub.model.Player;
+import com.futclub.model.PlayerSummary;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * PlayerDAO that keeps players looked up by id in a bounded LRU cache.
+ * Writes through this DAO drop the rows they touch; list queries always go
+ * to the database. Every caller gets its own copy, so editing a player that is
+ * never saved leaves the cache untouched.
+ */
+public class CachingPlayerDAO implements PlayerDAO {
+
+    private final PlayerDAO delegate;
+    private final EntityCache<Player> cache;
+
+    public CachingPlayerDAO(PlayerDAO delegate, int capacity) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = new EntityCache<>(capacity, Player::new);
+    }
+
+    /**
+     * Wraps the DAO in a cache if database.entity.cache.enabled is set.
+     */
+    public static PlayerDAO fromConfig(PlayerDAO delegate) {
+        if (!DatabaseConfig.isEntityCacheEnabled()) {
+            return delegate;
+        }
+        return new CachingPlayerDAO(delegate, DatabaseConfig.getEntityCacheSize());
+    }
+
+    /**
+     * Get the cache, for its size and hit-rate counters.
+     */
+    public EntityCache<Player> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Player getById(int playerId) {
+        return cache.get(playerId, delegate::getById);
+    }
+
+    @Override
+    public Map<Integer, Player> getByIds(Collection<Integer> ids) {
+        return cache.getAll(ids, delegate::getByIds);
+    }
+
+    @Override
+    public List<Player> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<PlayerSummary> getSummaries() {
+        return delegate.getSummaries();
+    }
+
+    @Override
+    public List<Player> page(int afterShirtNumber, int afterId, int limit) {
+        return delegate.page(afterShirtNumber, afterId, limit);
+    }
+
+    @Override
+    public void insert(Player player) {
+        delegate.insert(player);
+        cache.invalidate(player.getPlayerId());
+    }
+
+    @Override
+    public void insertAll(Collection<Player> players) {
+        delegate.insertAll(players);
+        players.forEach(player -> cache.invalidate(player.getPlayerId()));
+    }
+
+    @Override
+    public void update(Player player) {
+        delegate.update(player);
+        cache.invalidate(player.getPlayerId());
+    }
+
+    @Override
+    public void updateAll(Collection<Player> players) {
+        delegate.updateAll(players);
+        players.forEach(player -> cache.invalidate(player.getPlayerId()));
+    }
+
+    @Override
+    public void delete(int playerId) {
+        delegate.delete(playerId);
+        cache.invalidate(playerId);
+    }
+
+    @Override
+    public List<Player> getByPosition(String position) {
+        return delegate.getByPosition(position);
+    }
+
+    @Override
+    public List<Player> getByStatus(String status) {
+        return delegate.getByStatus(status);
+    }
+
+    @Override
+    public Player getByShirtNumber(int shirtNumber) {
+        return delegate.getByShirtNumber(shirtNumber);
+    }
+
+    @Override
+    public List<Player> getAvailablePlayers() {
+        return delegate.getAvailablePlayers();
+    }
+
+    @Override
+    public List<Player> getInjuredPlayers() {
+        return delegate.getInjuredPlayers();
+    }
+}
@@ -0,0 +1,98 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConfig;
+import com.futclub.database.EntityCache;
+import com.futclub.model.Staff;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * StaffDAO that keeps staff members looked up by id in a bounded LRU cache.
+ * Writes through this DAO drop the rows they touch; list queries always go
+ * to the database. Every caller gets its own copy, so editing a staff member that is
+ * never saved leaves the cache untouched.
+ */
+public class CachingStaffDAO implements StaffDAO {
+
+    private final StaffDAO delegate;
+    private final EntityCache<Staff> cache;
+
+    public CachingStaffDAO(StaffDAO delegate, int capacity) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = new EntityCache<>(capacity, Staff::new);
+    }
+
+    /**
+     * Wraps the DAO in a cache if database.entity.cache.enabled is set.
+     */
+    public static StaffDAO fromConfig(StaffDAO delegate) {
+        if (!DatabaseConfig.isEntityCacheEnabled()) {
+            return delegate;
+        }
+        return new CachingStaffDAO(delegate, DatabaseConfig.getEntityCacheSize());
+    }
+
+    /**
+     * Get the cache, for its size and hit-rate counters.
+     */
+    public EntityCache<Staff> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Staff getById(int staffId) {
+        return cache.get(staffId, delegate::getById);
+    }
+
+    @Override
+    public Map<Integer, Staff> getByIds(Collection<Integer> ids) {
+        return cache.getAll(ids, delegate::getByIds);
+    }
+
+    @Override
+    public List<Staff> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public void insert(Staff staff) {
+        delegate.insert(staff);
+        cache.invalidate(staff.getStaffId());
+    }
+
+    @Override
+    public void insertAll(Collection<Staff> staffMembers) {
+        delegate.insertAll(staffMembers);
+        staffMembers.forEach(staff -> cache.invalidate(staff.getStaffId()));
+    }
+
+    @Override
+    public void update(Staff staff) {
+        delegate.update(staff);
+        cache.invalidate(staff.getStaffId());
+    }
+
+    @Override
+    public void updateAll(Collection<Staff> staffMembers) {
+        delegate.updateAll(staffMembers);
+        staffMembers.forEach(staff -> cache.invalidate(staff.getStaffId()));
+    }
+
+    @Override
+    public void delete(int staffId) {
+        delegate.delete(staffId);
+        cache.invalidate(staffId);
+    }
+
+    @Override
+    public Staff getByUserId(int userId) {
+        return delegate.getByUserId(userId);
+    }
+
+    @Override
+    public Staff getByEmail(String email) {
+        return delegate.getByEmail(email);
+    }
+}
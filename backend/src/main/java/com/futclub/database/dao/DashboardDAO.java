@@ -0,0 +1,12 @@
+package com.futclub.database.dao;
+
+import com.futclub.model.DashboardCounts;
+import java.sql.Timestamp;
+
+public interface DashboardDAO {
+    /**
+     * Get the dashboard counters as of the given moment. Sessions are limited
+     * to one coach when coachId is not null.
+     */
+    DashboardCounts getCounts(Timestamp now, Integer coachId);
+}
@@ -0,0 +1,60 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.model.DashboardCounts;
+import java.sql.*;
+
+public class DashboardDAOImpl implements DashboardDAO {
+
+    /**
+     * Every counter is a scalar subquery over an index, so the whole
+     * dashboard is one statement and no table rows are materialized.
+     * ?1 is the start of today, ?2 the current moment, ?3 the coach or NULL.
+     */
+    private static final String COUNTS_SQL =
+            "SELECT " +
+            "(SELECT COUNT(*) FROM players) AS total_players, " +
+            "(SELECT COUNT(*) FROM players WHERE status = 'AVAILABLE') AS available_players, " +
+            "(SELECT COUNT(*) FROM players WHERE status = 'INJURED') AS injured_players, " +
+            "(SELECT COUNT(*) FROM matches WHERE match_status = 'SCHEDULED' " +
+            "AND (match_date IS NULL OR match_date >= ?1)) AS upcoming_matches, " +
+            "(SELECT match_id FROM matches WHERE match_status = 'SCHEDULED' " +
+            "AND (match_date IS NULL OR match_date >= ?1) ORDER BY match_date, match_id LIMIT 1) AS next_match_id, " +
+            "(SELECT COUNT(*) FROM training_sessions WHERE session_date > ?2 " +
+            "AND (?3 IS NULL OR coach_id = ?3)) AS upcoming_sessions, " +
+            "(SELECT session_id FROM training_sessions WHERE session_date > ?2 " +
+            "AND (?3 IS NULL OR coach_id = ?3) ORDER BY session_date, session_id LIMIT 1) AS next_session_id, " +
+            "(SELECT COUNT(*) FROM staff) AS total_staff";
+
+    @Override
+    public DashboardCounts getCounts(Timestamp now, Integer coachId) {
+        long startOfToday = Timestamp.valueOf(now.toLocalDateTime().toLocalDate().atStartOfDay()).getTime();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(COUNTS_SQL)) {
+
+            pstmt.setLong(1, startOfToday);
+            pstmt.setLong(2, now.getTime());
+            if (coachId != null) {
+                pstmt.setInt(3, coachId);
+            } else {
+                pstmt.setNull(3, Types.INTEGER);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new DashboardCounts(
+                            rs.getInt(1),
+                            rs.getInt(2),
+                            rs.getInt(3),
+                            rs.getInt(4),
+                            rs.getInt(5),
+                            rs.getInt(6),
+                            rs.getInt(7),
+                            rs.getInt(8));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting dashboard counts: " + e.getMessage());
+        }
+        return null;
+    }
+}
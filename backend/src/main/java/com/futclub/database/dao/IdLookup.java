@@ -0,0 +1,88 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.RowMapper;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Fetches rows by primary key with chunked IN lists on one read connection.
+ *
+ * Each chunk is padded to a power of two by repeating an id, so a lookup of
+ * any size prepares one of a handful of statements and they stay in the
+ * statement cache.
+ */
+final class IdLookup {
+
+    /** Stays well under SQLite's host parameter limit. */
+    static final int MAX_CHUNK = 512;
+
+    private static final int MIN_CHUNK = 8;
+
+    private IdLookup() {
+    }
+
+    /**
+     * Get the rows whose id column matches one of the ids, keyed by id.
+     * Null and repeated ids are ignored; ids with no row are left out.
+     */
+    static <T> Map<Integer, T> byIds(String table, String idColumn, Collection<Integer> ids,
+                                     RowMapper.Factory<T> mappers, ToIntFunction<T> idOf) throws SQLException {
+        Map<Integer, T> rows = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return rows;
+        }
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        if (distinct.isEmpty()) {
+            return rows;
+        }
+
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            for (int start = 0; start < distinct.size(); start += MAX_CHUNK) {
+                List<Integer> chunk = distinct.subList(start, Math.min(start + MAX_CHUNK, distinct.size()));
+                int size = chunkSize(chunk.size());
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT * FROM " + table + " WHERE " + idColumn + " IN (" + placeholders(size) + ")")) {
+                    for (int i = 0; i < size; i++) {
+                        pstmt.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        RowMapper<T> mapper = mappers.forResultSet(rs);
+                        while (rs.next()) {
+                            T row = mapper.map(rs);
+                            rows.put(idOf.applyAsInt(row), row);
+                        }
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static int chunkSize(int count) {
+        int size = MIN_CHUNK;
+        while (size < count) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        return sql.toString();
+    }
+}
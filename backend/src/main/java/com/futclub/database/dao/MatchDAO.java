@@ -1,18 +1,48 @@
 package com.futclub.database.dao;
 
 import com.futclub.model.Match;
+import com.futclub.model.MatchSummary;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface MatchDAO {
     Match getById(int matchId);
+
+    /**
+     * Gets the matches with the given ids, keyed by id, in a fixed number of
+     * queries. Ids without a row are left out of the map.
+     */
+    Map<Integer, Match> getByIds(Collection<Integer> ids);
+
     List<Match> getAll();
+
+    /**
+     * Gets id, date, opponent and score of every match, newest first, read
+     * from a covering index.
+     */
+    List<MatchSummary> getSummaries();
+
+    /**
+     * Gets up to limit matches, newest first, that come after the given match.
+     * Pass a null date for the first page.
+     */
+    List<Match> page(Timestamp afterMatchDate, int afterId, int limit);
+
     void insert(Match match);
+    void insertAll(Collection<Match> matches);
     void update(Match match);
+    void updateAll(Collection<Match> matches);
     void delete(int matchId);
     
     List<Match> getUpcomingMatches();
     List<Match> getCompletedMatches();
     List<Match> getByCompetition(String competition);
+
+    /**
+     * Gets the distinct competition names, read from the competition index.
+     */
+    List<String> getCompetitions();
     List<Match> getMatchesInDateRange(Timestamp startDate, Timestamp endDate);
 }
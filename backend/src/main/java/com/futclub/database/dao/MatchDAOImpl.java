@@ -1,115 +1,188 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.WriteQueue;
 import com.futclub.model.Match;
+import com.futclub.model.MatchSummary;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class MatchDAOImpl implements MatchDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO matches (match_date, opponent, venue, competition, goals_for, " +
+            "goals_against, match_status, attendance, weather, notes) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE matches SET match_date = ?, opponent = ?, venue = ?, competition = ?, " +
+            "goals_for = ?, goals_against = ?, match_status = ?, attendance = ?, weather = ?, notes = ? " +
+            "WHERE match_id = ?";
     
     @Override
     public Match getById(int matchId) {
         String sql = "SELECT * FROM matches WHERE match_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, matchId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractMatchFromResultSet(rs);
+                return new MatchRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting match by ID: " + e.getMessage());
         }
         return null;
     }
+
+    @Override
+    public Map<Integer, Match> getByIds(Collection<Integer> ids) {
+        try {
+            return IdLookup.byIds("matches", "match_id", ids, MatchRowMapper::new, Match::getMatchId);
+        } catch (SQLException e) {
+            System.err.println("Error getting matches by IDs: " + e.getMessage());
+        }
+        return Collections.emptyMap();
+    }
     
     @Override
     public List<Match> getAll() {
         List<Match> matches = new ArrayList<>();
         String sql = "SELECT * FROM matches ORDER BY match_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
             while (rs.next()) {
-                matches.add(extractMatchFromResultSet(rs));
+                matches.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all matches: " + e.getMessage());
         }
         return matches;
     }
+
+    @Override
+    public List<MatchSummary> getSummaries() {
+        List<MatchSummary> summaries = new ArrayList<>();
+        String sql = "SELECT match_id, match_date, opponent, goals_for, goals_against, match_status " +
+                    "FROM matches ORDER BY match_date DESC";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                summaries.add(new MatchSummary(
+                        rs.getInt(1), EpochDates.getTimestamp(rs, 2), rs.getString(3), rs.getInt(4), rs.getInt(5), rs.getString(6)));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting match summaries: " + e.getMessage());
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<String> getCompetitions() {
+        List<String> competitions = new ArrayList<>();
+        String sql = "SELECT DISTINCT competition FROM matches WHERE competition IS NOT NULL ORDER BY competition";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                competitions.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting competitions: " + e.getMessage());
+        }
+        return competitions;
+    }
+
+    @Override
+    public List<Match> page(Timestamp afterMatchDate, int afterId, int limit) {
+        List<Match> matches = new ArrayList<>();
+        String sql = afterMatchDate == null
+                ? "SELECT * FROM matches ORDER BY match_date DESC, match_id DESC LIMIT ?"
+                : "SELECT * FROM matches WHERE (match_date, match_id) < (?, ?) " +
+                  "ORDER BY match_date DESC, match_id DESC LIMIT ?";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (afterMatchDate != null) {
+                EpochDates.set(pstmt, index++, afterMatchDate);
+                pstmt.setInt(index++, afterId);
+            }
+            pstmt.setInt(index, limit);
+            ResultSet rs = pstmt.executeQuery();
+
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
+            while (rs.next()) {
+                matches.add(mapper.map(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting page of matches: " + e.getMessage());
+        }
+        return matches;
+    }
     
     @Override
     public void insert(Match match) {
-        String sql = "INSERT INTO matches (match_date, opponent, venue, competition, goals_for, " +
-                    "goals_against, match_status, attendance, weather, notes) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setTimestamp(1, match.getMatchDate());
-            pstmt.setString(2, match.getOpponent());
-            pstmt.setString(3, match.getVenue());
-            pstmt.setString(4, match.getCompetition());
-            pstmt.setInt(5, match.getGoalsFor());
-            pstmt.setInt(6, match.getGoalsAgainst());
-            pstmt.setString(7, match.getMatchStatus());
-            setNullableInt(pstmt, 8, match.getAttendance());
-            pstmt.setString(9, match.getWeather());
-            pstmt.setString(10, match.getNotes());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                match.setMatchId(generatedKeys.getInt(1));
+        try {
+            int matchId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, match));
+            if (matchId > 0) {
+                match.setMatchId(matchId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting match: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<Match> matches) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, matches, MatchDAOImpl::bindInsert, Match::setMatchId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting matches: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(Match match) {
-        String sql = "UPDATE matches SET match_date = ?, opponent = ?, venue = ?, competition = ?, " +
-                    "goals_for = ?, goals_against = ?, match_status = ?, attendance = ?, weather = ?, notes = ? " +
-                    "WHERE match_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setTimestamp(1, match.getMatchDate());
-            pstmt.setString(2, match.getOpponent());
-            pstmt.setString(3, match.getVenue());
-            pstmt.setString(4, match.getCompetition());
-            pstmt.setInt(5, match.getGoalsFor());
-            pstmt.setInt(6, match.getGoalsAgainst());
-            pstmt.setString(7, match.getMatchStatus());
-            setNullableInt(pstmt, 8, match.getAttendance());
-            pstmt.setString(9, match.getWeather());
-            pstmt.setString(10, match.getNotes());
-            pstmt.setInt(11, match.getMatchId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, match));
         } catch (SQLException e) {
             System.err.println("Error updating match: " + e.getMessage());
         }
     }
+
+    @Override
+    public void updateAll(Collection<Match> matches) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, matches, MatchDAOImpl::bindUpdate);
+        } catch (SQLException e) {
+            System.err.println("Error updating matches: " + e.getMessage());
+        }
+    }
     
     @Override
     public void delete(int matchId) {
         String sql = "DELETE FROM matches WHERE match_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, matchId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, matchId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting match: " + e.getMessage());
         }
@@ -121,12 +194,13 @@ public class MatchDAOImpl implements MatchDAO {
         String sql = "SELECT * FROM matches ORDER BY match_date";
         LocalDate today = LocalDate.now();
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
             while (rs.next()) {
-                Match match = extractMatchFromResultSet(rs);
+                Match match = mapper.map(rs);
                 Timestamp matchDate = match.getMatchDate();
                 String status = match.getMatchStatus();
                 if (status == null || !status.trim().equalsIgnoreCase("SCHEDULED")) {
@@ -154,12 +228,13 @@ public class MatchDAOImpl implements MatchDAO {
         List<Match> matches = new ArrayList<>();
         String sql = "SELECT * FROM matches WHERE match_status = 'COMPLETED' ORDER BY match_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
             while (rs.next()) {
-                matches.add(extractMatchFromResultSet(rs));
+                matches.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting completed matches: " + e.getMessage());
@@ -172,14 +247,15 @@ public class MatchDAOImpl implements MatchDAO {
         List<Match> matches = new ArrayList<>();
         String sql = "SELECT * FROM matches WHERE competition = ? ORDER BY match_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, competition);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
             while (rs.next()) {
-                matches.add(extractMatchFromResultSet(rs));
+                matches.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting matches by competition: " + e.getMessage());
@@ -192,15 +268,16 @@ public class MatchDAOImpl implements MatchDAO {
         List<Match> matches = new ArrayList<>();
         String sql = "SELECT * FROM matches WHERE match_date BETWEEN ? AND ? ORDER BY match_date";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setTimestamp(1, startDate);
-            pstmt.setTimestamp(2, endDate);
+            EpochDates.set(pstmt, 1, startDate);
+            EpochDates.set(pstmt, 2, endDate);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<Match> mapper = new MatchRowMapper(rs);
             while (rs.next()) {
-                matches.add(extractMatchFromResultSet(rs));
+                matches.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting matches in date range: " + e.getMessage());
@@ -208,23 +285,55 @@ public class MatchDAOImpl implements MatchDAO {
         return matches;
     }
     
-    private Match extractMatchFromResultSet(ResultSet rs) throws SQLException {
-        Match match = new Match();
-        match.setMatchId(rs.getInt("match_id"));
-        match.setMatchDate(rs.getTimestamp("match_date"));
-        match.setOpponent(rs.getString("opponent"));
-        match.setVenue(rs.getString("venue"));
-        match.setCompetition(rs.getString("competition"));
-        match.setGoalsFor(rs.getInt("goals_for"));
-        match.setGoalsAgainst(rs.getInt("goals_against"));
-        match.setMatchStatus(rs.getString("match_status"));
-        match.setAttendance(getNullableInt(rs, "attendance"));
-        match.setWeather(rs.getString("weather"));
-        match.setNotes(rs.getString("notes"));
-        return match;
-    }
-
-    private void setNullableInt(PreparedStatement pstmt, int index, Integer value) throws SQLException {
+    /**
+     * Reads matches rows by column index.
+     */
+    static final class MatchRowMapper implements RowMapper<Match> {
+        private final int matchId;
+        private final int matchDate;
+        private final int opponent;
+        private final int venue;
+        private final int competition;
+        private final int goalsFor;
+        private final int goalsAgainst;
+        private final int matchStatus;
+        private final int attendance;
+        private final int weather;
+        private final int notes;
+
+        MatchRowMapper(ResultSet rs) throws SQLException {
+            matchId = rs.findColumn("match_id");
+            matchDate = rs.findColumn("match_date");
+            opponent = rs.findColumn("opponent");
+            venue = rs.findColumn("venue");
+            competition = rs.findColumn("competition");
+            goalsFor = rs.findColumn("goals_for");
+            goalsAgainst = rs.findColumn("goals_against");
+            matchStatus = rs.findColumn("match_status");
+            attendance = rs.findColumn("attendance");
+            weather = rs.findColumn("weather");
+            notes = rs.findColumn("notes");
+        }
+
+        @Override
+        public Match map(ResultSet rs) throws SQLException {
+            Match match = new Match();
+            match.setMatchId(rs.getInt(matchId));
+            match.setMatchDate(EpochDates.getTimestamp(rs, matchDate));
+            match.setOpponent(rs.getString(opponent));
+            match.setVenue(rs.getString(venue));
+            match.setCompetition(rs.getString(competition));
+            match.setGoalsFor(rs.getInt(goalsFor));
+            match.setGoalsAgainst(rs.getInt(goalsAgainst));
+            match.setMatchStatus(rs.getString(matchStatus));
+            match.setAttendance(getNullableInt(rs, attendance));
+            match.setWeather(rs.getString(weather));
+            match.setNotes(rs.getString(notes));
+            return match;
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement pstmt, int index, Integer value) throws SQLException {
         if (value != null) {
             pstmt.setInt(index, value);
         } else {
@@ -232,8 +341,26 @@ public class MatchDAOImpl implements MatchDAO {
         }
     }
 
-    private Integer getNullableInt(ResultSet rs, String column) throws SQLException {
+    private static Integer getNullableInt(ResultSet rs, int column) throws SQLException {
         int value = rs.getInt(column);
         return rs.wasNull() ? null : value;
     }
+
+    private static void bindInsert(PreparedStatement pstmt, Match match) throws SQLException {
+        EpochDates.set(pstmt, 1, match.getMatchDate());
+        pstmt.setString(2, match.getOpponent());
+        pstmt.setString(3, match.getVenue());
+        pstmt.setString(4, match.getCompetition());
+        pstmt.setInt(5, match.getGoalsFor());
+        pstmt.setInt(6, match.getGoalsAgainst());
+        pstmt.setString(7, match.getMatchStatus());
+        setNullableInt(pstmt, 8, match.getAttendance());
+        pstmt.setString(9, match.getWeather());
+        pstmt.setString(10, match.getNotes());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, Match match) throws SQLException {
+        bindInsert(pstmt, match);
+        pstmt.setInt(11, match.getMatchId());
+    }
 }
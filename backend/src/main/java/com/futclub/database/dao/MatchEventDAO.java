@@ -1,16 +1,34 @@
 package com.futclub.database.dao;
 
 import com.futclub.model.MatchEvent;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MatchEventDAO {
     MatchEvent getById(int eventId);
     List<MatchEvent> getAll();
+
+    /**
+     * Streams every row in id order without loading the table into memory.
+     * The stream holds a database connection and must be closed.
+     */
+    Stream<MatchEvent> streamAll();
+
     void insert(MatchEvent event);
+    void insertAll(Collection<MatchEvent> events);
     void update(MatchEvent event);
+    void updateAll(Collection<MatchEvent> events);
     void delete(int eventId);
 
     List<MatchEvent> getByMatchId(int matchId);
     List<MatchEvent> getByMatchIdOrdered(int matchId);
+
+    /**
+     * Gets up to limit events of a match in timeline order that come after the
+     * given event. Pass -1 as the minute for the first page.
+     */
+    List<MatchEvent> page(int matchId, int afterMinute, int afterSecond, int afterId, int limit);
+
     List<MatchEvent> getByEventType(String eventType);
 }
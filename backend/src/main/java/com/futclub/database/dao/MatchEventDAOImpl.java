@@ -1,23 +1,36 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.RowStream;
+import com.futclub.database.WriteQueue;
+import com.futclub.database.exception.DAOException;
 import com.futclub.model.MatchEvent;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class MatchEventDAOImpl implements MatchEventDAO {
 
+    private static final String INSERT_SQL = "INSERT INTO match_events (match_id, player_id, event_type, minute, second, description) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE match_events SET match_id = ?, player_id = ?, event_type = ?, minute = ?, " +
+            "second = ?, description = ? WHERE event_id = ?";
+
     @Override
     public MatchEvent getById(int eventId) {
         String sql = "SELECT * FROM match_events WHERE event_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, eventId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
-                return extractFromResultSet(rs);
+                return new MatchEventRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting match event by ID: " + e.getMessage());
@@ -30,12 +43,13 @@ public class MatchEventDAOImpl implements MatchEventDAO {
         List<MatchEvent> events = new ArrayList<>();
         String sql = "SELECT * FROM match_events ORDER BY recorded_at";
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
 
+            RowMapper<MatchEvent> mapper = new MatchEventRowMapper(rs);
             while (rs.next()) {
-                events.add(extractFromResultSet(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all match events: " + e.getMessage());
@@ -44,29 +58,21 @@ public class MatchEventDAOImpl implements MatchEventDAO {
     }
 
     @Override
-    public void insert(MatchEvent event) {
-        String sql = "INSERT INTO match_events (match_id, player_id, event_type, minute, second, description) " +
-                "VALUES (?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            pstmt.setInt(1, event.getMatchId());
-            if (event.getPlayerId() == null) {
-                pstmt.setNull(2, Types.INTEGER);
-            } else {
-                pstmt.setInt(2, event.getPlayerId());
-            }
-            pstmt.setString(3, event.getEventType());
-            pstmt.setInt(4, event.getMinute());
-            pstmt.setInt(5, event.getSecond());
-            pstmt.setString(6, event.getDescription());
-
-            pstmt.executeUpdate();
+    public Stream<MatchEvent> streamAll() {
+        try {
+            return RowStream.open("SELECT * FROM match_events ORDER BY event_id", MatchEventRowMapper::new);
+        } catch (DAOException e) {
+            System.err.println("Error streaming all match events: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
 
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                event.setEventId(generatedKeys.getInt(1));
+    @Override
+    public void insert(MatchEvent event) {
+        try {
+            int eventId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, event));
+            if (eventId > 0) {
+                event.setEventId(eventId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting match event: " + e.getMessage());
@@ -74,39 +80,39 @@ public class MatchEventDAOImpl implements MatchEventDAO {
     }
 
     @Override
-    public void update(MatchEvent event) {
-        String sql = "UPDATE match_events SET match_id = ?, player_id = ?, event_type = ?, minute = ?, " +
-                "second = ?, description = ? WHERE event_id = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, event.getMatchId());
-            if (event.getPlayerId() == null) {
-                pstmt.setNull(2, Types.INTEGER);
-            } else {
-                pstmt.setInt(2, event.getPlayerId());
-            }
-            pstmt.setString(3, event.getEventType());
-            pstmt.setInt(4, event.getMinute());
-            pstmt.setInt(5, event.getSecond());
-            pstmt.setString(6, event.getDescription());
-            pstmt.setInt(7, event.getEventId());
+    public void insertAll(Collection<MatchEvent> events) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, events, MatchEventDAOImpl::bindInsert, MatchEvent::setEventId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting match events: " + e.getMessage());
+        }
+    }
 
-            pstmt.executeUpdate();
+    @Override
+    public void update(MatchEvent event) {
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, event));
         } catch (SQLException e) {
             System.err.println("Error updating match event: " + e.getMessage());
         }
     }
 
+    @Override
+    public void updateAll(Collection<MatchEvent> events) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, events, MatchEventDAOImpl::bindUpdate);
+        } catch (SQLException e) {
+            System.err.println("Error updating match events: " + e.getMessage());
+        }
+    }
+
     @Override
     public void delete(int eventId) {
         String sql = "DELETE FROM match_events WHERE event_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, eventId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, eventId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting match event: " + e.getMessage());
         }
@@ -117,13 +123,14 @@ public class MatchEventDAOImpl implements MatchEventDAO {
         List<MatchEvent> events = new ArrayList<>();
         String sql = "SELECT * FROM match_events WHERE match_id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, matchId);
             ResultSet rs = pstmt.executeQuery();
+            RowMapper<MatchEvent> mapper = new MatchEventRowMapper(rs);
             while (rs.next()) {
-                events.add(extractFromResultSet(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting match events by match: " + e.getMessage());
@@ -136,13 +143,14 @@ public class MatchEventDAOImpl implements MatchEventDAO {
         List<MatchEvent> events = new ArrayList<>();
         String sql = "SELECT * FROM match_events WHERE match_id = ? ORDER BY minute, second";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, matchId);
             ResultSet rs = pstmt.executeQuery();
+            RowMapper<MatchEvent> mapper = new MatchEventRowMapper(rs);
             while (rs.next()) {
-                events.add(extractFromResultSet(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting ordered match events: " + e.getMessage());
@@ -150,18 +158,44 @@ public class MatchEventDAOImpl implements MatchEventDAO {
         return events;
     }
 
+    @Override
+    public List<MatchEvent> page(int matchId, int afterMinute, int afterSecond, int afterId, int limit) {
+        List<MatchEvent> events = new ArrayList<>();
+        String sql = "SELECT * FROM match_events WHERE match_id = ? AND (minute, second, event_id) > (?, ?, ?) " +
+                "ORDER BY minute, second, event_id LIMIT ?";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, matchId);
+            pstmt.setInt(2, afterMinute);
+            pstmt.setInt(3, afterSecond);
+            pstmt.setInt(4, afterId);
+            pstmt.setInt(5, limit);
+            ResultSet rs = pstmt.executeQuery();
+            RowMapper<MatchEvent> mapper = new MatchEventRowMapper(rs);
+            while (rs.next()) {
+                events.add(mapper.map(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting page of match events: " + e.getMessage());
+        }
+        return events;
+    }
+
     @Override
     public List<MatchEvent> getByEventType(String eventType) {
         List<MatchEvent> events = new ArrayList<>();
         String sql = "SELECT * FROM match_events WHERE event_type = ? ORDER BY recorded_at";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, eventType);
             ResultSet rs = pstmt.executeQuery();
+            RowMapper<MatchEvent> mapper = new MatchEventRowMapper(rs);
             while (rs.next()) {
-                events.add(extractFromResultSet(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting match events by type: " + e.getMessage());
@@ -169,19 +203,63 @@ public class MatchEventDAOImpl implements MatchEventDAO {
         return events;
     }
 
-    private MatchEvent extractFromResultSet(ResultSet rs) throws SQLException {
-        MatchEvent event = new MatchEvent();
-        event.setEventId(rs.getInt("event_id"));
-        event.setMatchId(rs.getInt("match_id"));
-        int playerId = rs.getInt("player_id");
-        if (!rs.wasNull()) {
-            event.setPlayerId(playerId);
+    /**
+     * Reads match_events rows by column index.
+     */
+    static final class MatchEventRowMapper implements RowMapper<MatchEvent> {
+        private final int eventId;
+        private final int matchId;
+        private final int playerId;
+        private final int eventType;
+        private final int minute;
+        private final int second;
+        private final int description;
+        private final int recordedAt;
+
+        MatchEventRowMapper(ResultSet rs) throws SQLException {
+            eventId = rs.findColumn("event_id");
+            matchId = rs.findColumn("match_id");
+            playerId = rs.findColumn("player_id");
+            eventType = rs.findColumn("event_type");
+            minute = rs.findColumn("minute");
+            second = rs.findColumn("second");
+            description = rs.findColumn("description");
+            recordedAt = rs.findColumn("recorded_at");
         }
-        event.setEventType(rs.getString("event_type"));
-        event.setMinute(rs.getInt("minute"));
-        event.setSecond(rs.getInt("second"));
-        event.setDescription(rs.getString("description"));
-        event.setRecordedAt(rs.getTimestamp("recorded_at"));
-        return event;
+
+        @Override
+        public MatchEvent map(ResultSet rs) throws SQLException {
+            MatchEvent event = new MatchEvent();
+            event.setEventId(rs.getInt(eventId));
+            event.setMatchId(rs.getInt(matchId));
+            int player = rs.getInt(playerId);
+            if (!rs.wasNull()) {
+                event.setPlayerId(player);
+            }
+            event.setEventType(rs.getString(eventType));
+            event.setMinute(rs.getInt(minute));
+            event.setSecond(rs.getInt(second));
+            event.setDescription(rs.getString(description));
+            event.setRecordedAt(EpochDates.getTimestamp(rs, recordedAt));
+            return event;
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, MatchEvent event) throws SQLException {
+        pstmt.setInt(1, event.getMatchId());
+        if (event.getPlayerId() == null) {
+            pstmt.setNull(2, Types.INTEGER);
+        } else {
+            pstmt.setInt(2, event.getPlayerId());
+        }
+        pstmt.setString(3, event.getEventType());
+        pstmt.setInt(4, event.getMinute());
+        pstmt.setInt(5, event.getSecond());
+        pstmt.setString(6, event.getDescription());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, MatchEvent event) throws SQLException {
+        bindInsert(pstmt, event);
+        pstmt.setInt(7, event.getEventId());
     }
 }
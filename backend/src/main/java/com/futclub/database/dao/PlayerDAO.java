@@ -1,13 +1,38 @@
 package com.futclub.database.dao;
 
 import com.futclub.model.Player;
+import com.futclub.model.PlayerSummary;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PlayerDAO {
     Player getById(int playerId);
+
+    /**
+     * Gets the players with the given ids, keyed by id, in a fixed number of
+     * queries. Ids without a row are left out of the map.
+     */
+    Map<Integer, Player> getByIds(Collection<Integer> ids);
+
     List<Player> getAll();
+
+    /**
+     * Gets id, name, shirt number, position and status of every player in
+     * shirt-number order, read from a covering index.
+     */
+    List<PlayerSummary> getSummaries();
+
+    /**
+     * Gets up to limit players in shirt-number order that come after the given
+     * player; players without a number sort as 0. Pass -1 for the first page.
+     */
+    List<Player> page(int afterShirtNumber, int afterId, int limit);
+
     void insert(Player player);
+    void insertAll(Collection<Player> players);
     void update(Player player);
+    void updateAll(Collection<Player> players);
     void delete(int playerId);
     
     List<Player> getByPosition(String position);
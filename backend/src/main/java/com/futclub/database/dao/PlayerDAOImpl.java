@@ -1,134 +1,176 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.WriteQueue;
 import com.futclub.model.Player;
+import com.futclub.model.PlayerSummary;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class PlayerDAOImpl implements PlayerDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO players (first_name, last_name, date_of_birth, position, " +
+            "shirt_number, status, overall_rating, fitness_level, injury_details, " +
+            "joined_date, contract_end, nationality, height_cm, weight_kg, preferred_foot) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE players SET first_name = ?, last_name = ?, date_of_birth = ?, " +
+            "position = ?, shirt_number = ?, status = ?, overall_rating = ?, " +
+            "fitness_level = ?, injury_details = ?, joined_date = ?, contract_end = ?, " +
+            "nationality = ?, height_cm = ?, weight_kg = ?, preferred_foot = ? " +
+            "WHERE player_id = ?";
     
     @Override
     public Player getById(int playerId) {
         String sql = "SELECT * FROM players WHERE player_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractPlayerFromResultSet(rs);
+                return new PlayerRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting player by ID: " + e.getMessage());
         }
         return null;
     }
+
+    @Override
+    public Map<Integer, Player> getByIds(Collection<Integer> ids) {
+        try {
+            return IdLookup.byIds("players", "player_id", ids, PlayerRowMapper::new, Player::getPlayerId);
+        } catch (SQLException e) {
+            System.err.println("Error getting players by IDs: " + e.getMessage());
+        }
+        return Collections.emptyMap();
+    }
     
     @Override
     public List<Player> getAll() {
         List<Player> players = new ArrayList<>();
         String sql = "SELECT * FROM players ORDER BY shirt_number";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<Player> mapper = new PlayerRowMapper(rs);
             while (rs.next()) {
-                players.add(extractPlayerFromResultSet(rs));
+                players.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all players: " + e.getMessage());
         }
         return players;
     }
+
+    @Override
+    public List<PlayerSummary> getSummaries() {
+        List<PlayerSummary> summaries = new ArrayList<>();
+        String sql = "SELECT player_id, TRIM(IFNULL(first_name, '') || ' ' || IFNULL(last_name, '')) AS name, " +
+                    "shirt_number, position, status FROM players ORDER BY shirt_number";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                summaries.add(new PlayerSummary(
+                        rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getString(4), rs.getString(5)));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting player summaries: " + e.getMessage());
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<Player> page(int afterShirtNumber, int afterId, int limit) {
+        List<Player> players = new ArrayList<>();
+        // The plain range on the index expression lets SQLite seek instead of scan.
+        String sql = "SELECT * FROM players WHERE IFNULL(shirt_number, 0) >= ? " +
+                    "AND (IFNULL(shirt_number, 0), player_id) > (?, ?) " +
+                    "ORDER BY IFNULL(shirt_number, 0), player_id LIMIT ?";
+
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, afterShirtNumber);
+            pstmt.setInt(2, afterShirtNumber);
+            pstmt.setInt(3, afterId);
+            pstmt.setInt(4, limit);
+            ResultSet rs = pstmt.executeQuery();
+
+            RowMapper<Player> mapper = new PlayerRowMapper(rs);
+            while (rs.next()) {
+                players.add(mapper.map(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Error getting page of players: " + e.getMessage());
+        }
+        return players;
+    }
     
     @Override
     public void insert(Player player) {
-        String sql = "INSERT INTO players (first_name, last_name, date_of_birth, position, " +
-                    "shirt_number, status, overall_rating, fitness_level, injury_details, " +
-                    "joined_date, contract_end, nationality, height_cm, weight_kg, preferred_foot) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, player.getFirstName());
-            pstmt.setString(2, player.getLastName());
-            pstmt.setDate(3, player.getDateOfBirth());
-            pstmt.setString(4, player.getPosition());
-            pstmt.setInt(5, player.getShirtNumber());
-            pstmt.setString(6, player.getStatus());
-            pstmt.setInt(7, player.getOverallRating());
-            pstmt.setInt(8, player.getFitnessLevel());
-            pstmt.setString(9, player.getInjuryDetails());
-            pstmt.setDate(10, player.getJoinedDate());
-            pstmt.setDate(11, player.getContractEnd());
-            pstmt.setString(12, player.getNationality());
-            setNullableInt(pstmt, 13, player.getHeightCm());
-            setNullableInt(pstmt, 14, player.getWeightKg());
-            pstmt.setString(15, player.getPreferredFoot());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                player.setPlayerId(generatedKeys.getInt(1));
+        try {
+            int playerId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, player));
+            if (playerId > 0) {
+                player.setPlayerId(playerId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting player: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<Player> players) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, players, PlayerDAOImpl::bindInsert, Player::setPlayerId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting players: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(Player player) {
-        String sql = "UPDATE players SET first_name = ?, last_name = ?, date_of_birth = ?, " +
-                    "position = ?, shirt_number = ?, status = ?, overall_rating = ?, " +
-                    "fitness_level = ?, injury_details = ?, joined_date = ?, contract_end = ?, " +
-                    "nationality = ?, height_cm = ?, weight_kg = ?, preferred_foot = ? " +
-                    "WHERE player_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, player.getFirstName());
-            pstmt.setString(2, player.getLastName());
-            pstmt.setDate(3, player.getDateOfBirth());
-            pstmt.setString(4, player.getPosition());
-            pstmt.setInt(5, player.getShirtNumber());
-            pstmt.setString(6, player.getStatus());
-            pstmt.setInt(7, player.getOverallRating());
-            pstmt.setInt(8, player.getFitnessLevel());
-            pstmt.setString(9, player.getInjuryDetails());
-            pstmt.setDate(10, player.getJoinedDate());
-            pstmt.setDate(11, player.getContractEnd());
-            pstmt.setString(12, player.getNationality());
-            setNullableInt(pstmt, 13, player.getHeightCm());
-            setNullableInt(pstmt, 14, player.getWeightKg());
-            pstmt.setString(15, player.getPreferredFoot());
-            pstmt.setInt(16, player.getPlayerId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, player));
         } catch (SQLException e) {
             System.err.println("Error updating player: " + e.getMessage());
         }
     }
+
+    @Override
+    public void updateAll(Collection<Player> players) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, players, PlayerDAOImpl::bindUpdate);
+        } catch (SQLException e) {
+            System.err.println("Error updating players: " + e.getMessage());
+        }
+    }
     
     @Override
     public void delete(int playerId) {
         String sql = "DELETE FROM players WHERE player_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, playerId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, playerId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting player: " + e.getMessage());
         }
@@ -139,14 +181,15 @@ public class PlayerDAOImpl implements PlayerDAO {
         List<Player> players = new ArrayList<>();
         String sql = "SELECT * FROM players WHERE position = ? ORDER BY overall_rating DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, position);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<Player> mapper = new PlayerRowMapper(rs);
             while (rs.next()) {
-                players.add(extractPlayerFromResultSet(rs));
+                players.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting players by position: " + e.getMessage());
@@ -159,14 +202,15 @@ public class PlayerDAOImpl implements PlayerDAO {
         List<Player> players = new ArrayList<>();
         String sql = "SELECT * FROM players WHERE status = ? ORDER BY shirt_number";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, status);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<Player> mapper = new PlayerRowMapper(rs);
             while (rs.next()) {
-                players.add(extractPlayerFromResultSet(rs));
+                players.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting players by status: " + e.getMessage());
@@ -177,14 +221,14 @@ public class PlayerDAOImpl implements PlayerDAO {
     @Override
     public Player getByShirtNumber(int shirtNumber) {
         String sql = "SELECT * FROM players WHERE shirt_number = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, shirtNumber);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractPlayerFromResultSet(rs);
+                return new PlayerRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting player by shirt number: " + e.getMessage());
@@ -202,28 +246,70 @@ public class PlayerDAOImpl implements PlayerDAO {
         return getByStatus("INJURED");
     }
     
-    private Player extractPlayerFromResultSet(ResultSet rs) throws SQLException {
-        Player player = new Player();
-        player.setPlayerId(rs.getInt("player_id"));
-        player.setFirstName(rs.getString("first_name"));
-        player.setLastName(rs.getString("last_name"));
-        player.setDateOfBirth(getDate(rs, "date_of_birth"));
-        player.setPosition(rs.getString("position"));
-        player.setShirtNumber(rs.getInt("shirt_number"));
-        player.setStatus(rs.getString("status"));
-        player.setOverallRating(rs.getInt("overall_rating"));
-        player.setFitnessLevel(rs.getInt("fitness_level"));
-        player.setInjuryDetails(rs.getString("injury_details"));
-        player.setJoinedDate(getNullableDate(rs, "joined_date"));
-        player.setContractEnd(getNullableDate(rs, "contract_end"));
-        player.setNationality(rs.getString("nationality"));
-        player.setHeightCm(getNullableInt(rs, "height_cm"));
-        player.setWeightKg(getNullableInt(rs, "weight_kg"));
-        player.setPreferredFoot(rs.getString("preferred_foot"));
-        return player;
+    /**
+     * Reads players rows by column index.
+     */
+    static final class PlayerRowMapper implements RowMapper<Player> {
+        private final int playerId;
+        private final int firstName;
+        private final int lastName;
+        private final int dateOfBirth;
+        private final int position;
+        private final int shirtNumber;
+        private final int status;
+        private final int overallRating;
+        private final int fitnessLevel;
+        private final int injuryDetails;
+        private final int joinedDate;
+        private final int contractEnd;
+        private final int nationality;
+        private final int heightCm;
+        private final int weightKg;
+        private final int preferredFoot;
+
+        PlayerRowMapper(ResultSet rs) throws SQLException {
+            playerId = rs.findColumn("player_id");
+            firstName = rs.findColumn("first_name");
+            lastName = rs.findColumn("last_name");
+            dateOfBirth = rs.findColumn("date_of_birth");
+            position = rs.findColumn("position");
+            shirtNumber = rs.findColumn("shirt_number");
+            status = rs.findColumn("status");
+            overallRating = rs.findColumn("overall_rating");
+            fitnessLevel = rs.findColumn("fitness_level");
+            injuryDetails = rs.findColumn("injury_details");
+            joinedDate = rs.findColumn("joined_date");
+            contractEnd = rs.findColumn("contract_end");
+            nationality = rs.findColumn("nationality");
+            heightCm = rs.findColumn("height_cm");
+            weightKg = rs.findColumn("weight_kg");
+            preferredFoot = rs.findColumn("preferred_foot");
+        }
+
+        @Override
+        public Player map(ResultSet rs) throws SQLException {
+            Player player = new Player();
+            player.setPlayerId(rs.getInt(playerId));
+            player.setFirstName(rs.getString(firstName));
+            player.setLastName(rs.getString(lastName));
+            player.setDateOfBirth(getDate(rs, dateOfBirth));
+            player.setPosition(rs.getString(position));
+            player.setShirtNumber(rs.getInt(shirtNumber));
+            player.setStatus(rs.getString(status));
+            player.setOverallRating(rs.getInt(overallRating));
+            player.setFitnessLevel(rs.getInt(fitnessLevel));
+            player.setInjuryDetails(rs.getString(injuryDetails));
+            player.setJoinedDate(EpochDates.getDate(rs, joinedDate));
+            player.setContractEnd(EpochDates.getDate(rs, contractEnd));
+            player.setNationality(rs.getString(nationality));
+            player.setHeightCm(getNullableInt(rs, heightCm));
+            player.setWeightKg(getNullableInt(rs, weightKg));
+            player.setPreferredFoot(rs.getString(preferredFoot));
+            return player;
+        }
     }
 
-    private void setNullableInt(PreparedStatement pstmt, int index, Integer value) throws SQLException {
+    private static void setNullableInt(PreparedStatement pstmt, int index, Integer value) throws SQLException {
         if (value != null) {
             pstmt.setInt(index, value);
         } else {
@@ -231,44 +317,40 @@ public class PlayerDAOImpl implements PlayerDAO {
         }
     }
 
-    private Integer getNullableInt(ResultSet rs, String column) throws SQLException {
+    private static Integer getNullableInt(ResultSet rs, int column) throws SQLException {
         int value = rs.getInt(column);
         return rs.wasNull() ? null : value;
     }
 
-    private Date getDate(ResultSet rs, String column) throws SQLException {
-        Date date = getNullableDate(rs, column);
+    private static Date getDate(ResultSet rs, int column) throws SQLException {
+        Date date = EpochDates.getDate(rs, column);
         if (date == null) {
-            throw new SQLException("Column " + column + " returned null where a value was expected");
+            throw new SQLException("Column " + rs.getMetaData().getColumnName(column) + " returned null where a value was expected");
         }
         return date;
     }
 
-    private Date getNullableDate(ResultSet rs, String column) throws SQLException {
-        String raw = rs.getString(column);
-        if (raw == null || raw.isBlank()) {
-            return null;
-        }
-
-        String normalized = raw.trim();
-        if (normalized.chars().allMatch(Character::isDigit)) {
-            try {
-                long epochMillis = Long.parseLong(normalized);
-                return new Date(epochMillis);
-            } catch (NumberFormatException ex) {
-                throw new SQLException("Failed to parse epoch millis '" + raw + "' for column " + column, ex);
-            }
-        }
-
-        int spaceIdx = normalized.indexOf(' ');
-        if (spaceIdx > 0) {
-            normalized = normalized.substring(0, spaceIdx);
-        }
+    private static void bindInsert(PreparedStatement pstmt, Player player) throws SQLException {
+        pstmt.setString(1, player.getFirstName());
+        pstmt.setString(2, player.getLastName());
+        EpochDates.set(pstmt, 3, player.getDateOfBirth());
+        pstmt.setString(4, player.getPosition());
+        // 0 means no shirt number; the column only accepts 1-99 or NULL.
+        setNullableInt(pstmt, 5, player.getShirtNumber() > 0 ? player.getShirtNumber() : null);
+        pstmt.setString(6, player.getStatus());
+        pstmt.setInt(7, player.getOverallRating());
+        pstmt.setInt(8, player.getFitnessLevel());
+        pstmt.setString(9, player.getInjuryDetails());
+        EpochDates.set(pstmt, 10, player.getJoinedDate());
+        EpochDates.set(pstmt, 11, player.getContractEnd());
+        pstmt.setString(12, player.getNationality());
+        setNullableInt(pstmt, 13, player.getHeightCm());
+        setNullableInt(pstmt, 14, player.getWeightKg());
+        pstmt.setString(15, player.getPreferredFoot());
+    }
 
-        try {
-            return Date.valueOf(normalized);
-        } catch (IllegalArgumentException ex) {
-            throw new SQLException("Failed to parse date value '" + raw + "' for column " + column, ex);
-        }
+    private static void bindUpdate(PreparedStatement pstmt, Player player) throws SQLException {
+        bindInsert(pstmt, player);
+        pstmt.setInt(16, player.getPlayerId());
     }
 }
@@ -1,13 +1,26 @@
 package com.futclub.database.dao;
 
+import com.futclub.model.LeaderboardEntry;
+import com.futclub.model.LeaderboardFilter;
 import com.futclub.model.PlayerMatchStats;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlayerMatchStatsDAO {
     PlayerMatchStats getById(int statsId);
     List<PlayerMatchStats> getAll();
+
+    /**
+     * Streams every row in id order without loading the table into memory.
+     * The stream holds a database connection and must be closed.
+     */
+    Stream<PlayerMatchStats> streamAll();
+
     void insert(PlayerMatchStats stats);
+    void insertAll(Collection<PlayerMatchStats> statsList);
     void update(PlayerMatchStats stats);
+    void updateAll(Collection<PlayerMatchStats> statsList);
     void delete(int statsId);
 
     List<PlayerMatchStats> getByMatchId(int matchId);
@@ -15,4 +28,16 @@ public interface PlayerMatchStatsDAO {
     PlayerMatchStats getByPlayerAndMatch(int playerId, int matchId);
     List<PlayerMatchStats> getTopScorers(int limit);
     List<PlayerMatchStats> getTopRatedPlayers(int limit);
+
+    /**
+     * Get the players with the most goals in the matches the filter keeps,
+     * with their names and positions.
+     */
+    List<LeaderboardEntry> getScoringLeaders(LeaderboardFilter filter, int limit);
+
+    /**
+     * Get the players with the best average rating over appearances with
+     * minutes played in the matches the filter keeps.
+     */
+    List<LeaderboardEntry> getRatingLeaders(LeaderboardFilter filter, int limit);
 }
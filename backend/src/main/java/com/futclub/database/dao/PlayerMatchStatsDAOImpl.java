@@ -1,24 +1,60 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.RowStream;
+import com.futclub.database.WriteQueue;
+import com.futclub.database.exception.DAOException;
+import com.futclub.model.LeaderboardEntry;
+import com.futclub.model.LeaderboardFilter;
 import com.futclub.model.PlayerMatchStats;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO player_match_stats (player_id, match_id, minutes_played, goals, assists, " +
+            "rating, shots, shots_on_target, passes_completed, passes_attempted, tackles, interceptions, " +
+            "yellow_cards, red_cards, fouls_committed, fouls_won, was_starter) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE player_match_stats SET player_id = ?, match_id = ?, minutes_played = ?, goals = ?, " +
+            "assists = ?, rating = ?, shots = ?, shots_on_target = ?, passes_completed = ?, " +
+            "passes_attempted = ?, tackles = ?, interceptions = ?, yellow_cards = ?, red_cards = ?, " +
+            "fouls_committed = ?, fouls_won = ?, was_starter = ? WHERE stats_id = ?";
+
+    private static final String LEADER_IDENTITY = "SELECT p.player_id, " +
+            "TRIM(IFNULL(p.first_name, '') || ' ' || IFNULL(p.last_name, '')) AS name, " +
+            "IFNULL(p.shirt_number, 0) AS shirt_number, p.position, ";
+
+    /** Season leaders read straight from player_totals in index order. */
+    private static final String TOTALS_LEADERS_SQL = LEADER_IDENTITY +
+            "t.appearances, t.goals AS total_goals, t.assists AS total_assists, " +
+            "IFNULL(t.average_rating, 0) AS average_rating " +
+            "FROM player_totals t JOIN players p ON p.player_id = t.player_id ";
+
+    /** Filtered leaders aggregate the stats of the matching matches only. */
+    private static final String FILTERED_LEADERS_SQL = LEADER_IDENTITY +
+            "COUNT(*) AS appearances, SUM(s.goals) AS total_goals, SUM(s.assists) AS total_assists, " +
+            "IFNULL(AVG(IIF(s.minutes_played > 0, s.rating, NULL)), 0) AS average_rating " +
+            "FROM matches m JOIN player_match_stats s ON s.match_id = m.match_id " +
+            "JOIN players p ON p.player_id = s.player_id ";
     
     @Override
     public PlayerMatchStats getById(int statsId) {
         String sql = "SELECT * FROM player_match_stats WHERE stats_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, statsId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractStatsFromResultSet(rs);
+                return new StatsRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting player match stats by ID: " + e.getMessage());
@@ -31,88 +67,64 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
         List<PlayerMatchStats> statsList = new ArrayList<>();
         String sql = "SELECT * FROM player_match_stats ORDER BY stats_id";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<PlayerMatchStats> mapper = new StatsRowMapper(rs);
             while (rs.next()) {
-                statsList.add(extractStatsFromResultSet(rs));
+                statsList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all player match stats: " + e.getMessage());
         }
         return statsList;
     }
+
+    @Override
+    public Stream<PlayerMatchStats> streamAll() {
+        try {
+            return RowStream.open("SELECT * FROM player_match_stats ORDER BY stats_id", StatsRowMapper::new);
+        } catch (DAOException e) {
+            System.err.println("Error streaming all player match stats: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
     
     @Override
     public void insert(PlayerMatchStats stats) {
-        String sql = "INSERT INTO player_match_stats (player_id, match_id, minutes_played, goals, assists, " +
-                    "rating, shots, shots_on_target, passes_completed, passes_attempted, tackles, interceptions, " +
-                    "yellow_cards, red_cards, fouls_committed, fouls_won, was_starter) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setInt(1, stats.getPlayerId());
-            pstmt.setInt(2, stats.getMatchId());
-            pstmt.setInt(3, stats.getMinutesPlayed());
-            pstmt.setInt(4, stats.getGoals());
-            pstmt.setInt(5, stats.getAssists());
-            pstmt.setDouble(6, stats.getRating());
-            pstmt.setInt(7, stats.getShots());
-            pstmt.setInt(8, stats.getShotsOnTarget());
-            pstmt.setInt(9, stats.getPassesCompleted());
-            pstmt.setInt(10, stats.getPassesAttempted());
-            pstmt.setInt(11, stats.getTackles());
-            pstmt.setInt(12, stats.getInterceptions());
-            pstmt.setInt(13, stats.getYellowCards());
-            pstmt.setInt(14, stats.getRedCards());
-            pstmt.setInt(15, stats.getFoulsCommitted());
-            pstmt.setInt(16, stats.getFoulsWon());
-            pstmt.setBoolean(17, stats.isWasStarter());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                stats.setStatsId(generatedKeys.getInt(1));
+        try {
+            int statsId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, stats));
+            if (statsId > 0) {
+                stats.setStatsId(statsId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting player match stats: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<PlayerMatchStats> statsList) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, statsList, PlayerMatchStatsDAOImpl::bindInsert, PlayerMatchStats::setStatsId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting player match stats: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(PlayerMatchStats stats) {
-        String sql = "UPDATE player_match_stats SET player_id = ?, match_id = ?, minutes_played = ?, goals = ?, " +
-                    "assists = ?, rating = ?, shots = ?, shots_on_target = ?, passes_completed = ?, " +
-                    "passes_attempted = ?, tackles = ?, interceptions = ?, yellow_cards = ?, red_cards = ?, " +
-                    "fouls_committed = ?, fouls_won = ?, was_starter = ? WHERE stats_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, stats.getPlayerId());
-            pstmt.setInt(2, stats.getMatchId());
-            pstmt.setInt(3, stats.getMinutesPlayed());
-            pstmt.setInt(4, stats.getGoals());
-            pstmt.setInt(5, stats.getAssists());
-            pstmt.setDouble(6, stats.getRating());
-            pstmt.setInt(7, stats.getShots());
-            pstmt.setInt(8, stats.getShotsOnTarget());
-            pstmt.setInt(9, stats.getPassesCompleted());
-            pstmt.setInt(10, stats.getPassesAttempted());
-            pstmt.setInt(11, stats.getTackles());
-            pstmt.setInt(12, stats.getInterceptions());
-            pstmt.setInt(13, stats.getYellowCards());
-            pstmt.setInt(14, stats.getRedCards());
-            pstmt.setInt(15, stats.getFoulsCommitted());
-            pstmt.setInt(16, stats.getFoulsWon());
-            pstmt.setBoolean(17, stats.isWasStarter());
-            pstmt.setInt(18, stats.getStatsId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, stats));
+        } catch (SQLException e) {
+            System.err.println("Error updating player match stats: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<PlayerMatchStats> statsList) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, statsList, PlayerMatchStatsDAOImpl::bindUpdate);
         } catch (SQLException e) {
             System.err.println("Error updating player match stats: " + e.getMessage());
         }
@@ -121,11 +133,10 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
     @Override
     public void delete(int statsId) {
         String sql = "DELETE FROM player_match_stats WHERE stats_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, statsId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, statsId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting player match stats: " + e.getMessage());
         }
@@ -136,14 +147,15 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
         List<PlayerMatchStats> statsList = new ArrayList<>();
         String sql = "SELECT * FROM player_match_stats WHERE match_id = ? ORDER BY player_id";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, matchId);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<PlayerMatchStats> mapper = new StatsRowMapper(rs);
             while (rs.next()) {
-                statsList.add(extractStatsFromResultSet(rs));
+                statsList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting stats by match: " + e.getMessage());
@@ -156,14 +168,15 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
         List<PlayerMatchStats> statsList = new ArrayList<>();
         String sql = "SELECT * FROM player_match_stats WHERE player_id = ? ORDER BY match_id DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<PlayerMatchStats> mapper = new StatsRowMapper(rs);
             while (rs.next()) {
-                statsList.add(extractStatsFromResultSet(rs));
+                statsList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting stats by player: " + e.getMessage());
@@ -174,7 +187,7 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
     @Override
     public PlayerMatchStats getByPlayerAndMatch(int playerId, int matchId) {
         String sql = "SELECT * FROM player_match_stats WHERE player_id = ? AND match_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, playerId);
@@ -182,7 +195,7 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractStatsFromResultSet(rs);
+                return new StatsRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting stats by player and match: " + e.getMessage());
@@ -193,10 +206,11 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
     @Override
     public List<PlayerMatchStats> getTopScorers(int limit) {
         List<PlayerMatchStats> statsList = new ArrayList<>();
-        String sql = "SELECT player_id, SUM(goals) as total_goals FROM player_match_stats " +
-                    "GROUP BY player_id ORDER BY total_goals DESC LIMIT ?";
+        // player_totals is kept current by triggers; the index yields rows in order
+        String sql = "SELECT player_id, goals AS total_goals FROM player_totals " +
+                    "ORDER BY goals DESC, player_id LIMIT ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, limit);
@@ -217,10 +231,10 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
     @Override
     public List<PlayerMatchStats> getTopRatedPlayers(int limit) {
         List<PlayerMatchStats> statsList = new ArrayList<>();
-        String sql = "SELECT player_id, AVG(rating) as avg_rating FROM player_match_stats " +
-                    "WHERE minutes_played > 0 GROUP BY player_id ORDER BY avg_rating DESC LIMIT ?";
+        String sql = "SELECT player_id, average_rating AS avg_rating FROM player_totals " +
+                    "WHERE rating_count > 0 ORDER BY average_rating DESC, player_id LIMIT ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, limit);
@@ -238,26 +252,166 @@ public class PlayerMatchStatsDAOImpl implements PlayerMatchStatsDAO {
         return statsList;
     }
     
-    private PlayerMatchStats extractStatsFromResultSet(ResultSet rs) throws SQLException {
-        PlayerMatchStats stats = new PlayerMatchStats();
-        stats.setStatsId(rs.getInt("stats_id"));
-        stats.setPlayerId(rs.getInt("player_id"));
-        stats.setMatchId(rs.getInt("match_id"));
-        stats.setMinutesPlayed(rs.getInt("minutes_played"));
-        stats.setGoals(rs.getInt("goals"));
-        stats.setAssists(rs.getInt("assists"));
-        stats.setRating(rs.getDouble("rating"));
-        stats.setShots(rs.getInt("shots"));
-        stats.setShotsOnTarget(rs.getInt("shots_on_target"));
-        stats.setPassesCompleted(rs.getInt("passes_completed"));
-        stats.setPassesAttempted(rs.getInt("passes_attempted"));
-        stats.setTackles(rs.getInt("tackles"));
-        stats.setInterceptions(rs.getInt("interceptions"));
-        stats.setYellowCards(rs.getInt("yellow_cards"));
-        stats.setRedCards(rs.getInt("red_cards"));
-        stats.setFoulsCommitted(rs.getInt("fouls_committed"));
-        stats.setFoulsWon(rs.getInt("fouls_won"));
-        stats.setWasStarter(rs.getBoolean("was_starter"));
-        return stats;
+    @Override
+    public List<LeaderboardEntry> getScoringLeaders(LeaderboardFilter filter, int limit) {
+        String sql = filter == null || filter.isUnfiltered()
+                ? TOTALS_LEADERS_SQL + "ORDER BY t.goals DESC, t.player_id LIMIT ?"
+                : FILTERED_LEADERS_SQL + whereClause(filter) +
+                  "GROUP BY s.player_id ORDER BY total_goals DESC, s.player_id LIMIT ?";
+        return getLeaders(sql, filter, limit, "Error getting scoring leaders: ");
+    }
+
+    @Override
+    public List<LeaderboardEntry> getRatingLeaders(LeaderboardFilter filter, int limit) {
+        String sql = filter == null || filter.isUnfiltered()
+                ? TOTALS_LEADERS_SQL + "WHERE t.rating_count > 0 ORDER BY t.average_rating DESC, t.player_id LIMIT ?"
+                : FILTERED_LEADERS_SQL + whereClause(filter) +
+                  "GROUP BY s.player_id HAVING COUNT(IIF(s.minutes_played > 0, s.rating, NULL)) > 0 " +
+                  "ORDER BY average_rating DESC, s.player_id LIMIT ?";
+        return getLeaders(sql, filter, limit, "Error getting rating leaders: ");
+    }
+
+    private List<LeaderboardEntry> getLeaders(String sql, LeaderboardFilter filter, int limit, String errorMessage) {
+        List<LeaderboardEntry> leaders = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (filter != null) {
+                if (filter.competition() != null) {
+                    pstmt.setString(index++, filter.competition());
+                }
+                if (filter.from() != null) {
+                    EpochDates.set(pstmt, index++, filter.from());
+                }
+                if (filter.to() != null) {
+                    EpochDates.set(pstmt, index++, filter.to());
+                }
+            }
+            pstmt.setInt(index, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    leaders.add(new LeaderboardEntry(
+                            rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getString(4),
+                            rs.getInt(5), rs.getInt(6), rs.getInt(7), rs.getDouble(8)));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+        }
+        return leaders;
+    }
+
+    /**
+     * Builds the match conditions for a filter. Only the fields that are set
+     * appear, so SQLite can pick idx_matches_competition or the match date index.
+     */
+    private static String whereClause(LeaderboardFilter filter) {
+        StringBuilder where = new StringBuilder();
+        if (filter.competition() != null) {
+            where.append(" AND m.competition = ?");
+        }
+        if (filter.from() != null) {
+            where.append(" AND m.match_date >= ?");
+        }
+        if (filter.to() != null) {
+            where.append(" AND m.match_date < ?");
+        }
+        return "WHERE" + where.substring(4) + " ";
+    }
+
+    /**
+     * Reads player_match_stats rows by column index.
+     */
+    static final class StatsRowMapper implements RowMapper<PlayerMatchStats> {
+        private final int statsId;
+        private final int playerId;
+        private final int matchId;
+        private final int minutesPlayed;
+        private final int goals;
+        private final int assists;
+        private final int rating;
+        private final int shots;
+        private final int shotsOnTarget;
+        private final int passesCompleted;
+        private final int passesAttempted;
+        private final int tackles;
+        private final int interceptions;
+        private final int yellowCards;
+        private final int redCards;
+        private final int foulsCommitted;
+        private final int foulsWon;
+        private final int wasStarter;
+
+        StatsRowMapper(ResultSet rs) throws SQLException {
+            statsId = rs.findColumn("stats_id");
+            playerId = rs.findColumn("player_id");
+            matchId = rs.findColumn("match_id");
+            minutesPlayed = rs.findColumn("minutes_played");
+            goals = rs.findColumn("goals");
+            assists = rs.findColumn("assists");
+            rating = rs.findColumn("rating");
+            shots = rs.findColumn("shots");
+            shotsOnTarget = rs.findColumn("shots_on_target");
+            passesCompleted = rs.findColumn("passes_completed");
+            passesAttempted = rs.findColumn("passes_attempted");
+            tackles = rs.findColumn("tackles");
+            interceptions = rs.findColumn("interceptions");
+            yellowCards = rs.findColumn("yellow_cards");
+            redCards = rs.findColumn("red_cards");
+            foulsCommitted = rs.findColumn("fouls_committed");
+            foulsWon = rs.findColumn("fouls_won");
+            wasStarter = rs.findColumn("was_starter");
+        }
+
+        @Override
+        public PlayerMatchStats map(ResultSet rs) throws SQLException {
+            PlayerMatchStats stats = new PlayerMatchStats();
+            stats.setStatsId(rs.getInt(statsId));
+            stats.setPlayerId(rs.getInt(playerId));
+            stats.setMatchId(rs.getInt(matchId));
+            stats.setMinutesPlayed(rs.getInt(minutesPlayed));
+            stats.setGoals(rs.getInt(goals));
+            stats.setAssists(rs.getInt(assists));
+            stats.setRating(rs.getDouble(rating));
+            stats.setShots(rs.getInt(shots));
+            stats.setShotsOnTarget(rs.getInt(shotsOnTarget));
+            stats.setPassesCompleted(rs.getInt(passesCompleted));
+            stats.setPassesAttempted(rs.getInt(passesAttempted));
+            stats.setTackles(rs.getInt(tackles));
+            stats.setInterceptions(rs.getInt(interceptions));
+            stats.setYellowCards(rs.getInt(yellowCards));
+            stats.setRedCards(rs.getInt(redCards));
+            stats.setFoulsCommitted(rs.getInt(foulsCommitted));
+            stats.setFoulsWon(rs.getInt(foulsWon));
+            stats.setWasStarter(rs.getBoolean(wasStarter));
+            return stats;
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, PlayerMatchStats stats) throws SQLException {
+        pstmt.setInt(1, stats.getPlayerId());
+        pstmt.setInt(2, stats.getMatchId());
+        pstmt.setInt(3, stats.getMinutesPlayed());
+        pstmt.setInt(4, stats.getGoals());
+        pstmt.setInt(5, stats.getAssists());
+        pstmt.setDouble(6, stats.getRating());
+        pstmt.setInt(7, stats.getShots());
+        pstmt.setInt(8, stats.getShotsOnTarget());
+        pstmt.setInt(9, stats.getPassesCompleted());
+        pstmt.setInt(10, stats.getPassesAttempted());
+        pstmt.setInt(11, stats.getTackles());
+        pstmt.setInt(12, stats.getInterceptions());
+        pstmt.setInt(13, stats.getYellowCards());
+        pstmt.setInt(14, stats.getRedCards());
+        pstmt.setInt(15, stats.getFoulsCommitted());
+        pstmt.setInt(16, stats.getFoulsWon());
+        pstmt.setBoolean(17, stats.isWasStarter());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, PlayerMatchStats stats) throws SQLException {
+        bindInsert(pstmt, stats);
+        pstmt.setInt(18, stats.getStatsId());
     }
 }
@@ -1,13 +1,24 @@
 package com.futclub.database.dao;
 
 import com.futclub.model.Staff;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface StaffDAO {
     Staff getById(int staffId);
+
+    /**
+     * Gets the staff members with the given ids, keyed by id, in a fixed number of
+     * queries. Ids without a row are left out of the map.
+     */
+    Map<Integer, Staff> getByIds(Collection<Integer> ids);
+
     List<Staff> getAll();
     void insert(Staff staff);
+    void insertAll(Collection<Staff> staffMembers);
     void update(Staff staff);
+    void updateAll(Collection<Staff> staffMembers);
     void delete(int staffId);
     
     Staff getByUserId(int userId);
@@ -1,42 +1,63 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.WriteQueue;
 import com.futclub.model.Staff;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class StaffDAOImpl implements StaffDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO staff (full_name, user_id, email, phone, hire_date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE staff SET full_name = ?, user_id = ?, email = ?, phone = ?, hire_date = ? WHERE staff_id = ?";
     
     @Override
     public Staff getById(int staffId) {
         String sql = "SELECT * FROM staff WHERE staff_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, staffId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractStaffFromResultSet(rs);
+                return new StaffRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting staff by ID: " + e.getMessage());
         }
         return null;
     }
+
+    @Override
+    public Map<Integer, Staff> getByIds(Collection<Integer> ids) {
+        try {
+            return IdLookup.byIds("staff", "staff_id", ids, StaffRowMapper::new, Staff::getStaffId);
+        } catch (SQLException e) {
+            System.err.println("Error getting staff by IDs: " + e.getMessage());
+        }
+        return Collections.emptyMap();
+    }
     
     @Override
     public List<Staff> getAll() {
         List<Staff> staffList = new ArrayList<>();
         String sql = "SELECT * FROM staff ORDER BY full_name";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<Staff> mapper = new StaffRowMapper(rs);
             while (rs.next()) {
-                staffList.add(extractStaffFromResultSet(rs));
+                staffList.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all staff: " + e.getMessage());
@@ -46,43 +67,38 @@ public class StaffDAOImpl implements StaffDAO {
     
     @Override
     public void insert(Staff staff) {
-        String sql = "INSERT INTO staff (full_name, user_id, email, phone, hire_date) VALUES (?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, staff.getFullName());
-            pstmt.setInt(2, staff.getUserId());
-            pstmt.setString(3, staff.getEmail());
-            pstmt.setString(4, staff.getPhone());
-            pstmt.setDate(5, staff.getHireDate());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                staff.setStaffId(generatedKeys.getInt(1));
+        try {
+            int staffId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, staff));
+            if (staffId > 0) {
+                staff.setStaffId(staffId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting staff: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<Staff> staffMembers) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, staffMembers, StaffDAOImpl::bindInsert, Staff::setStaffId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting staff: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(Staff staff) {
-        String sql = "UPDATE staff SET full_name = ?, user_id = ?, email = ?, phone = ?, hire_date = ? WHERE staff_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, staff.getFullName());
-            pstmt.setInt(2, staff.getUserId());
-            pstmt.setString(3, staff.getEmail());
-            pstmt.setString(4, staff.getPhone());
-            pstmt.setDate(5, staff.getHireDate());
-            pstmt.setInt(6, staff.getStaffId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, staff));
+        } catch (SQLException e) {
+            System.err.println("Error updating staff: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Staff> staffMembers) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, staffMembers, StaffDAOImpl::bindUpdate);
         } catch (SQLException e) {
             System.err.println("Error updating staff: " + e.getMessage());
         }
@@ -91,11 +107,10 @@ public class StaffDAOImpl implements StaffDAO {
     @Override
     public void delete(int staffId) {
         String sql = "DELETE FROM staff WHERE staff_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, staffId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, staffId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting staff: " + e.getMessage());
         }
@@ -104,14 +119,14 @@ public class StaffDAOImpl implements StaffDAO {
     @Override
     public Staff getByUserId(int userId) {
         String sql = "SELECT * FROM staff WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractStaffFromResultSet(rs);
+                return new StaffRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting staff by user ID: " + e.getMessage());
@@ -122,14 +137,14 @@ public class StaffDAOImpl implements StaffDAO {
     @Override
     public Staff getByEmail(String email) {
         String sql = "SELECT * FROM staff WHERE email = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, email);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractStaffFromResultSet(rs);
+                return new StaffRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting staff by email: " + e.getMessage());
@@ -137,42 +152,49 @@ public class StaffDAOImpl implements StaffDAO {
         return null;
     }
     
-    private Staff extractStaffFromResultSet(ResultSet rs) throws SQLException {
-        Staff staff = new Staff();
-        staff.setStaffId(rs.getInt("staff_id"));
-        staff.setFullName(rs.getString("full_name"));
-        staff.setUserId(rs.getInt("user_id"));
-        staff.setEmail(rs.getString("email"));
-        staff.setPhone(rs.getString("phone"));
-        staff.setHireDate(getNullableDate(rs, "hire_date"));
-        return staff;
-    }
+    /**
+     * Reads staff rows by column index.
+     */
+    static final class StaffRowMapper implements RowMapper<Staff> {
+        private final int staffId;
+        private final int fullName;
+        private final int userId;
+        private final int email;
+        private final int phone;
+        private final int hireDate;
 
-    private Date getNullableDate(ResultSet rs, String column) throws SQLException {
-        String raw = rs.getString(column);
-        if (raw == null || raw.isBlank()) {
-            return null;
+        StaffRowMapper(ResultSet rs) throws SQLException {
+            staffId = rs.findColumn("staff_id");
+            fullName = rs.findColumn("full_name");
+            userId = rs.findColumn("user_id");
+            email = rs.findColumn("email");
+            phone = rs.findColumn("phone");
+            hireDate = rs.findColumn("hire_date");
         }
 
-        String normalized = raw.trim();
-        if (normalized.chars().allMatch(Character::isDigit)) {
-            try {
-                long epochMillis = Long.parseLong(normalized);
-                return new Date(epochMillis);
-            } catch (NumberFormatException ex) {
-                throw new SQLException("Failed to parse epoch millis '" + raw + "' for column " + column, ex);
-            }
+        @Override
+        public Staff map(ResultSet rs) throws SQLException {
+            Staff staff = new Staff();
+            staff.setStaffId(rs.getInt(staffId));
+            staff.setFullName(rs.getString(fullName));
+            staff.setUserId(rs.getInt(userId));
+            staff.setEmail(rs.getString(email));
+            staff.setPhone(rs.getString(phone));
+            staff.setHireDate(EpochDates.getDate(rs, hireDate));
+            return staff;
         }
+    }
 
-        int spaceIdx = normalized.indexOf(' ');
-        if (spaceIdx > 0) {
-            normalized = normalized.substring(0, spaceIdx);
-        }
+    private static void bindInsert(PreparedStatement pstmt, Staff staff) throws SQLException {
+        pstmt.setString(1, staff.getFullName());
+        pstmt.setInt(2, staff.getUserId());
+        pstmt.setString(3, staff.getEmail());
+        pstmt.setString(4, staff.getPhone());
+        EpochDates.set(pstmt, 5, staff.getHireDate());
+    }
 
-        try {
-            return Date.valueOf(normalized);
-        } catch (IllegalArgumentException ex) {
-            throw new SQLException("Failed to parse date value '" + raw + "' for column " + column, ex);
-        }
+    private static void bindUpdate(PreparedStatement pstmt, Staff staff) throws SQLException {
+        bindInsert(pstmt, staff);
+        pstmt.setInt(6, staff.getStaffId());
     }
 }
@@ -2,13 +2,16 @@ package com.futclub.database.dao;
 
 import com.futclub.model.TrainingSession;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 public interface TrainingSessionDAO {
     TrainingSession getById(int sessionId);
     List<TrainingSession> getAll();
     void insert(TrainingSession session);
+    void insertAll(Collection<TrainingSession> sessions);
     void update(TrainingSession session);
+    void updateAll(Collection<TrainingSession> sessions);
     void delete(int sessionId);
     
     List<TrainingSession> getByCoachId(int coachId);
@@ -1,24 +1,34 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.WriteQueue;
 import com.futclub.model.TrainingSession;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class TrainingSessionDAOImpl implements TrainingSessionDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO training_sessions (session_date, focus, location, duration_minutes, intensity, coach_id, notes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE training_sessions SET session_date = ?, focus = ?, location = ?, " +
+            "duration_minutes = ?, intensity = ?, coach_id = ?, notes = ? WHERE session_id = ?";
     
     @Override
     public TrainingSession getById(int sessionId) {
         String sql = "SELECT * FROM training_sessions WHERE session_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, sessionId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractTrainingSessionFromResultSet(rs);
+                return new TrainingSessionRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting training session by ID: " + e.getMessage());
@@ -31,12 +41,13 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
         List<TrainingSession> sessions = new ArrayList<>();
         String sql = "SELECT * FROM training_sessions ORDER BY session_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<TrainingSession> mapper = new TrainingSessionRowMapper(rs);
             while (rs.next()) {
-                sessions.add(extractTrainingSessionFromResultSet(rs));
+                sessions.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all training sessions: " + e.getMessage());
@@ -46,62 +57,50 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
     
     @Override
     public void insert(TrainingSession session) {
-        String sql = "INSERT INTO training_sessions (session_date, focus, location, duration_minutes, intensity, coach_id, notes) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setTimestamp(1, session.getSessionDate());
-            pstmt.setString(2, session.getFocus());
-            pstmt.setString(3, session.getLocation());
-            pstmt.setInt(4, session.getDurationMinutes());
-            pstmt.setString(5, session.getIntensity());
-            pstmt.setInt(6, session.getCoachId());
-            pstmt.setString(7, session.getNotes());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                session.setSessionId(generatedKeys.getInt(1));
+        try {
+            int sessionId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, session));
+            if (sessionId > 0) {
+                session.setSessionId(sessionId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting training session: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<TrainingSession> sessions) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, sessions, TrainingSessionDAOImpl::bindInsert, TrainingSession::setSessionId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting training sessions: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(TrainingSession session) {
-        String sql = "UPDATE training_sessions SET session_date = ?, focus = ?, location = ?, " +
-                    "duration_minutes = ?, intensity = ?, coach_id = ?, notes = ? WHERE session_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setTimestamp(1, session.getSessionDate());
-            pstmt.setString(2, session.getFocus());
-            pstmt.setString(3, session.getLocation());
-            pstmt.setInt(4, session.getDurationMinutes());
-            pstmt.setString(5, session.getIntensity());
-            pstmt.setInt(6, session.getCoachId());
-            pstmt.setString(7, session.getNotes());
-            pstmt.setInt(8, session.getSessionId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, session));
         } catch (SQLException e) {
             System.err.println("Error updating training session: " + e.getMessage());
         }
     }
+
+    @Override
+    public void updateAll(Collection<TrainingSession> sessions) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, sessions, TrainingSessionDAOImpl::bindUpdate);
+        } catch (SQLException e) {
+            System.err.println("Error updating training sessions: " + e.getMessage());
+        }
+    }
     
     @Override
     public void delete(int sessionId) {
         String sql = "DELETE FROM training_sessions WHERE session_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, sessionId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, sessionId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting training session: " + e.getMessage());
         }
@@ -112,14 +111,15 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
         List<TrainingSession> sessions = new ArrayList<>();
         String sql = "SELECT * FROM training_sessions WHERE coach_id = ? ORDER BY session_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, coachId);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<TrainingSession> mapper = new TrainingSessionRowMapper(rs);
             while (rs.next()) {
-                sessions.add(extractTrainingSessionFromResultSet(rs));
+                sessions.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting training sessions by coach: " + e.getMessage());
@@ -132,15 +132,16 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
         List<TrainingSession> sessions = new ArrayList<>();
         String sql = "SELECT * FROM training_sessions WHERE session_date BETWEEN ? AND ? ORDER BY session_date";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
-            pstmt.setTimestamp(1, startDate);
-            pstmt.setTimestamp(2, endDate);
+            EpochDates.set(pstmt, 1, startDate);
+            EpochDates.set(pstmt, 2, endDate);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<TrainingSession> mapper = new TrainingSessionRowMapper(rs);
             while (rs.next()) {
-                sessions.add(extractTrainingSessionFromResultSet(rs));
+                sessions.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting training sessions in date range: " + e.getMessage());
@@ -153,14 +154,15 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
         List<TrainingSession> sessions = new ArrayList<>();
         String sql = "SELECT * FROM training_sessions ORDER BY session_date DESC LIMIT ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, limit);
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<TrainingSession> mapper = new TrainingSessionRowMapper(rs);
             while (rs.next()) {
-                sessions.add(extractTrainingSessionFromResultSet(rs));
+                sessions.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting recent training sessions: " + e.getMessage());
@@ -168,16 +170,57 @@ public class TrainingSessionDAOImpl implements TrainingSessionDAO {
         return sessions;
     }
     
-    private TrainingSession extractTrainingSessionFromResultSet(ResultSet rs) throws SQLException {
-        TrainingSession session = new TrainingSession();
-        session.setSessionId(rs.getInt("session_id"));
-        session.setSessionDate(rs.getTimestamp("session_date"));
-        session.setFocus(rs.getString("focus"));
-        session.setLocation(rs.getString("location"));
-        session.setDurationMinutes(rs.getInt("duration_minutes"));
-        session.setIntensity(rs.getString("intensity"));
-        session.setCoachId(rs.getInt("coach_id"));
-        session.setNotes(rs.getString("notes"));
-        return session;
+    /**
+     * Reads training_sessions rows by column index.
+     */
+    static final class TrainingSessionRowMapper implements RowMapper<TrainingSession> {
+        private final int sessionId;
+        private final int sessionDate;
+        private final int focus;
+        private final int location;
+        private final int durationMinutes;
+        private final int intensity;
+        private final int coachId;
+        private final int notes;
+
+        TrainingSessionRowMapper(ResultSet rs) throws SQLException {
+            sessionId = rs.findColumn("session_id");
+            sessionDate = rs.findColumn("session_date");
+            focus = rs.findColumn("focus");
+            location = rs.findColumn("location");
+            durationMinutes = rs.findColumn("duration_minutes");
+            intensity = rs.findColumn("intensity");
+            coachId = rs.findColumn("coach_id");
+            notes = rs.findColumn("notes");
+        }
+
+        @Override
+        public TrainingSession map(ResultSet rs) throws SQLException {
+            TrainingSession session = new TrainingSession();
+            session.setSessionId(rs.getInt(sessionId));
+            session.setSessionDate(EpochDates.getTimestamp(rs, sessionDate));
+            session.setFocus(rs.getString(focus));
+            session.setLocation(rs.getString(location));
+            session.setDurationMinutes(rs.getInt(durationMinutes));
+            session.setIntensity(rs.getString(intensity));
+            session.setCoachId(rs.getInt(coachId));
+            session.setNotes(rs.getString(notes));
+            return session;
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, TrainingSession session) throws SQLException {
+        EpochDates.set(pstmt, 1, session.getSessionDate());
+        pstmt.setString(2, session.getFocus());
+        pstmt.setString(3, session.getLocation());
+        pstmt.setInt(4, session.getDurationMinutes());
+        pstmt.setString(5, session.getIntensity());
+        pstmt.setInt(6, session.getCoachId());
+        pstmt.setString(7, session.getNotes());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, TrainingSession session) throws SQLException {
+        bindInsert(pstmt, session);
+        pstmt.setInt(8, session.getSessionId());
     }
 }
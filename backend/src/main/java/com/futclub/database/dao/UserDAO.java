@@ -2,13 +2,16 @@ package com.futclub.database.dao;
 
 import com.futclub.model.User;
 import com.futclub.model.enums.UserRole;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserDAO {
     User getById(int userId);
     List<User> getAll();
     void insert(User user);
+    void insertAll(Collection<User> users);
     void update(User user);
+    void updateAll(Collection<User> users);
     void delete(int userId);
     
     User getByUsername(String username);
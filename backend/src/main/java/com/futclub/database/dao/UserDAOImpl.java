@@ -1,6 +1,9 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.database.WriteQueue;
 import com.futclub.model.AdministratorUser;
 import com.futclub.model.AnalystUser;
 import com.futclub.model.CoachUser;
@@ -9,21 +12,26 @@ import com.futclub.model.enums.UserRole;
 import com.futclub.security.PasswordHasher;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class UserDAOImpl implements UserDAO {
+
+    private static final String INSERT_SQL = "INSERT INTO users (username, password_hash, role, is_active) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE users SET username = ?, password_hash = ?, role = ?, is_active = ? WHERE user_id = ?";
     
     @Override
     public User getById(int userId) {
         String sql = "SELECT * FROM users WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractUserFromResultSet(rs);
+                return new UserRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting user by ID: " + e.getMessage());
@@ -36,12 +44,13 @@ public class UserDAOImpl implements UserDAO {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM users ORDER BY username";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
             
+            RowMapper<User> mapper = new UserRowMapper(rs);
             while (rs.next()) {
-                users.add(extractUserFromResultSet(rs));
+                users.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting all users: " + e.getMessage());
@@ -51,54 +60,50 @@ public class UserDAOImpl implements UserDAO {
     
     @Override
     public void insert(User user) {
-        String sql = "INSERT INTO users (username, password_hash, role, is_active) VALUES (?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            pstmt.setString(1, user.getUsername());
-            pstmt.setString(2, user.getPasswordHash());
-            pstmt.setString(3, user.getRole().toDatabaseValue());
-            pstmt.setBoolean(4, user.isActive());
-            
-            pstmt.executeUpdate();
-            
-            ResultSet generatedKeys = pstmt.getGeneratedKeys();
-            if (generatedKeys.next()) {
-                user.setUserId(generatedKeys.getInt(1));
+        try {
+            int userId = WriteQueue.insert(INSERT_SQL, pstmt -> bindInsert(pstmt, user));
+            if (userId > 0) {
+                user.setUserId(userId);
             }
         } catch (SQLException e) {
             System.err.println("Error inserting user: " + e.getMessage());
         }
     }
+
+    @Override
+    public void insertAll(Collection<User> users) {
+        try {
+            WriteQueue.insertAll(INSERT_SQL, users, UserDAOImpl::bindInsert, User::setUserId);
+        } catch (SQLException e) {
+            System.err.println("Error inserting users: " + e.getMessage());
+        }
+    }
     
     @Override
     public void update(User user) {
-        String sql = "UPDATE users SET username = ?, password_hash = ?, role = ?, is_active = ? WHERE user_id = ?";
-        
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setString(1, user.getUsername());
-            pstmt.setString(2, user.getPasswordHash());
-            pstmt.setString(3, user.getRole().toDatabaseValue());
-            pstmt.setBoolean(4, user.isActive());
-            pstmt.setInt(5, user.getUserId());
-            
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(UPDATE_SQL, pstmt -> bindUpdate(pstmt, user));
         } catch (SQLException e) {
             System.err.println("Error updating user: " + e.getMessage());
         }
     }
+
+    @Override
+    public void updateAll(Collection<User> users) {
+        try {
+            WriteQueue.updateAll(UPDATE_SQL, users, UserDAOImpl::bindUpdate);
+        } catch (SQLException e) {
+            System.err.println("Error updating users: " + e.getMessage());
+        }
+    }
     
     @Override
     public void delete(int userId) {
         String sql = "DELETE FROM users WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.executeUpdate();
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setInt(1, userId);
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting user: " + e.getMessage());
         }
@@ -107,14 +112,14 @@ public class UserDAOImpl implements UserDAO {
     @Override
     public User getByUsername(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, username);
             ResultSet rs = pstmt.executeQuery();
             
             if (rs.next()) {
-                return extractUserFromResultSet(rs);
+                return new UserRowMapper(rs).map(rs);
             }
         } catch (SQLException e) {
             System.err.println("Error getting user by username: " + e.getMessage());
@@ -127,14 +132,15 @@ public class UserDAOImpl implements UserDAO {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM users WHERE role = ? ORDER BY username";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setString(1, role.toDatabaseValue());
             ResultSet rs = pstmt.executeQuery();
             
+            RowMapper<User> mapper = new UserRowMapper(rs);
             while (rs.next()) {
-                users.add(extractUserFromResultSet(rs));
+                users.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error getting users by role: " + e.getMessage());
@@ -153,35 +159,71 @@ public class UserDAOImpl implements UserDAO {
     
     @Override
     public void updateLastLogin(int userId) {
-        String sql = "UPDATE users SET last_login = CURRENT_TIMESTAMP WHERE user_id = ?";
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.executeUpdate();
+        String sql = "UPDATE users SET last_login = ? WHERE user_id = ?";
+        try {
+            WriteQueue.update(sql, pstmt -> {
+                pstmt.setLong(1, System.currentTimeMillis());
+                pstmt.setInt(2, userId);
+            });
         } catch (SQLException e) {
             System.err.println("Error updating last login: " + e.getMessage());
         }
     }
     
-    private User extractUserFromResultSet(ResultSet rs) throws SQLException {
-        UserRole role = UserRole.fromDatabaseValue(rs.getString("role"));
-        User user = instantiateUser(role);
-        user.setUserId(rs.getInt("user_id"));
-        user.setUsername(rs.getString("username"));
-        user.setPasswordHash(rs.getString("password_hash"));
-        user.setRole(role);
-        user.setCreatedAt(rs.getTimestamp("created_at"));
-        user.setLastLogin(rs.getTimestamp("last_login"));
-        user.setActive(rs.getBoolean("is_active"));
-        return user;
+    /**
+     * Reads users rows by column index.
+     */
+    static final class UserRowMapper implements RowMapper<User> {
+        private final int userId;
+        private final int username;
+        private final int passwordHash;
+        private final int role;
+        private final int createdAt;
+        private final int lastLogin;
+        private final int isActive;
+
+        UserRowMapper(ResultSet rs) throws SQLException {
+            userId = rs.findColumn("user_id");
+            username = rs.findColumn("username");
+            passwordHash = rs.findColumn("password_hash");
+            role = rs.findColumn("role");
+            createdAt = rs.findColumn("created_at");
+            lastLogin = rs.findColumn("last_login");
+            isActive = rs.findColumn("is_active");
+        }
+
+        @Override
+        public User map(ResultSet rs) throws SQLException {
+            UserRole userRole = UserRole.fromDatabaseValue(rs.getString(role));
+            User user = instantiateUser(userRole);
+            user.setUserId(rs.getInt(userId));
+            user.setUsername(rs.getString(username));
+            user.setPasswordHash(rs.getString(passwordHash));
+            user.setRole(userRole);
+            user.setCreatedAt(EpochDates.getTimestamp(rs, createdAt));
+            user.setLastLogin(EpochDates.getTimestamp(rs, lastLogin));
+            user.setActive(rs.getBoolean(isActive));
+            return user;
+        }
     }
 
-    private User instantiateUser(UserRole role) {
+    private static User instantiateUser(UserRole role) {
         return switch (role) {
             case COACH -> new CoachUser();
             case ANALYST -> new AnalystUser();
             case ADMINISTRATOR -> new AdministratorUser();
         };
     }
+
+    private static void bindInsert(PreparedStatement pstmt, User user) throws SQLException {
+        pstmt.setString(1, user.getUsername());
+        pstmt.setString(2, user.getPasswordHash());
+        pstmt.setString(3, user.getRole().toDatabaseValue());
+        pstmt.setBoolean(4, user.isActive());
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, User user) throws SQLException {
+        bindInsert(pstmt, user);
+        pstmt.setInt(5, user.getUserId());
+    }
 }
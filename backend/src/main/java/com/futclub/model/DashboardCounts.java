@@ -0,0 +1,15 @@
+package com.futclub.model;
+
+/**
+ * Counters shown on the home dashboard, computed in one query.
+ * A next match or session id of 0 means there is none.
+ */
+public record DashboardCounts(int totalPlayers,
+                              int availablePlayers,
+                              int injuredPlayers,
+                              int upcomingMatches,
+                              int nextMatchId,
+                              int upcomingSessions,
+                              int nextSessionId,
+                              int totalStaff) {
+}
@@ -0,0 +1,10 @@
+package com.futclub.model;
+
+/**
+ * One row of a scoring or rating leaderboard, with the player's identity
+ * joined in. A shirt number of 0 means the player has none; an average
+ * rating of 0 means no rated appearances with minutes played.
+ */
+public record LeaderboardEntry(int playerId, String name, int shirtNumber, String position,
+                               int appearances, int goals, int assists, double averageRating) {
+}
@@ -0,0 +1,26 @@
+package com.futclub.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Limits a leaderboard to one competition and/or a range of match dates.
+ * Null fields do not filter; the range includes from and excludes to.
+ */
+public record LeaderboardFilter(String competition, Timestamp from, Timestamp to) {
+
+    private static final LeaderboardFilter ALL = new LeaderboardFilter(null, null, null);
+
+    /**
+     * Gets the filter that keeps every match.
+     */
+    public static LeaderboardFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Tests if this filter keeps every match.
+     */
+    public boolean isUnfiltered() {
+        return competition == null && from == null && to == null;
+    }
+}
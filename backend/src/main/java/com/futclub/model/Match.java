@@ -22,6 +22,23 @@ public class Match {
     public Match() {
     }
 
+    /**
+     * Copies another match, including the match date.
+     */
+    public Match(Match other) {
+        this.matchId = other.matchId;
+        this.matchDate = other.matchDate == null ? null : (Timestamp) other.matchDate.clone();
+        this.opponent = other.opponent;
+        this.venue = other.venue;
+        this.competition = other.competition;
+        this.goalsFor = other.goalsFor;
+        this.goalsAgainst = other.goalsAgainst;
+        this.matchStatus = other.matchStatus;
+        this.attendance = other.attendance;
+        this.weather = other.weather;
+        this.notes = other.notes;
+    }
+
     public int getMatchId() {
         return matchId;
     }
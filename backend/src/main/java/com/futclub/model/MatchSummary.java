@@ -0,0 +1,17 @@
+package com.futclub.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Read-only projection of a match for pickers and fixture lists.
+ */
+public record MatchSummary(int matchId, Timestamp matchDate, String opponent,
+                           int goalsFor, int goalsAgainst, String matchStatus) {
+
+    /**
+     * Gets the score as "goalsFor-goalsAgainst", or null before kick-off.
+     */
+    public String score() {
+        return "COMPLETED".equals(matchStatus) || "IN_PROGRESS".equals(matchStatus) ? goalsFor + "-" + goalsAgainst : null;
+    }
+}
@@ -27,6 +27,28 @@ public class Player {
     public Player() {
     }
 
+    /**
+     * Copies another player, including its dates.
+     */
+    public Player(Player other) {
+        this.playerId = other.playerId;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.dateOfBirth = copy(other.dateOfBirth);
+        this.position = other.position;
+        this.shirtNumber = other.shirtNumber;
+        this.status = other.status;
+        this.overallRating = other.overallRating;
+        this.fitnessLevel = other.fitnessLevel;
+        this.injuryDetails = other.injuryDetails;
+        this.joinedDate = copy(other.joinedDate);
+        this.contractEnd = copy(other.contractEnd);
+        this.nationality = other.nationality;
+        this.heightCm = other.heightCm;
+        this.weightKg = other.weightKg;
+        this.preferredFoot = other.preferredFoot;
+    }
+
     public int getPlayerId() {
         return playerId;
     }
@@ -154,4 +176,8 @@ public class Player {
     public void setPreferredFoot(String preferredFoot) {
         this.preferredFoot = preferredFoot;
     }
+
+    private static Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
 }
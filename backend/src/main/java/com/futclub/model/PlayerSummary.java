@@ -0,0 +1,8 @@
+package com.futclub.model;
+
+/**
+ * Read-only projection of a player for pickers and squad lists.
+ * A shirt number of 0 means the player has none.
+ */
+public record PlayerSummary(int playerId, String name, int shirtNumber, String position, String status) {
+}
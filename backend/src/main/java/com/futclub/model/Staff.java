@@ -17,6 +17,18 @@ public class Staff {
     public Staff() {
     }
 
+    /**
+     * Copies another staff member, including the hire date.
+     */
+    public Staff(Staff other) {
+        this.staffId = other.staffId;
+        this.fullName = other.fullName;
+        this.userId = other.userId;
+        this.email = other.email;
+        this.phone = other.phone;
+        this.hireDate = other.hireDate == null ? null : new Date(other.hireDate.getTime());
+    }
+
     public int getStaffId() {
         return staffId;
     }
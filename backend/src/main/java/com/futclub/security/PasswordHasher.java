@@ -13,10 +13,21 @@ public final class PasswordHasher {
     }
 
     public static String hash(String plainPassword) {
+        return hash(plainPassword, DEFAULT_ROUNDS);
+    }
+
+    public static String hash(String plainPassword, int rounds) {
         if (plainPassword == null || plainPassword.isBlank()) {
             throw new IllegalArgumentException("Password cannot be empty");
         }
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(DEFAULT_ROUNDS));
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(rounds));
+    }
+
+    /**
+     * Get the BCrypt cost used by {@link #hash(String)}.
+     */
+    public static int defaultRounds() {
+        return DEFAULT_ROUNDS;
     }
 
     public static boolean matches(String plainPassword, String hashedPassword) {
@@ -7,6 +7,7 @@ import com.futclub.model.AdministratorUser;
 import com.futclub.model.Match;
 import com.futclub.model.Player;
 import com.futclub.model.Staff;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,19 +19,32 @@ public class AdministratorService {
     private final PlayerDAO playerDAO;
     private final StaffDAO staffDAO;
     private final MatchDAO matchDAO;
+    private final DashboardService dashboardService;
 
     public AdministratorService(PlayerDAO playerDAO,
                                 StaffDAO staffDAO,
                                 MatchDAO matchDAO) {
+        this(playerDAO, staffDAO, matchDAO, null);
+    }
+
+    /**
+     * @param dashboardService invalidated after every write, or null if nothing caches the dashboard
+     */
+    public AdministratorService(PlayerDAO playerDAO,
+                                StaffDAO staffDAO,
+                                MatchDAO matchDAO,
+                                DashboardService dashboardService) {
         this.playerDAO = Objects.requireNonNull(playerDAO, "playerDAO");
         this.staffDAO = Objects.requireNonNull(staffDAO, "staffDAO");
         this.matchDAO = Objects.requireNonNull(matchDAO, "matchDAO");
+        this.dashboardService = dashboardService;
     }
 
     public Player registerPlayer(AdministratorUser admin, Player player) {
         requireAdmin(admin);
         Objects.requireNonNull(player, "player");
         playerDAO.insert(player);
+        invalidateDashboard();
         return player;
     }
 
@@ -41,11 +55,39 @@ public class AdministratorService {
             throw new IllegalArgumentException("Player must have an id for update");
         }
         playerDAO.update(player);
+        invalidateDashboard();
+    }
+
+    /**
+     * Registers a whole squad in one batched write and one commit.
+     */
+    public List<Player> registerPlayers(AdministratorUser admin, List<Player> players) {
+        requireAdmin(admin);
+        requireEntries(players, "players");
+        playerDAO.insertAll(players);
+        invalidateDashboard();
+        return players;
+    }
+
+    /**
+     * Updates a whole squad in one batched write and one commit.
+     */
+    public void updatePlayers(AdministratorUser admin, Collection<Player> players) {
+        requireAdmin(admin);
+        requireEntries(players, "players");
+        for (Player player : players) {
+            if (player.getPlayerId() <= 0) {
+                throw new IllegalArgumentException("Player must have an id for update");
+            }
+        }
+        playerDAO.updateAll(players);
+        invalidateDashboard();
     }
 
     public void removePlayer(AdministratorUser admin, int playerId) {
         requireAdmin(admin);
         playerDAO.delete(playerId);
+        invalidateDashboard();
     }
 
     public List<Player> listPlayers(AdministratorUser admin) {
@@ -57,6 +99,7 @@ public class AdministratorService {
         requireAdmin(admin);
         Objects.requireNonNull(staff, "staff");
         staffDAO.insert(staff);
+        invalidateDashboard();
         return staff;
     }
 
@@ -67,11 +110,13 @@ public class AdministratorService {
             throw new IllegalArgumentException("Staff record must have an id");
         }
         staffDAO.update(staff);
+        invalidateDashboard();
     }
 
     public void removeStaff(AdministratorUser admin, int staffId) {
         requireAdmin(admin);
         staffDAO.delete(staffId);
+        invalidateDashboard();
     }
 
     public List<Staff> listStaff(AdministratorUser admin) {
@@ -83,6 +128,7 @@ public class AdministratorService {
         requireAdmin(admin);
         Objects.requireNonNull(match, "match");
         matchDAO.insert(match);
+        invalidateDashboard();
         return match;
     }
 
@@ -93,11 +139,13 @@ public class AdministratorService {
             throw new IllegalArgumentException("Match must have an id for update");
         }
         matchDAO.update(match);
+        invalidateDashboard();
     }
 
     public void removeMatch(AdministratorUser admin, int matchId) {
         requireAdmin(admin);
         matchDAO.delete(matchId);
+        invalidateDashboard();
     }
 
     public List<Match> listMatches(AdministratorUser admin) {
@@ -105,6 +153,19 @@ public class AdministratorService {
         return matchDAO.getAll();
     }
 
+    private static void requireEntries(Collection<?> entries, String name) {
+        Objects.requireNonNull(entries, name);
+        for (Object entry : entries) {
+            Objects.requireNonNull(entry, name + " entry");
+        }
+    }
+
+    private void invalidateDashboard() {
+        if (dashboardService != null) {
+            dashboardService.invalidate();
+        }
+    }
+
     private void requireAdmin(AdministratorUser admin) {
         if (admin == null) {
             throw new IllegalArgumentException("Administrator user required for this operation");
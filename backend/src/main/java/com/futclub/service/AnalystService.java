@@ -1,11 +1,17 @@
 package com.futclub.service;
 
+import com.futclub.database.dao.MatchDAO;
 import com.futclub.database.dao.MatchEventDAO;
+import com.futclub.database.dao.PlayerDAO;
 import com.futclub.database.dao.PlayerMatchStatsDAO;
 import com.futclub.model.AnalystUser;
+import com.futclub.model.Match;
 import com.futclub.model.MatchEvent;
+import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -15,11 +21,17 @@ public class AnalystService {
 
     private final PlayerMatchStatsDAO playerMatchStatsDAO;
     private final MatchEventDAO matchEventDAO;
+    private final PlayerDAO playerDAO;
+    private final MatchDAO matchDAO;
 
     public AnalystService(PlayerMatchStatsDAO playerMatchStatsDAO,
-                          MatchEventDAO matchEventDAO) {
+                          MatchEventDAO matchEventDAO,
+                          PlayerDAO playerDAO,
+                          MatchDAO matchDAO) {
         this.playerMatchStatsDAO = Objects.requireNonNull(playerMatchStatsDAO, "playerMatchStatsDAO");
         this.matchEventDAO = Objects.requireNonNull(matchEventDAO, "matchEventDAO");
+        this.playerDAO = Objects.requireNonNull(playerDAO, "playerDAO");
+        this.matchDAO = Objects.requireNonNull(matchDAO, "matchDAO");
     }
 
     public PlayerMatchStats createPlayerMatchStats(AnalystUser analyst, PlayerMatchStats stats) {
@@ -38,6 +50,30 @@ public class AnalystService {
         playerMatchStatsDAO.update(stats);
     }
 
+    /**
+     * Records a whole match sheet of stats in one batched write and one commit.
+     */
+    public List<PlayerMatchStats> createPlayerMatchStats(AnalystUser analyst, List<PlayerMatchStats> statsList) {
+        requireAnalyst(analyst);
+        requireEntries(statsList, "statsList");
+        playerMatchStatsDAO.insertAll(statsList);
+        return statsList;
+    }
+
+    /**
+     * Updates a whole match sheet of stats in one batched write and one commit.
+     */
+    public void updatePlayerMatchStats(AnalystUser analyst, Collection<PlayerMatchStats> statsList) {
+        requireAnalyst(analyst);
+        requireEntries(statsList, "statsList");
+        for (PlayerMatchStats stats : statsList) {
+            if (stats.getStatsId() <= 0) {
+                throw new IllegalArgumentException("Stats entry must have an id");
+            }
+        }
+        playerMatchStatsDAO.updateAll(statsList);
+    }
+
     public void deletePlayerMatchStats(AnalystUser analyst, int statsId) {
         requireAnalyst(analyst);
         playerMatchStatsDAO.delete(statsId);
@@ -55,6 +91,16 @@ public class AnalystService {
         return event;
     }
 
+    /**
+     * Logs a batch of events, such as a full match timeline, with one commit.
+     */
+    public List<MatchEvent> logMatchEvents(AnalystUser analyst, List<MatchEvent> events) {
+        requireAnalyst(analyst);
+        requireEntries(events, "events");
+        matchEventDAO.insertAll(events);
+        return events;
+    }
+
     public void updateMatchEvent(AnalystUser analyst, MatchEvent event) {
         requireAnalyst(analyst);
         Objects.requireNonNull(event, "event");
@@ -74,6 +120,52 @@ public class AnalystService {
         return matchEventDAO.getByMatchIdOrdered(matchId);
     }
 
+    /**
+     * Gets one page of a match timeline, starting after the given event.
+     */
+    public List<MatchEvent> getTimelinePage(AnalystUser analyst, int matchId, int afterMinute, int afterSecond,
+                                            int afterEventId, int limit) {
+        requireAnalyst(analyst);
+        return matchEventDAO.page(matchId, afterMinute, afterSecond, afterEventId, limit);
+    }
+
+    /**
+     * Gets the players named by a set of events, keyed by player id, in one
+     * batched lookup. Events without a player are skipped.
+     */
+    public Map<Integer, Player> getPlayersForEvents(AnalystUser analyst, Collection<MatchEvent> events) {
+        requireAnalyst(analyst);
+        requireEntries(events, "events");
+        return playerDAO.getByIds(events.stream().map(MatchEvent::getPlayerId).toList());
+    }
+
+    /**
+     * Gets the players behind a set of stats entries, keyed by player id, in
+     * one batched lookup.
+     */
+    public Map<Integer, Player> getPlayersForStats(AnalystUser analyst, Collection<PlayerMatchStats> statsList) {
+        requireAnalyst(analyst);
+        requireEntries(statsList, "statsList");
+        return playerDAO.getByIds(statsList.stream().map(PlayerMatchStats::getPlayerId).toList());
+    }
+
+    /**
+     * Gets the matches behind a set of stats entries, keyed by match id, in
+     * one batched lookup.
+     */
+    public Map<Integer, Match> getMatchesForStats(AnalystUser analyst, Collection<PlayerMatchStats> statsList) {
+        requireAnalyst(analyst);
+        requireEntries(statsList, "statsList");
+        return matchDAO.getByIds(statsList.stream().map(PlayerMatchStats::getMatchId).toList());
+    }
+
+    private static void requireEntries(Collection<?> entries, String name) {
+        Objects.requireNonNull(entries, name);
+        for (Object entry : entries) {
+            Objects.requireNonNull(entry, name + " entry");
+        }
+    }
+
     private void requireAnalyst(AnalystUser analyst) {
         if (analyst == null) {
             throw new IllegalArgumentException("Analyst user required for this operation");
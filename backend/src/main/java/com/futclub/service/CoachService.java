@@ -1,15 +1,19 @@
 package com.futclub.service;
 
 import com.futclub.database.dao.AttendanceDAO;
+import com.futclub.database.dao.PlayerDAO;
 import com.futclub.database.dao.PlayerMatchStatsDAO;
 import com.futclub.database.dao.StaffDAO;
 import com.futclub.database.dao.TrainingSessionDAO;
 import com.futclub.model.AttendanceRecord;
 import com.futclub.model.CoachUser;
+import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
 import com.futclub.model.Staff;
 import com.futclub.model.TrainingSession;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -21,15 +25,32 @@ public class CoachService {
     private final AttendanceDAO attendanceDAO;
     private final PlayerMatchStatsDAO playerMatchStatsDAO;
     private final StaffDAO staffDAO;
+    private final PlayerDAO playerDAO;
+    private final DashboardService dashboardService;
 
     public CoachService(TrainingSessionDAO trainingSessionDAO,
                         AttendanceDAO attendanceDAO,
                         PlayerMatchStatsDAO playerMatchStatsDAO,
-                        StaffDAO staffDAO) {
+                        StaffDAO staffDAO,
+                        PlayerDAO playerDAO) {
+        this(trainingSessionDAO, attendanceDAO, playerMatchStatsDAO, staffDAO, playerDAO, null);
+    }
+
+    /**
+     * @param dashboardService invalidated after session writes, or null if nothing caches the dashboard
+     */
+    public CoachService(TrainingSessionDAO trainingSessionDAO,
+                        AttendanceDAO attendanceDAO,
+                        PlayerMatchStatsDAO playerMatchStatsDAO,
+                        StaffDAO staffDAO,
+                        PlayerDAO playerDAO,
+                        DashboardService dashboardService) {
         this.trainingSessionDAO = Objects.requireNonNull(trainingSessionDAO, "trainingSessionDAO");
         this.attendanceDAO = Objects.requireNonNull(attendanceDAO, "attendanceDAO");
         this.playerMatchStatsDAO = Objects.requireNonNull(playerMatchStatsDAO, "playerMatchStatsDAO");
         this.staffDAO = Objects.requireNonNull(staffDAO, "staffDAO");
+        this.playerDAO = Objects.requireNonNull(playerDAO, "playerDAO");
+        this.dashboardService = dashboardService;
     }
 
     public TrainingSession createSession(CoachUser coach, TrainingSession session) {
@@ -39,6 +60,7 @@ public class CoachService {
             session.setCoachId(resolveCoachStaffId(coach));
         }
         trainingSessionDAO.insert(session);
+        invalidateDashboard();
         return session;
     }
 
@@ -49,11 +71,13 @@ public class CoachService {
             throw new IllegalArgumentException("Session must have a valid id for update");
         }
         trainingSessionDAO.update(session);
+        invalidateDashboard();
     }
 
     public void deleteSession(CoachUser coach, int sessionId) {
         requireCoach(coach);
         trainingSessionDAO.delete(sessionId);
+        invalidateDashboard();
     }
 
     public List<TrainingSession> listSessions(CoachUser coach) {
@@ -65,16 +89,28 @@ public class CoachService {
     public AttendanceRecord upsertAttendance(CoachUser coach, AttendanceRecord record) {
         requireCoach(coach);
         Objects.requireNonNull(record, "record");
-        AttendanceRecord existing = attendanceDAO.getByPlayerAndSession(record.getPlayerId(), record.getSessionId());
-        if (existing == null) {
-            attendanceDAO.insert(record);
-            return record;
-        }
-        record.setAttendanceId(existing.getAttendanceId());
-        attendanceDAO.update(record);
+        attendanceDAO.upsertSessionAttendance(record.getSessionId(), List.of(record));
         return record;
     }
 
+    /**
+     * Records attendance for a whole session in one batched write; players
+     * already marked for the session have their entry updated in place.
+     */
+    public List<AttendanceRecord> recordSessionAttendance(CoachUser coach, int sessionId,
+                                                          List<AttendanceRecord> records) {
+        requireCoach(coach);
+        Objects.requireNonNull(records, "records");
+        for (AttendanceRecord record : records) {
+            Objects.requireNonNull(record, "record");
+            if (record.getSessionId() > 0 && record.getSessionId() != sessionId) {
+                throw new IllegalArgumentException("Attendance record belongs to session " + record.getSessionId());
+            }
+        }
+        attendanceDAO.upsertSessionAttendance(sessionId, records);
+        return records;
+    }
+
     public List<AttendanceRecord> getAttendanceForSession(CoachUser coach, int sessionId) {
         requireCoach(coach);
         return attendanceDAO.getBySessionId(sessionId);
@@ -106,6 +142,32 @@ public class CoachService {
         return playerMatchStatsDAO.getByMatchId(matchId);
     }
 
+    /**
+     * Gets the players behind a set of stats entries, keyed by player id, in
+     * one batched lookup.
+     */
+    public Map<Integer, Player> getPlayersForStats(CoachUser coach, Collection<PlayerMatchStats> statsList) {
+        requireCoach(coach);
+        Objects.requireNonNull(statsList, "statsList");
+        return playerDAO.getByIds(statsList.stream().map(PlayerMatchStats::getPlayerId).toList());
+    }
+
+    /**
+     * Gets the players on a set of attendance records, keyed by player id, in
+     * one batched lookup.
+     */
+    public Map<Integer, Player> getPlayersForAttendance(CoachUser coach, Collection<AttendanceRecord> records) {
+        requireCoach(coach);
+        Objects.requireNonNull(records, "records");
+        return playerDAO.getByIds(records.stream().map(AttendanceRecord::getPlayerId).toList());
+    }
+
+    private void invalidateDashboard() {
+        if (dashboardService != null) {
+            dashboardService.invalidate();
+        }
+    }
+
     private void requireCoach(CoachUser coach) {
         if (coach == null) {
             throw new IllegalArgumentException("Coach user required for this operation");
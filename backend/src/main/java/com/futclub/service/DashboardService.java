@@ -0,0 +1,91 @@
+package com.futclub.service;
+
+import com.futclub.database.dao.DashboardDAO;
+import com.futclub.database.dao.StaffDAO;
+import com.futclub.model.CoachUser;
+import com.futclub.model.DashboardCounts;
+import com.futclub.model.Staff;
+import com.futclub.model.User;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves the home dashboard counters from a short-lived cache.
+ *
+ * Coaches see their own sessions, everyone else sees the whole club, so the
+ * cache holds one entry per coach plus one club-wide entry. Services that
+ * write players, staff, matches or sessions call {@link #invalidate()}, so
+ * the TTL only bounds how stale time-based counters ("upcoming") can get.
+ */
+public class DashboardService {
+
+    public static final long DEFAULT_TTL_MILLIS = 5_000L;
+
+    /** Cache key for the club-wide view; user ids start at 1. */
+    private static final int CLUB_WIDE = 0;
+
+    private final DashboardDAO dashboardDAO;
+    private final StaffDAO staffDAO;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Integer, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public DashboardService(DashboardDAO dashboardDAO, StaffDAO staffDAO) {
+        this(dashboardDAO, staffDAO, DEFAULT_TTL_MILLIS, System::currentTimeMillis);
+    }
+
+    DashboardService(DashboardDAO dashboardDAO, StaffDAO staffDAO, long ttlMillis, LongSupplier clock) {
+        this.dashboardDAO = Objects.requireNonNull(dashboardDAO, "dashboardDAO");
+        this.staffDAO = Objects.requireNonNull(staffDAO, "staffDAO");
+        this.ttlMillis = ttlMillis;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Get the dashboard counters for a user, or null if they could not be loaded.
+     *
+     * @throws IllegalStateException if a coach has no staff record
+     */
+    public DashboardCounts getCounts(User user) {
+        Objects.requireNonNull(user, "user");
+        int key = user instanceof CoachUser ? user.getUserId() : CLUB_WIDE;
+        long now = clock.getAsLong();
+        Entry cached = cache.get(key);
+        if (cached != null && now < cached.expiresAt()) {
+            return cached.counts();
+        }
+
+        long loadedGeneration = generation.get();
+        Integer coachId = user instanceof CoachUser coach ? resolveCoachStaffId(coach) : null;
+        DashboardCounts counts = dashboardDAO.getCounts(new Timestamp(now), coachId);
+        // A write that lands while the query runs must not be hidden behind the result.
+        if (counts != null && generation.get() == loadedGeneration) {
+            cache.put(key, new Entry(counts, now + ttlMillis));
+        }
+        return counts;
+    }
+
+    /**
+     * Drops every cached entry. Call after any write the dashboard counts.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private int resolveCoachStaffId(CoachUser coach) {
+        Staff staff = staffDAO.getByUserId(coach.getUserId());
+        if (staff == null) {
+            throw new IllegalStateException("No staff record linked to coach user " + coach.getUsername());
+        }
+        return staff.getStaffId();
+    }
+
+    private record Entry(DashboardCounts counts, long expiresAt) {
+    }
+}
@@ -36,9 +36,18 @@ public class AuthenticationService {
     }
 
     public User register(User user, String plainPassword) {
+        prepareRegistration(user, plainPassword);
+        userDAO.insert(user);
+        return user;
+    }
+
+    /**
+     * Validates a new user and hashes its password without saving it, so
+     * callers can do the slow hashing before opening a transaction.
+     */
+    public User prepareRegistration(User user, String plainPassword) {
         validatePreconditions(user, plainPassword);
         user.setPasswordHash(PasswordHasher.hash(plainPassword));
-        userDAO.insert(user);
         return user;
     }
 
@@ -0,0 +1,99 @@
+-- ============================================================================
+-- MIGRATION 3: player_totals
+-- Running totals per player over player_match_stats, kept current by the
+-- triggers below so leaderboards read an index instead of grouping every
+-- stats row. Rating columns only count appearances with minutes played,
+-- matching the average the top-rated query computed before.
+-- A player's row is removed together with their last stats row.
+-- Recover from drift with DatabaseInitializer.rebuildPlayerTotals().
+-- ============================================================================
+CREATE TABLE IF NOT EXISTS player_totals (
+    player_id INTEGER PRIMARY KEY,
+    appearances INTEGER NOT NULL DEFAULT 0,
+    minutes_played INTEGER NOT NULL DEFAULT 0,
+    goals INTEGER NOT NULL DEFAULT 0,
+    assists INTEGER NOT NULL DEFAULT 0,
+    rating_sum REAL NOT NULL DEFAULT 0,
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    yellow_cards INTEGER NOT NULL DEFAULT 0,
+    red_cards INTEGER NOT NULL DEFAULT 0,
+    average_rating REAL GENERATED ALWAYS AS (rating_sum / NULLIF(rating_count, 0)) VIRTUAL
+);
+
+-- Leaderboards walk these in order and stop after LIMIT rows
+CREATE INDEX IF NOT EXISTS idx_player_totals_goals ON player_totals(goals DESC, player_id);
+CREATE INDEX IF NOT EXISTS idx_player_totals_rating ON player_totals(average_rating DESC, player_id)
+    WHERE rating_count > 0;
+
+-- Trigger: Add a new stats row to its player's totals
+DROP TRIGGER IF EXISTS player_totals_after_stats_insert;
+CREATE TRIGGER IF NOT EXISTS player_totals_after_stats_insert
+AFTER INSERT ON player_match_stats
+BEGIN
+    INSERT INTO player_totals (player_id, appearances, minutes_played, goals, assists,
+                               rating_sum, rating_count, yellow_cards, red_cards)
+    VALUES (NEW.player_id, 1, IFNULL(NEW.minutes_played, 0), IFNULL(NEW.goals, 0), IFNULL(NEW.assists, 0),
+            IIF(NEW.minutes_played > 0, IFNULL(NEW.rating, 0), 0),
+            IIF(NEW.minutes_played > 0 AND NEW.rating IS NOT NULL, 1, 0),
+            IFNULL(NEW.yellow_cards, 0), IFNULL(NEW.red_cards, 0))
+    ON CONFLICT(player_id) DO UPDATE SET
+        appearances = appearances + 1,
+        minutes_played = minutes_played + excluded.minutes_played,
+        goals = goals + excluded.goals,
+        assists = assists + excluded.assists,
+        rating_sum = rating_sum + excluded.rating_sum,
+        rating_count = rating_count + excluded.rating_count,
+        yellow_cards = yellow_cards + excluded.yellow_cards,
+        red_cards = red_cards + excluded.red_cards;
+END;
+
+-- Trigger: Move an edited stats row out of its old totals and into its new ones
+DROP TRIGGER IF EXISTS player_totals_after_stats_update;
+CREATE TRIGGER IF NOT EXISTS player_totals_after_stats_update
+AFTER UPDATE OF player_id, minutes_played, goals, assists, rating, yellow_cards, red_cards ON player_match_stats
+BEGIN
+    UPDATE player_totals SET
+        appearances = appearances - 1,
+        minutes_played = minutes_played - IFNULL(OLD.minutes_played, 0),
+        goals = goals - IFNULL(OLD.goals, 0),
+        assists = assists - IFNULL(OLD.assists, 0),
+        rating_sum = rating_sum - IIF(OLD.minutes_played > 0, IFNULL(OLD.rating, 0), 0),
+        rating_count = rating_count - IIF(OLD.minutes_played > 0 AND OLD.rating IS NOT NULL, 1, 0),
+        yellow_cards = yellow_cards - IFNULL(OLD.yellow_cards, 0),
+        red_cards = red_cards - IFNULL(OLD.red_cards, 0)
+    WHERE player_id = OLD.player_id;
+    INSERT INTO player_totals (player_id, appearances, minutes_played, goals, assists,
+                               rating_sum, rating_count, yellow_cards, red_cards)
+    VALUES (NEW.player_id, 1, IFNULL(NEW.minutes_played, 0), IFNULL(NEW.goals, 0), IFNULL(NEW.assists, 0),
+            IIF(NEW.minutes_played > 0, IFNULL(NEW.rating, 0), 0),
+            IIF(NEW.minutes_played > 0 AND NEW.rating IS NOT NULL, 1, 0),
+            IFNULL(NEW.yellow_cards, 0), IFNULL(NEW.red_cards, 0))
+    ON CONFLICT(player_id) DO UPDATE SET
+        appearances = appearances + 1,
+        minutes_played = minutes_played + excluded.minutes_played,
+        goals = goals + excluded.goals,
+        assists = assists + excluded.assists,
+        rating_sum = rating_sum + excluded.rating_sum,
+        rating_count = rating_count + excluded.rating_count,
+        yellow_cards = yellow_cards + excluded.yellow_cards,
+        red_cards = red_cards + excluded.red_cards;
+    DELETE FROM player_totals WHERE player_id = OLD.player_id AND appearances <= 0;
+END;
+
+-- Trigger: Take a removed stats row out of its player's totals
+DROP TRIGGER IF EXISTS player_totals_after_stats_delete;
+CREATE TRIGGER IF NOT EXISTS player_totals_after_stats_delete
+AFTER DELETE ON player_match_stats
+BEGIN
+    UPDATE player_totals SET
+        appearances = appearances - 1,
+        minutes_played = minutes_played - IFNULL(OLD.minutes_played, 0),
+        goals = goals - IFNULL(OLD.goals, 0),
+        assists = assists - IFNULL(OLD.assists, 0),
+        rating_sum = rating_sum - IIF(OLD.minutes_played > 0, IFNULL(OLD.rating, 0), 0),
+        rating_count = rating_count - IIF(OLD.minutes_played > 0 AND OLD.rating IS NOT NULL, 1, 0),
+        yellow_cards = yellow_cards - IFNULL(OLD.yellow_cards, 0),
+        red_cards = red_cards - IFNULL(OLD.red_cards, 0)
+    WHERE player_id = OLD.player_id;
+    DELETE FROM player_totals WHERE player_id = OLD.player_id AND appearances <= 0;
+END;
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- MIGRATION 4: drop superseded indexes
+-- Migration 1 only creates missing objects, so files created before these
+-- indexes were replaced still carry them and pay for them on every write.
+--   idx_players_shirt_number - a prefix of idx_players_summary
+--   idx_match_events_match   - a prefix of idx_match_events_timeline
+-- idx_matches_date is recreated for files whose baseline briefly lacked it;
+-- match keyset pages need a one-column index to walk without sorting.
+-- ============================================================================
+DROP INDEX IF EXISTS idx_players_shirt_number;
+DROP INDEX IF EXISTS idx_match_events_match;
+CREATE INDEX IF NOT EXISTS idx_matches_date ON matches(match_date);
@@ -2,8 +2,9 @@
 -- FutClub Manager Database Schema
 -- ============================================================================
 -- This script creates all tables for the FutClub Manager system
--- Execute this script to initialize a new database
--- SQLite version 3.x compatible
+-- It is migration 1 of SchemaMigrator; later changes go in new migrations
+-- SQLite version 3.38+ (unixepoch)
+-- Dates and timestamps are stored as INTEGER epoch milliseconds
 -- ============================================================================
 
 -- ============================================================================
@@ -15,7 +16,7 @@ CREATE TABLE IF NOT EXISTS users (
     username TEXT NOT NULL UNIQUE,
     password_hash TEXT NOT NULL,
     role TEXT NOT NULL CHECK(role IN ('COACH', 'ANALYST', 'ADMINISTRATOR')),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT (unixepoch() * 1000),
     last_login TIMESTAMP,
     is_active INTEGER DEFAULT 1 CHECK(is_active IN (0, 1))
 );
@@ -57,20 +58,23 @@ CREATE TABLE IF NOT EXISTS players (
     overall_rating INTEGER DEFAULT 50 CHECK(overall_rating BETWEEN 1 AND 99),
     fitness_level INTEGER DEFAULT 100 CHECK(fitness_level BETWEEN 0 AND 100),
     injury_details TEXT,
-    joined_date DATE DEFAULT CURRENT_DATE,
+    joined_date DATE DEFAULT (unixepoch(date('now', 'localtime'), 'utc') * 1000),
     contract_end DATE,
     nationality TEXT,
     height_cm INTEGER,
     weight_kg INTEGER,
     preferred_foot TEXT CHECK(preferred_foot IN ('LEFT', 'RIGHT', 'BOTH')),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT (unixepoch() * 1000),
+    updated_at TIMESTAMP DEFAULT (unixepoch() * 1000)
 );
 
 -- Indexes for common queries
 CREATE INDEX IF NOT EXISTS idx_players_position ON players(position);
 CREATE INDEX IF NOT EXISTS idx_players_status ON players(status);
-CREATE INDEX IF NOT EXISTS idx_players_shirt_number ON players(shirt_number);
+-- Shirt-number lookups; the trailing columns cover PlayerSummary reads
+CREATE INDEX IF NOT EXISTS idx_players_summary ON players(shirt_number, first_name, last_name, position, status);
+-- Keyset pages of the squad; players without a number sort as 0
+CREATE INDEX IF NOT EXISTS idx_players_shirt_page ON players(IFNULL(shirt_number, 0));
 
 -- ============================================================================
 -- TABLE: matches
@@ -88,12 +92,16 @@ CREATE TABLE IF NOT EXISTS matches (
     attendance INTEGER,
     weather TEXT,
     notes TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT (unixepoch() * 1000),
+    updated_at TIMESTAMP DEFAULT (unixepoch() * 1000)
 );
 
 -- Indexes for match queries
+-- Date lookups and keyset pages on (match_date, match_id): every entry of a
+-- one-column index ends in the rowid, so pages walk it without sorting
 CREATE INDEX IF NOT EXISTS idx_matches_date ON matches(match_date);
+-- Covers MatchSummary reads; its entries do not end in match_id order
+CREATE INDEX IF NOT EXISTS idx_matches_summary ON matches(match_date, opponent, goals_for, goals_against, match_status);
 CREATE INDEX IF NOT EXISTS idx_matches_status ON matches(match_status);
 CREATE INDEX IF NOT EXISTS idx_matches_competition ON matches(competition);
 
@@ -110,7 +118,7 @@ CREATE TABLE IF NOT EXISTS training_sessions (
     intensity TEXT CHECK(intensity IN ('LOW', 'MEDIUM', 'HIGH')),
     coach_id INTEGER,
     notes TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT (unixepoch() * 1000),
     FOREIGN KEY (coach_id) REFERENCES staff(staff_id) ON DELETE SET NULL
 );
 
@@ -129,7 +137,7 @@ CREATE TABLE IF NOT EXISTS attendance (
     session_id INTEGER NOT NULL,
     status TEXT NOT NULL DEFAULT 'PRESENT' CHECK(status IN ('PRESENT', 'ABSENT', 'EXCUSED', 'LATE', 'INJURED')),
     notes TEXT,
-    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    recorded_at TIMESTAMP DEFAULT (unixepoch() * 1000),
     FOREIGN KEY (player_id) REFERENCES players(player_id) ON DELETE CASCADE,
     FOREIGN KEY (session_id) REFERENCES training_sessions(session_id) ON DELETE CASCADE,
     UNIQUE(player_id, session_id)
@@ -163,7 +171,7 @@ CREATE TABLE IF NOT EXISTS player_match_stats (
     fouls_committed INTEGER DEFAULT 0 CHECK(fouls_committed >= 0),
     fouls_won INTEGER DEFAULT 0 CHECK(fouls_won >= 0),
     was_starter INTEGER DEFAULT 1 CHECK(was_starter IN (0, 1)),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT (unixepoch() * 1000),
     FOREIGN KEY (player_id) REFERENCES players(player_id) ON DELETE CASCADE,
     FOREIGN KEY (match_id) REFERENCES matches(match_id) ON DELETE CASCADE,
     UNIQUE(player_id, match_id)
@@ -186,12 +194,13 @@ CREATE TABLE IF NOT EXISTS match_events (
     minute INTEGER NOT NULL CHECK(minute BETWEEN 0 AND 130),
     second INTEGER DEFAULT 0 CHECK(second BETWEEN 0 AND 59),
     description TEXT,
-    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    recorded_at TIMESTAMP DEFAULT (unixepoch() * 1000),
     FOREIGN KEY (match_id) REFERENCES matches(match_id) ON DELETE CASCADE,
     FOREIGN KEY (player_id) REFERENCES players(player_id) ON DELETE SET NULL
 );
 
-CREATE INDEX IF NOT EXISTS idx_match_events_match ON match_events(match_id);
+-- Match lookups, timeline order and keyset pages on (minute, second, event_id)
+CREATE INDEX IF NOT EXISTS idx_match_events_timeline ON match_events(match_id, minute, second);
 CREATE INDEX IF NOT EXISTS idx_match_events_type ON match_events(event_type);
 
 -- ============================================================================
@@ -211,7 +220,8 @@ FROM players
 WHERE status != 'UNAVAILABLE'
 ORDER BY shirt_number;
 
--- View: Upcoming matches
+-- View: Upcoming matches (recreated so older files pick up the epoch comparison)
+DROP VIEW IF EXISTS upcoming_matches;
 CREATE VIEW IF NOT EXISTS upcoming_matches AS
 SELECT 
     match_id,
@@ -221,7 +231,7 @@ SELECT
     competition
 FROM matches
 WHERE match_status = 'SCHEDULED' 
-  AND match_date >= date('now')
+  AND match_date >= unixepoch(date('now', 'localtime'), 'utc') * 1000
 ORDER BY match_date;
 
 -- View: Recent training sessions with attendance count
@@ -244,20 +254,22 @@ ORDER BY ts.session_date DESC;
 -- ============================================================================
 
 -- Trigger: Update players.updated_at on any update
+DROP TRIGGER IF EXISTS update_player_timestamp;
 CREATE TRIGGER IF NOT EXISTS update_player_timestamp 
 AFTER UPDATE ON players
 BEGIN
     UPDATE players 
-    SET updated_at = CURRENT_TIMESTAMP 
+    SET updated_at = unixepoch() * 1000 
     WHERE player_id = NEW.player_id;
 END;
 
 -- Trigger: Update matches.updated_at on any update
+DROP TRIGGER IF EXISTS update_match_timestamp;
 CREATE TRIGGER IF NOT EXISTS update_match_timestamp 
 AFTER UPDATE ON matches
 BEGIN
     UPDATE matches 
-    SET updated_at = CURRENT_TIMESTAMP 
+    SET updated_at = unixepoch() * 1000 
     WHERE match_id = NEW.match_id;
 END;
 
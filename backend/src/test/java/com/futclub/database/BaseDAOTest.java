@@ -1,26 +1,24 @@
 package com.futclub.database;
 
+import com.futclub.database.test.util.TemplateDatabase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import java.sql.Connection;
 import java.sql.SQLException;
 
 /**
  * Base class for all database tests.
- * Provides common setup and teardown for test database.
+ * Each test runs against its own seeded copy of the template database.
  */
+@ExtendWith(TemplateDatabase.class)
 public abstract class BaseDAOTest {
 
     protected Connection connection;
 
     @BeforeEach
     public void setUp() throws SQLException {
-        // Reset connection before each test
-        DatabaseConnection.closeConnection();
-
-        // Initialize test database
-        DatabaseInitializer.initializeDatabase();
-        DatabaseInitializer.loadSeedData();
+        // TemplateDatabase has already pointed the pool at a fresh seeded copy
         connection = DatabaseConnection.getConnection();
     }
 
@@ -30,9 +28,6 @@ public abstract class BaseDAOTest {
         if (connection != null && !connection.isClosed()) {
             connection.close();
         }
-
-        // Reset singleton connection for next test
-        DatabaseConnection.closeConnection();
     }
 
     /**
@@ -1,48 +1,87 @@
 package com.futclub.database;
 
+import com.futclub.database.test.util.TemplateDatabase;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.sqlite.SQLiteConnection;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests for DatabaseConnection class.
  */
+@ExtendWith(TemplateDatabase.class)
 class DatabaseConnectionTest {
 
-    @BeforeEach
-    void setUp() throws Exception {
-        DatabaseInitializer.initializeDatabase();
-        DatabaseInitializer.loadSeedData();
+    @Test
+    void testGetConnection() throws Exception {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            assertNotNull(conn, "Connection should not be null");
+            assertFalse(conn.isClosed(), "Connection should be open");
+        }
     }
 
     @Test
-    void testGetConnection() throws Exception {
-        Connection conn = DatabaseConnection.getConnection();
-        assertNotNull(conn, "Connection should not be null");
-        assertFalse(conn.isClosed(), "Connection should be open");
+    void testConnectionIsReturnedToPool() throws Exception {
+        SQLiteConnection first;
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            first = conn.unwrap(SQLiteConnection.class);
+        }
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            assertSame(first, conn.unwrap(SQLiteConnection.class), "Released connection should be reused");
+            assertFalse(first.isClosed(), "Physical connection should stay open after release");
+        }
+    }
+
+    @Test
+    void testConcurrentReadLeasesUseDistinctConnections() throws Exception {
+        try (Connection conn1 = DatabaseConnection.getReadConnection();
+             Connection conn2 = DatabaseConnection.getReadConnection()) {
+            assertNotSame(conn1.unwrap(SQLiteConnection.class), conn2.unwrap(SQLiteConnection.class));
+        }
+    }
+
+    @Test
+    void testWriterLeaseIsReentrantOnSameThread() throws Exception {
+        try (Connection outer = DatabaseConnection.getWriteConnection();
+             Connection inner = DatabaseConnection.getWriteConnection()) {
+            assertSame(outer.unwrap(SQLiteConnection.class), inner.unwrap(SQLiteConnection.class),
+                    "Same thread should share the single writer");
+        }
+    }
+
+    @Test
+    void testReadConnectionRejectsWrites() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             Statement stmt = conn.createStatement()) {
+            assertThrows(SQLException.class,
+                    () -> stmt.executeUpdate("UPDATE players SET status = 'AVAILABLE'"));
+        }
     }
 
     @Test
-    void testConnectionIsSingleton() throws Exception {
-        Connection conn1 = DatabaseConnection.getConnection();
-        Connection conn2 = DatabaseConnection.getConnection();
-        assertSame(conn1, conn2, "Should return same connection instance");
+    void testClosedLeaseCannotBeUsed() throws Exception {
+        Connection conn = DatabaseConnection.getReadConnection();
+        conn.close();
+        assertTrue(conn.isClosed(), "Lease should report closed after release");
+        assertThrows(SQLException.class, conn::createStatement);
     }
 
     @Test
     void testTestConnection() throws Exception {
-        DatabaseInitializer.initializeDatabase();
         assertTrue(DatabaseConnection.testConnection(), "Test connection should succeed");
     }
 
     @Test
     void testCloseConnection() throws Exception {
-        DatabaseConnection.getConnection(); // Ensure connection exists
+        DatabaseConnection.getPool(); // Ensure pool exists
         DatabaseConnection.closeConnection();
-        // Connection should be closed now
+        // Pool should be shut down now
         // Getting a new connection should work
-        Connection newConn = DatabaseConnection.getConnection();
-        assertNotNull(newConn, "Should be able to get new connection after close");
+        try (Connection newConn = DatabaseConnection.getConnection()) {
+            assertNotNull(newConn, "Should be able to get new connection after close");
+        }
     }
 }
@@ -1,26 +1,38 @@
 package com.futclub.database;
 
+import com.futclub.security.PasswordHasher;
+import com.futclub.database.test.util.TemplateDatabase;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests for DatabaseInitializer class.
  */
+@ExtendWith(TemplateDatabase.class)
 class DatabaseInitializerTest {
 
     private Connection connection;
 
     @BeforeEach
     void setUp() throws Exception {
-        DatabaseInitializer.initializeDatabase();
-        DatabaseInitializer.loadSeedData();
         connection = DatabaseConnection.getConnection();
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        // Return the leased connection to the pool
+        connection.close();
+    }
+
     @Test
     void testInitializeDatabase() throws Exception {
         // Verify tables were created
@@ -56,6 +68,154 @@ class DatabaseInitializerTest {
     @Test
     void testIsDatabaseInitialized() throws Exception {
         assertTrue(DatabaseInitializer.isDatabaseInitialized(),
-                  "Database should be initialized after calling initializeDatabase()");
+                  "The seeded copy should report an initialized schema");
+    }
+
+    @Test
+    void testSeedDatesStoredAsEpochMillis() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM matches WHERE typeof(match_date) <> 'integer'");
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1), "Seed match dates should be converted to epoch millis");
+
+            rs = stmt.executeQuery("SELECT COUNT(*) FROM players WHERE typeof(date_of_birth) <> 'integer' " +
+                    "OR typeof(created_at) <> 'integer'");
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1), "Seed player dates should be converted to epoch millis");
+
+            rs = stmt.executeQuery("SELECT match_date FROM matches WHERE opponent = 'Real Madrid' ORDER BY match_id LIMIT 1");
+            assertTrue(rs.next());
+            assertEquals(Timestamp.valueOf("2024-10-15 21:00:00").getTime(), rs.getLong(1));
+        }
+    }
+
+    @Test
+    void testConvertLegacyDatesIsIdempotent() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE matches SET match_date = '2025-01-05 18:30:00' WHERE match_id = 1");
+        }
+
+        DatabaseInitializer.convertLegacyDates(connection);
+        DatabaseInitializer.convertLegacyDates(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT typeof(match_date), match_date FROM matches WHERE match_id = 1")) {
+            assertTrue(rs.next());
+            assertEquals("integer", rs.getString(1));
+            assertEquals(Timestamp.valueOf("2025-01-05 18:30:00").getTime(), rs.getLong(2));
+        }
+    }
+
+    @Test
+    void testSeedPasswordsAreHashed() throws Exception {
+        Set<String> hashes = new HashSet<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT password_hash FROM users " +
+                     "WHERE username IN ('coach.smith', 'analyst.jones', 'admin.wilson')")) {
+            while (rs.next()) {
+                assertTrue(PasswordHasher.matches("password123", rs.getString(1)), "Seed password should verify");
+                hashes.add(rs.getString(1));
+            }
+        }
+        assertEquals(3, hashes.size(), "Each seed account should have its own salt");
+    }
+
+    @Test
+    void testUpsertSeedDataKeepsExistingRows() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE players SET status = 'INJURED' WHERE player_id = 1");
+            stmt.executeUpdate("DELETE FROM match_events WHERE event_id = 1");
+            stmt.executeUpdate("INSERT INTO matches (match_date, opponent, venue, competition) " +
+                    "VALUES (1767225600000, 'Extra FC', 'HOME', 'Friendly')");
+        }
+        int players = count("players");
+        int matches = count("matches");
+        int events = count("match_events");
+
+        DatabaseInitializer.upsertSeedData();
+        DatabaseInitializer.upsertSeedData();
+
+        assertEquals(players, count("players"), "Existing players should not be duplicated");
+        assertEquals(matches, count("matches"), "Rows added after seeding should be kept");
+        assertEquals(events + 1, count("match_events"), "Missing seed rows should be restored");
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT status FROM players WHERE player_id = 1")) {
+            assertTrue(rs.next());
+            assertEquals("INJURED", rs.getString(1), "Existing rows should not be overwritten");
+        }
+    }
+
+    @Test
+    void testUpsertSeedDataDoesNotAttachSeedRowsToExistingIds() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            for (String table : new String[] {"match_events", "player_match_stats", "attendance",
+                    "training_sessions", "matches", "players", "staff", "users", "sqlite_sequence"}) {
+                stmt.executeUpdate("DELETE FROM " + table);
+            }
+            // Unrelated rows holding every id the seed script uses
+            for (int i = 1; i <= 3; i++) {
+                stmt.executeUpdate("INSERT INTO users (username, password_hash, role) VALUES ('other." + i + "', 'x', 'COACH')");
+            }
+            stmt.executeUpdate("INSERT INTO staff (full_name, user_id, email) VALUES ('Other Coach', 1, 'other@club.com')");
+            for (int i = 1; i <= 16; i++) {
+                // The last one takes Lewandowski's shirt number
+                int shirt = i == 16 ? 9 : 50 + i;
+                stmt.executeUpdate("INSERT INTO players (first_name, last_name, date_of_birth, position, shirt_number) "
+                        + "VALUES ('Other', 'Player" + i + "', 631152000000, 'CM', " + shirt + ")");
+            }
+            for (int i = 1; i <= 8; i++) {
+                stmt.executeUpdate("INSERT INTO matches (match_date, opponent, venue, competition) "
+                        + "VALUES (" + (1767225600000L + i) + ", 'Other FC', 'HOME', 'Friendly')");
+            }
+            for (int i = 1; i <= 7; i++) {
+                stmt.executeUpdate("INSERT INTO training_sessions (session_date, focus, location) "
+                        + "VALUES (" + (1767225600000L + i) + ", 'Other', 'Pitch')");
+            }
+        }
+
+        DatabaseInitializer.upsertSeedData();
+        int players = count("players");
+        int stats = count("player_match_stats");
+        int events = count("match_events");
+        DatabaseInitializer.upsertSeedData();
+
+        assertEquals(16 + 14, players, "Every seed player but the one whose shirt number is taken should be added");
+        assertEquals(players, count("players"));
+        assertEquals(stats, count("player_match_stats"), "A second upsert should add nothing");
+        assertEquals(events, count("match_events"));
+        assertTrue(stats > 0);
+        assertEquals(0, scalar("SELECT COUNT(*) FROM players WHERE last_name = 'Lewandowski'"));
+        assertEquals("other.1", text("SELECT username FROM users WHERE user_id = 1"));
+        assertEquals(3, scalar("SELECT COUNT(*) FROM staff s JOIN users u ON u.user_id = s.user_id "
+                + "WHERE u.username IN ('coach.smith', 'analyst.jones', 'admin.wilson')"));
+        assertEquals(1, scalar("SELECT COUNT(*) FROM staff WHERE user_id <= 3"));
+        assertEquals(0, scalar("SELECT COUNT(*) FROM training_sessions WHERE coach_id = 1"));
+        assertEquals(0, scalar("SELECT COUNT(*) FROM attendance WHERE player_id <= 16 OR session_id <= 7"));
+        assertEquals(0, scalar("SELECT COUNT(*) FROM player_match_stats WHERE player_id <= 16 OR match_id <= 8"));
+        assertEquals(0, scalar("SELECT COUNT(*) FROM match_events WHERE match_id <= 8 OR player_id <= 16"));
+    }
+
+    private int scalar(String sql) throws Exception {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    private String text(String sql) throws Exception {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getString(1);
+        }
+    }
+
+    private int count(String table) throws Exception {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the asynchronous DatabaseLogger backend.
+ */
+class DatabaseLoggerTest {
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final LogSink collector = (level, line) -> lines.add(line);
+
+    @BeforeEach
+    void setUp() {
+        DatabaseLogger.setConsoleEnabled(false);
+        DatabaseLogger.addSink(collector);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DatabaseLogger.removeSink(collector);
+        DatabaseLogger.setConsoleEnabled(true);
+        DatabaseLogger.setMinimumLevel(DatabaseLogger.LogLevel.INFO);
+        DatabaseLogger.configureFromConfig();
+    }
+
+    @Test
+    void testAsyncMessagesAreWrittenByBackgroundThread() {
+        DatabaseLogger.startAsync(64, DatabaseLogger.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            DatabaseLogger.info("message " + i);
+        }
+        DatabaseLogger.flush();
+
+        assertTrue(DatabaseLogger.isAsync());
+        assertEquals(10, lines.size());
+        assertTrue(lines.get(0).matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}] \\[INFO] message 0"),
+                lines.get(0));
+        assertTrue(lines.get(9).endsWith("message 9"));
+    }
+
+    @Test
+    void testDisabledLevelDoesNotBuildMessage() {
+        DatabaseLogger.setMinimumLevel(DatabaseLogger.LogLevel.WARN);
+        AtomicInteger built = new AtomicInteger();
+        DatabaseLogger.debug(() -> "debug " + built.incrementAndGet());
+        DatabaseLogger.info(() -> "info " + built.incrementAndGet());
+        DatabaseLogger.warn(() -> "warn " + built.incrementAndGet());
+        DatabaseLogger.flush();
+
+        assertEquals(1, built.get());
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("[WARN] warn 1"));
+    }
+
+    @Test
+    void testDropPolicyCountsDiscardedMessages() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        LogSink slow = (level, line) -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        DatabaseLogger.addSink(slow);
+        try {
+            DatabaseLogger.startAsync(2, DatabaseLogger.OverflowPolicy.DROP);
+            long droppedBefore = DatabaseLogger.getDroppedCount();
+            DatabaseLogger.info("first");
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 5; i++) {
+                DatabaseLogger.info("burst " + i);
+            }
+            assertEquals(3, DatabaseLogger.getDroppedCount() - droppedBefore);
+
+            release.countDown();
+            DatabaseLogger.flush();
+            assertTrue(lines.stream().anyMatch(line -> line.contains("3 log messages dropped")), lines.toString());
+        } finally {
+            release.countDown();
+            DatabaseLogger.removeSink(slow);
+        }
+    }
+
+    @Test
+    void testStopDoesNotHangOnFullBlockingBuffer() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        LogSink stalled = (level, line) -> {
+            if (calls.getAndIncrement() > 0) {
+                return;
+            }
+            writing.countDown();
+            try {
+                new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        DatabaseLogger.addSink(stalled);
+        try {
+            DatabaseLogger.startAsync(1, DatabaseLogger.OverflowPolicy.BLOCK);
+            DatabaseLogger.info("first");
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            DatabaseLogger.info("second");
+
+            long start = System.nanoTime();
+            DatabaseLogger.stopAsync();
+            long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+            assertFalse(DatabaseLogger.isAsync());
+            assertTrue(elapsed < 10, "stopAsync took " + elapsed + "s");
+            assertTrue(lines.stream().anyMatch(line -> line.endsWith("second")), lines.toString());
+        } finally {
+            DatabaseLogger.removeSink(stalled);
+        }
+    }
+
+    @Test
+    void testRollingFileSinkKeepsBoundedBackups(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("db.log");
+        RollingFileSink sink = new RollingFileSink(file, 1024L, 2);
+        String line = "x".repeat(200);
+        for (int i = 0; i < 30; i++) {
+            sink.write(DatabaseLogger.LogLevel.INFO, line);
+        }
+        sink.close();
+
+        assertTrue(Files.size(file) <= 1024L);
+        assertTrue(Files.exists(dir.resolve("db.log.1")));
+        assertTrue(Files.exists(dir.resolve("db.log.2")));
+        assertFalse(Files.exists(dir.resolve("db.log.3")));
+    }
+
+    @Test
+    void testTimestampIsReusedWithinSameSecond() {
+        long now = System.currentTimeMillis();
+        long second = now - Math.floorMod(now, 1000L);
+        assertSame(DatabaseLogger.timestamp(second), DatabaseLogger.timestamp(second + 999L));
+        assertNotEquals(DatabaseLogger.timestamp(second), DatabaseLogger.timestamp(second + 1000L));
+    }
+}
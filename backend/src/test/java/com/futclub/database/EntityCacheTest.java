@@ -0,0 +1,88 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded entity cache behind the caching DAOs.
+ */
+class EntityCacheTest {
+
+    @Test
+    void testServesRepeatedLookupsFromMemory() {
+        EntityCache<String> cache = new EntityCache<>(10, UnaryOperator.identity());
+        List<Integer> loads = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("row-7", cache.get(7, id -> {
+                loads.add(id);
+                return "row-" + id;
+            }));
+        }
+
+        assertEquals(List.of(7), loads);
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        EntityCache<String> cache = new EntityCache<>(2, UnaryOperator.identity());
+        cache.get(1, id -> "one");
+        cache.get(2, id -> "two");
+        cache.get(1, id -> fail("1 should be cached"));
+        cache.get(3, id -> "three");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals("one", cache.get(1, id -> fail("1 was used recently")));
+        assertEquals("two again", cache.get(2, id -> "two again"));
+    }
+
+    @Test
+    void testDoesNotCacheMissingRows() {
+        EntityCache<String> cache = new EntityCache<>(10, UnaryOperator.identity());
+        assertNull(cache.get(5, id -> null));
+        assertEquals("five", cache.get(5, id -> "five"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testLoadOverlappingInvalidationIsNotKept() {
+        EntityCache<String> cache = new EntityCache<>(10, UnaryOperator.identity());
+
+        assertEquals("stale", cache.get(4, id -> {
+            // A write to the row commits while the old version is being read.
+            cache.invalidate(id);
+            return "stale";
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals("fresh", cache.get(4, id -> "fresh"));
+    }
+
+    @Test
+    void testGetAllLoadsOnlyMisses() {
+        EntityCache<String> cache = new EntityCache<>(10, UnaryOperator.identity());
+        cache.get(1, id -> "one");
+        List<Integer> requested = new ArrayList<>();
+
+        Map<Integer, String> found = cache.getAll(Arrays.asList(1, 2, 2, null, 3), ids -> {
+            requested.addAll(ids);
+            Map<Integer, String> rows = new HashMap<>();
+            rows.put(2, "two");
+            return rows;
+        });
+
+        assertEquals(List.of(2, 3), requested);
+        assertEquals(Map.of(1, "one", 2, "two"), found);
+        assertEquals("two", cache.get(2, id -> fail("2 should be cached")));
+    }
+}
@@ -0,0 +1,102 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EpochDates on a scratch in-memory database.
+ */
+class EpochDatesTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE dates (id INTEGER PRIMARY KEY, value TIMESTAMP)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void testEpochMillisRoundTrip() throws Exception {
+        Timestamp kickOff = Timestamp.valueOf("2024-10-15 21:00:00");
+        try (PreparedStatement pstmt = connection.prepareStatement("INSERT INTO dates (id, value) VALUES (1, ?)")) {
+            EpochDates.set(pstmt, 1, kickOff);
+            pstmt.executeUpdate();
+        }
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT typeof(value), value FROM dates WHERE id = 1")) {
+            assertTrue(rs.next());
+            assertEquals("integer", rs.getString(1), "Dates should be stored as integers");
+            assertEquals(kickOff, EpochDates.getTimestamp(rs, 2));
+        }
+    }
+
+    @Test
+    void testDatesBeforeEpochRoundTrip() throws Exception {
+        Date birthday = Date.valueOf("1965-03-02");
+        try (PreparedStatement pstmt = connection.prepareStatement("INSERT INTO dates (id, value) VALUES (1, ?)")) {
+            EpochDates.set(pstmt, 1, birthday);
+            pstmt.executeUpdate();
+        }
+
+        assertEquals(birthday, readDate(1));
+    }
+
+    @Test
+    void testLegacyTextValuesAreDecoded() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO dates (id, value) VALUES " +
+                    "(1, '2024-10-15 21:00:00'), (2, '1992-04-30'), (3, '1700000000000'), (4, ''), (5, NULL)");
+        }
+
+        assertEquals(Timestamp.valueOf("2024-10-15 21:00:00"), readTimestamp(1));
+        assertEquals(Date.valueOf("1992-04-30"), readDate(2));
+        assertEquals(Date.valueOf("2024-10-15"), readDate(1));
+        assertEquals(new Timestamp(1_700_000_000_000L), readTimestamp(3));
+        assertNull(readTimestamp(4), "Blank text should read as null");
+        assertNull(readDate(5));
+    }
+
+    @Test
+    void testUnparseableTextIsReported() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO dates (id, value) VALUES (1, '15/10/2024')");
+        }
+
+        assertThrows(SQLException.class, () -> readDate(1));
+    }
+
+    private Date readDate(int id) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT value FROM dates WHERE id = " + id)) {
+            assertTrue(rs.next());
+            return EpochDates.getDate(rs, 1);
+        }
+    }
+
+    private Timestamp readTimestamp(int id) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT value FROM dates WHERE id = " + id)) {
+            assertTrue(rs.next());
+            return EpochDates.getTimestamp(rs, 1);
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.futclub.database.dao.MatchEventDAO;
 import com.futclub.database.dao.MatchEventDAOImpl;
 import com.futclub.model.MatchEvent;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class MatchEventDAOTest extends BaseDAOTest {
@@ -66,4 +69,43 @@ class MatchEventDAOTest extends BaseDAOTest {
         assertThat(goals).isNotEmpty();
         assertThat(goals.get(0).getEventType()).isEqualTo("GOAL");
     }
+
+    @Test
+    void streamAllWalksEveryEventAndReleasesItsConnection() throws Exception {
+        int inUse = leasedReadConnections();
+        try (Stream<MatchEvent> events = dao.streamAll()) {
+            Iterator<MatchEvent> rows = events.iterator();
+            assertThat(rows.hasNext()).isTrue();
+            rows.next();
+            assertThat(leasedReadConnections()).isEqualTo(inUse + 1);
+        }
+        assertThat(leasedReadConnections()).isEqualTo(inUse);
+
+        try (Stream<MatchEvent> events = dao.streamAll()) {
+            assertThat(events.map(MatchEvent::getEventId))
+                    .containsExactlyElementsOf(dao.getAll().stream().map(MatchEvent::getEventId).sorted().toList());
+        }
+        assertThat(leasedReadConnections()).isEqualTo(inUse);
+    }
+
+    @Test
+    void pagesWalkTheTimelineInOrder() {
+        List<MatchEvent> paged = new ArrayList<>();
+        List<MatchEvent> page = dao.page(1, -1, 0, 0, 2);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            paged.addAll(page);
+            MatchEvent last = page.get(page.size() - 1);
+            page = dao.page(1, last.getMinute(), last.getSecond(), last.getEventId(), 2);
+        }
+
+        assertThat(paged).extracting(MatchEvent::getEventId)
+                .containsExactlyInAnyOrderElementsOf(dao.getByMatchId(1).stream().map(MatchEvent::getEventId).toList());
+        assertThat(paged).extracting(event -> event.getMinute() * 60 + event.getSecond()).isSorted();
+    }
+
+    private static int leasedReadConnections() throws Exception {
+        ConnectionPool pool = DatabaseConnection.getPool();
+        return pool.getOpenReadConnections() - pool.getIdleReadConnections();
+    }
 }
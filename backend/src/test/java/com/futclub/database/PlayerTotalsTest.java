@@ -0,0 +1,127 @@
+package com.futclub.database;
+
+import com.futclub.database.dao.PlayerMatchStatsDAOImpl;
+import com.futclub.model.PlayerMatchStats;
+import org.junit.jupiter.api.Test;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the trigger-maintained player_totals table.
+ */
+class PlayerTotalsTest extends BaseDAOTest {
+
+    private static final String TOTALS_SQL =
+            "SELECT player_id, appearances, minutes_played, goals, assists, rating_sum, rating_count, " +
+            "yellow_cards, red_cards FROM player_totals ORDER BY player_id";
+
+    private static final String EXPECTED_SQL =
+            "SELECT player_id, COUNT(*), SUM(minutes_played), SUM(goals), SUM(assists), " +
+            "TOTAL(IIF(minutes_played > 0, rating, NULL)), COUNT(IIF(minutes_played > 0, rating, NULL)), " +
+            "SUM(yellow_cards), SUM(red_cards) FROM player_match_stats GROUP BY player_id ORDER BY player_id";
+
+    @Test
+    void testSeedTotalsMatchStats() throws Exception {
+        assertFalse(rows(TOTALS_SQL).isEmpty(), "Seed stats should produce totals");
+        assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL));
+    }
+
+    @Test
+    void testTriggersFollowStatsWrites() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("INSERT INTO player_match_stats (player_id, match_id, minutes_played, goals, rating) " +
+                    "SELECT p.player_id, m.match_id, 90, 3, 9.5 FROM players p, matches m " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM player_match_stats s " +
+                    "WHERE s.player_id = p.player_id AND s.match_id = m.match_id) LIMIT 1");
+            assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL), "Insert should be added");
+
+            stmt.executeUpdate("UPDATE player_match_stats SET goals = goals + 1, minutes_played = 0 " +
+                    "WHERE stats_id = (SELECT MIN(stats_id) FROM player_match_stats)");
+            assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL), "Update should be moved");
+
+            stmt.executeUpdate("UPDATE player_match_stats SET player_id = (SELECT MAX(p.player_id) FROM players p " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM player_match_stats s WHERE s.player_id = p.player_id " +
+                    "AND s.match_id = player_match_stats.match_id)) " +
+                    "WHERE stats_id = (SELECT MAX(stats_id) FROM player_match_stats)");
+            assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL), "Reassigned row should change players");
+
+            stmt.executeUpdate("DELETE FROM player_match_stats WHERE player_id = " +
+                    "(SELECT MIN(player_id) FROM player_match_stats)");
+            assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL), "Player without stats should be removed");
+        }
+    }
+
+    @Test
+    void testRebuildRecoversFromDrift() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE player_totals SET goals = goals + 100");
+            stmt.executeUpdate("INSERT INTO player_totals (player_id, appearances) VALUES (999999, 1)");
+        }
+
+        DatabaseInitializer.rebuildPlayerTotals();
+
+        assertEquals(rows(EXPECTED_SQL), rows(TOTALS_SQL));
+    }
+
+    @Test
+    void testLeaderboardsReadTotals() throws Exception {
+        PlayerMatchStatsDAOImpl statsDAO = new PlayerMatchStatsDAOImpl();
+
+        List<PlayerMatchStats> scorers = statsDAO.getTopScorers(5);
+        List<List<Object>> expectedScorers = rows("SELECT player_id, SUM(goals) AS g FROM player_match_stats " +
+                "GROUP BY player_id ORDER BY g DESC, player_id LIMIT 5");
+        assertEquals(expectedScorers.size(), scorers.size());
+        for (int i = 0; i < scorers.size(); i++) {
+            assertEquals(((Number) expectedScorers.get(i).get(0)).intValue(), scorers.get(i).getPlayerId());
+            assertEquals(((Number) expectedScorers.get(i).get(1)).intValue(), scorers.get(i).getGoals());
+        }
+
+        List<PlayerMatchStats> rated = statsDAO.getTopRatedPlayers(5);
+        List<List<Object>> expectedRated = rows("SELECT player_id, AVG(rating) AS r FROM player_match_stats " +
+                "WHERE minutes_played > 0 GROUP BY player_id ORDER BY r DESC, player_id LIMIT 5");
+        assertEquals(expectedRated.size(), rated.size());
+        for (int i = 0; i < rated.size(); i++) {
+            assertEquals(((Number) expectedRated.get(i).get(0)).intValue(), rated.get(i).getPlayerId());
+            assertEquals(((Number) expectedRated.get(i).get(1)).doubleValue(), rated.get(i).getRating(), 1e-3);
+        }
+    }
+
+    @Test
+    void testLeaderboardsUseTotalsIndexes() throws Exception {
+        assertTrue(plan("SELECT player_id, goals FROM player_totals ORDER BY goals DESC, player_id LIMIT 10")
+                .contains("idx_player_totals_goals"));
+        assertTrue(plan("SELECT player_id, average_rating FROM player_totals WHERE rating_count > 0 " +
+                "ORDER BY average_rating DESC, player_id LIMIT 10").contains("idx_player_totals_rating"));
+    }
+
+    private List<List<Object>> rows(String sql) throws Exception {
+        List<List<Object>> rows = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                List<Object> row = new ArrayList<>();
+                for (int i = 1; i <= columns; i++) {
+                    // Compare numbers by value; SUM and stored totals may differ in storage class.
+                    row.add(Math.round(rs.getDouble(i) * 1000) / 1000.0);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private String plan(String sql) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PragmaProfile and WAL concurrency between the writer and readers.
+ */
+class PragmaProfileTest extends BaseDAOTest {
+
+    @Test
+    void testPresetsAreDistinct() {
+        assertEquals("FULL", PragmaProfile.forName("durable").getSynchronous());
+        assertEquals("NORMAL", PragmaProfile.forName("fast").getSynchronous());
+        assertEquals("OFF", PragmaProfile.forName("bulk-load").getSynchronous());
+        assertEquals("WAL", PragmaProfile.forName("DURABLE").getJournalMode());
+        assertThrows(IllegalArgumentException.class, () -> PragmaProfile.forName("reckless"));
+    }
+
+    @Test
+    void testProfileAppliedToNewConnections() throws Exception {
+        PragmaProfile profile = DatabaseConnection.getPool().getPragmaProfile();
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            assertEquals("wal", queryString(conn, "PRAGMA journal_mode;"));
+            assertEquals(String.valueOf(profile.getCacheSize()), queryString(conn, "PRAGMA cache_size;"));
+            assertEquals(String.valueOf(profile.getBusyTimeoutMs()), queryString(conn, "PRAGMA busy_timeout;"));
+        }
+        assertEquals("wal", queryString(connection, "PRAGMA journal_mode;"));
+    }
+
+    @Test
+    void testApplyToChangesSynchronousLevel() throws Exception {
+        PragmaProfile.forName("durable").applyTo(connection);
+        assertEquals("2", queryString(connection, "PRAGMA synchronous;"));
+        PragmaProfile.forName("bulk-load").applyTo(connection);
+        assertEquals("0", queryString(connection, "PRAGMA synchronous;"));
+    }
+
+    @Test
+    void testReaderProceedsWhileWriteTransactionIsOpen() throws Exception {
+        int before = countPlayersOnReader();
+
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("INSERT INTO players (first_name, last_name, date_of_birth, position, status) " +
+                    "VALUES ('Open', 'Transaction', '1995-01-01', 'CM', 'AVAILABLE')");
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Integer> read = executor.submit(this::countPlayersOnReader);
+                assertEquals(before, read.get(2, TimeUnit.SECONDS),
+                        "Reader should not block on, or see, the uncommitted insert");
+            } finally {
+                executor.shutdownNow();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        assertEquals(before + 1, countPlayersOnReader());
+    }
+
+    @Test
+    void testWriterCommitsWhileReaderHoldsSnapshot() throws Exception {
+        try (Connection reader = DatabaseConnection.getReadConnection()) {
+            reader.setAutoCommit(false);
+            int before = countPlayers(reader);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("INSERT INTO players (first_name, last_name, date_of_birth, position, status) " +
+                        "VALUES ('Snapshot', 'Commit', '1996-02-02', 'ST', 'AVAILABLE')");
+            }
+
+            assertEquals(before, countPlayers(reader), "Open read transaction keeps its snapshot");
+            reader.commit();
+            assertEquals(before + 1, countPlayers(reader));
+        }
+    }
+
+    private int countPlayersOnReader() throws SQLException {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            return countPlayers(conn);
+        }
+    }
+
+    private static int countPlayers(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT COUNT(*) FROM players");
+             ResultSet rs = pstmt.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static String queryString(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.futclub.database;
+
+import com.futclub.database.dao.UserDAOImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-statement query metrics and the slow-query log.
+ */
+class QueryMetricsTest extends BaseDAOTest {
+
+    private static final String USER_SQL = "SELECT * FROM users WHERE username = ?";
+
+    private long originalThreshold;
+
+    @BeforeEach
+    void resetMetrics() {
+        originalThreshold = QueryMetrics.getSlowQueryThresholdMs();
+        QueryMetrics.setEnabled(true);
+        QueryMetrics.reset();
+    }
+
+    @AfterEach
+    void restoreThreshold() {
+        QueryMetrics.setSlowQueryThresholdMs(originalThreshold);
+    }
+
+    @Test
+    void testDaoLookupsAreRecordedPerTemplate() {
+        UserDAOImpl userDAO = new UserDAOImpl();
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(userDAO.getByUsername("coach.smith"));
+        }
+        assertNull(userDAO.getByUsername("nobody"));
+
+        QueryStats stats = QueryMetrics.get(USER_SQL);
+        assertNotNull(stats, "Lookup statement should be recorded");
+        assertEquals(11, stats.getCount());
+        assertEquals(10, stats.getRows());
+        assertEquals("UserDAOImpl.getByUsername", stats.getSource());
+        assertTrue(stats.getP50Millis() > 0.0);
+        assertTrue(stats.getP50Millis() <= stats.getP95Millis());
+        assertTrue(stats.getP95Millis() <= stats.getP99Millis());
+        assertTrue(QueryMetrics.snapshot().contains(stats));
+    }
+
+    @Test
+    void testStatementsOverThresholdAreCountedAsSlow() {
+        QueryMetrics.setSlowQueryThresholdMs(0L);
+        new UserDAOImpl().getByUsername("coach.smith");
+
+        assertTrue(QueryMetrics.getSlowQueryCount() >= 1);
+        List<QueryStats> slowest = QueryMetrics.slowest(1);
+        assertEquals(1, slowest.size());
+    }
+
+    @Test
+    void testResetClearsStatistics() {
+        new UserDAOImpl().getByUsername("coach.smith");
+        assertNotNull(QueryMetrics.get(USER_SQL));
+
+        QueryMetrics.reset();
+        assertNull(QueryMetrics.get(USER_SQL));
+        assertEquals(0, QueryMetrics.getSlowQueryCount());
+    }
+
+    @Test
+    void testHistogramPercentilesStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordNanos(i * 1_000_000L);
+        }
+        assertEquals(50.0, histogram.percentileMillis(50.0), 50.0 * 0.125);
+        assertEquals(95.0, histogram.percentileMillis(95.0), 95.0 * 0.125);
+        assertEquals(99.0, histogram.percentileMillis(99.0), 99.0 * 0.125);
+
+        histogram.reset();
+        assertEquals(0.0, histogram.percentileMillis(99.0));
+    }
+}
@@ -0,0 +1,98 @@
+package com.futclub.database;
+
+import com.futclub.database.exception.DAOException;
+import com.futclub.database.exception.DatabaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for RetryPolicy and RetryMetrics.
+ */
+class RetryPolicyTest {
+
+    private static final String OPERATION = "RetryPolicyTest.operation";
+
+    private final RetryPolicy policy = new RetryPolicy(4, 1L, 8L, 5000L);
+
+    @BeforeEach
+    void setUp() {
+        RetryMetrics.reset();
+    }
+
+    @Test
+    void testBusyErrorIsRetriedUntilSuccess() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        String result = policy.execute(() -> OPERATION, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new SQLiteException("database is locked", SQLiteErrorCode.SQLITE_BUSY);
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, RetryMetrics.getRetryCount(OPERATION));
+        assertEquals(2L, RetryMetrics.getRetryCounts().get(OPERATION));
+    }
+
+    @Test
+    void testOtherErrorsAreNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        SQLException thrown = assertThrows(SQLException.class, () -> policy.execute(() -> OPERATION, () -> {
+            calls.incrementAndGet();
+            throw new SQLiteException("constraint failed", SQLiteErrorCode.SQLITE_CONSTRAINT);
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals("constraint failed", thrown.getMessage());
+        assertEquals(0, RetryMetrics.getRetryCount(OPERATION));
+    }
+
+    @Test
+    void testExhaustedRetriesRaiseDaoException() {
+        AtomicInteger calls = new AtomicInteger();
+        DAOException thrown = assertThrows(DAOException.class, () -> policy.execute(() -> OPERATION, () -> {
+            calls.incrementAndGet();
+            throw new SQLiteException("database table is locked", SQLiteErrorCode.SQLITE_LOCKED);
+        }));
+
+        assertEquals(4, calls.get());
+        assertInstanceOf(SQLiteException.class, thrown.getCause());
+        assertEquals(3, RetryMetrics.getRetryCount(OPERATION));
+        assertEquals(1, RetryMetrics.getExhaustedCount(OPERATION));
+    }
+
+    @Test
+    void testDeadlineStopsRetriesEarly() {
+        RetryPolicy tight = new RetryPolicy(100, 50L, 50L, 60L);
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(DAOException.class, () -> tight.execute(() -> OPERATION, () -> {
+            calls.incrementAndGet();
+            throw new SQLiteException("busy", SQLiteErrorCode.SQLITE_BUSY);
+        }));
+        assertTrue(calls.get() <= 3, "Deadline should cut retries short, made " + calls.get() + " calls");
+    }
+
+    @Test
+    void testBackoffIsJitteredAndCapped() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long delay = policy.nextDelayMillis(attempt);
+            long step = Math.min(8L, 1L << (attempt - 1));
+            assertTrue(delay >= step / 2 && delay <= step, "Delay " + delay + " out of range for attempt " + attempt);
+        }
+    }
+
+    @Test
+    void testBusyDetectionFollowsCauses() {
+        SQLException busySnapshot = new SQLiteException("busy snapshot", SQLiteErrorCode.SQLITE_BUSY_SNAPSHOT);
+        assertTrue(RetryPolicy.isBusy(busySnapshot));
+        assertTrue(RetryPolicy.isBusy(new DatabaseException("Transaction failed", busySnapshot)));
+        assertFalse(RetryPolicy.isBusy(new SQLException("plain failure")));
+        assertFalse(RetryPolicy.isBusy(new IllegalStateException("not sql")));
+    }
+}
@@ -0,0 +1,116 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SchemaMigrator on scratch in-memory databases.
+ */
+class SchemaMigratorTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void testFreshDatabaseIsMigratedToLatest() throws Exception {
+        assertEquals(0, SchemaMigrator.currentVersion(connection));
+
+        int applied = SchemaMigrator.migrate(connection);
+
+        assertEquals(SchemaMigrator.latestVersion(), applied);
+        assertEquals(SchemaMigrator.latestVersion(), SchemaMigrator.currentVersion(connection));
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type='table' AND name='players'")) {
+            assertTrue(rs.next(), "Players table should exist");
+        }
+        assertTrue(connection.getAutoCommit(), "Auto-commit should be restored");
+    }
+
+    @Test
+    void testCurrentDatabaseIsLeftAlone() throws Exception {
+        SchemaMigrator.migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP TABLE match_events");
+        }
+
+        assertEquals(0, SchemaMigrator.migrate(connection), "No migration should run on a current database");
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE name='match_events'")) {
+            assertFalse(rs.next(), "The schema should not be replayed");
+        }
+    }
+
+    @Test
+    void testUnversionedDatabaseIsUpgraded() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE matches (match_id INTEGER PRIMARY KEY AUTOINCREMENT, match_date DATETIME NOT NULL, " +
+                    "opponent TEXT NOT NULL, venue TEXT NOT NULL, competition TEXT NOT NULL, goals_for INTEGER DEFAULT 0, " +
+                    "goals_against INTEGER DEFAULT 0, match_status TEXT DEFAULT 'SCHEDULED', attendance INTEGER, " +
+                    "weather TEXT, notes TEXT, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("INSERT INTO matches (match_date, opponent, venue, competition) " +
+                    "VALUES ('2024-10-15 21:00:00', 'Real Madrid', 'HOME', 'La Liga')");
+        }
+
+        SchemaMigrator.migrate(connection);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT typeof(match_date), typeof(created_at) FROM matches")) {
+            assertTrue(rs.next());
+            assertEquals("integer", rs.getString(1));
+            assertEquals("integer", rs.getString(2));
+        }
+        assertEquals(SchemaMigrator.latestVersion(), SchemaMigrator.currentVersion(connection));
+    }
+
+    @Test
+    void testSupersededIndexesAreDropped() throws Exception {
+        SchemaMigrator.migrate(connection);
+        try (Statement stmt = connection.createStatement()) {
+            // A file created before the covering indexes replaced these.
+            stmt.execute("CREATE INDEX idx_players_shirt_number ON players(shirt_number)");
+            stmt.execute("CREATE INDEX idx_match_events_match ON match_events(match_id)");
+            stmt.execute("DROP INDEX idx_matches_date");
+            stmt.execute("PRAGMA user_version = 3");
+        }
+
+        assertEquals(1, SchemaMigrator.migrate(connection));
+
+        assertFalse(indexExists("idx_players_shirt_number"));
+        assertFalse(indexExists("idx_match_events_match"));
+        assertTrue(indexExists("idx_matches_date"));
+        assertTrue(indexExists("idx_players_summary"));
+    }
+
+    @Test
+    void testNewerDatabaseIsRejected() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA user_version = " + (SchemaMigrator.latestVersion() + 1));
+        }
+
+        assertThrows(SQLException.class, () -> SchemaMigrator.migrate(connection));
+    }
+
+    private boolean indexExists(String name) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT 1 FROM sqlite_master WHERE type='index' AND name='" + name + "'")) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.futclub.database;
+
+import com.futclub.database.dao.StaffDAOImpl;
+import com.futclub.database.dao.UserDAOImpl;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-connection prepared statement cache.
+ */
+class StatementCacheTest extends BaseDAOTest {
+
+    private static final String USER_SQL = "SELECT * FROM users WHERE username = ?";
+
+    @Test
+    void testRepeatedLookupsReuseCompiledStatements() throws Exception {
+        UserDAOImpl userDAO = new UserDAOImpl();
+        StaffDAOImpl staffDAO = new StaffDAOImpl();
+        ConnectionPool pool = DatabaseConnection.getPool();
+
+        assertNotNull(userDAO.getByUsername("coach.smith"));
+        long hitsBefore = pool.getStatementCacheHits();
+        long missesBefore = pool.getStatementCacheMisses();
+
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(userDAO.getByUsername("coach.smith"));
+            staffDAO.getByUserId(1);
+        }
+
+        assertTrue(pool.getStatementCacheHits() - hitsBefore >= 9, "Lookups should be served from the cache");
+        assertTrue(pool.getStatementCacheMisses() - missesBefore <= 1, "Only the first staff lookup should compile");
+    }
+
+    @Test
+    void testCheckedOutStatementIsNotSharedWithinLease() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement first = conn.prepareStatement(USER_SQL);
+             PreparedStatement second = conn.prepareStatement(USER_SQL)) {
+            assertNotSame(first.unwrap(PreparedStatement.class), second.unwrap(PreparedStatement.class));
+        }
+    }
+
+    @Test
+    void testReturnedStatementIsReusedAndCleanedUp() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            PreparedStatement physical;
+            ResultSet leftOpen;
+            try (PreparedStatement pstmt = conn.prepareStatement(USER_SQL)) {
+                pstmt.setString(1, "coach.smith");
+                leftOpen = pstmt.executeQuery();
+                assertTrue(leftOpen.next());
+                physical = pstmt.unwrap(PreparedStatement.class);
+            }
+            assertTrue(leftOpen.isClosed(), "Result sets are closed when the statement is returned");
+
+            try (PreparedStatement pstmt = conn.prepareStatement(USER_SQL)) {
+                assertSame(physical, pstmt.unwrap(PreparedStatement.class));
+                assertSame(conn, pstmt.getConnection());
+                pstmt.setString(1, "analyst.jones");
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals("analyst.jones", rs.getString("username"));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReExecutingClosesPreviousResults() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(USER_SQL)) {
+            pstmt.setString(1, "coach.smith");
+            ResultSet first = pstmt.executeQuery();
+            assertTrue(first.next());
+
+            pstmt.setString(1, "admin.wilson");
+            try (ResultSet second = pstmt.executeQuery()) {
+                assertTrue(first.isClosed(), "An earlier result set should close when the statement runs again");
+                assertTrue(second.next());
+                assertEquals("admin.wilson", second.getString("username"));
+            }
+        }
+    }
+
+    @Test
+    void testClosedHandleCannotBeUsed() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            PreparedStatement pstmt = conn.prepareStatement(USER_SQL);
+            pstmt.close();
+            assertTrue(pstmt.isClosed());
+            assertThrows(SQLException.class, pstmt::executeQuery);
+        }
+    }
+
+    @Test
+    void testStatementWithChangedSettingsIsNotCached() throws Exception {
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            StatementCache cache = DatabaseConnection.getPool().getStatementCache(conn);
+            PreparedStatement physical;
+            try (PreparedStatement pstmt = conn.prepareStatement(USER_SQL)) {
+                pstmt.setMaxRows(1);
+                physical = pstmt.unwrap(PreparedStatement.class);
+            }
+            assertTrue(physical.isClosed(), "Reconfigured statement should be finalized");
+            try (PreparedStatement pstmt = conn.prepareStatement(USER_SQL)) {
+                assertEquals(0, pstmt.getMaxRows());
+            }
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsEvicted() throws Exception {
+        ConnectionPool pool = new ConnectionPool(DatabaseConfig.getDatabaseUrl(), 1, 1, 1000L,
+                PragmaProfile.fromConfig(), 2);
+        pool.start();
+        try (Connection conn = pool.getReadConnection()) {
+            StatementCache cache = pool.getStatementCache(conn);
+            prepareAndClose(conn, "SELECT COUNT(*) FROM players");
+            prepareAndClose(conn, "SELECT COUNT(*) FROM matches");
+            prepareAndClose(conn, "SELECT COUNT(*) FROM players");
+            prepareAndClose(conn, "SELECT COUNT(*) FROM staff");
+
+            assertEquals(2, cache.size());
+            assertEquals(1, cache.getEvictions());
+            assertEquals(1, cache.getHits());
+
+            prepareAndClose(conn, "SELECT COUNT(*) FROM players");
+            assertEquals(2, cache.getHits(), "Recently used statement should survive eviction");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void prepareAndClose(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            assertTrue(rs.next());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.futclub.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the synthetic dataset generator.
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Scale SCALE =
+            new SyntheticDataGenerator.Scale(3, 20, 12, 10, 600, 4);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSummaryMatchesRowsWritten() throws Exception {
+        try (Connection conn = open("counts.db")) {
+            SyntheticDataGenerator.Summary summary = new SyntheticDataGenerator(7L, SCALE, 2024, 1_000).generate(conn);
+
+            assertEquals(4, count(conn, "SELECT COUNT(*) FROM users"));
+            assertEquals(summary.players(), count(conn, "SELECT COUNT(*) FROM players"));
+            assertEquals(36, summary.matches());
+            assertEquals(600, summary.matchEvents());
+            assertEquals(summary.matchEvents(), count(conn, "SELECT COUNT(*) FROM match_events"));
+            assertEquals(summary.playerMatchStats(), count(conn, "SELECT COUNT(*) FROM player_match_stats"));
+            assertEquals(summary.attendance(), count(conn, "SELECT COUNT(*) FROM attendance"));
+            assertTrue(count(conn, "SELECT COUNT(*) FROM matches WHERE match_status = 'SCHEDULED'") > 0);
+        }
+    }
+
+    @Test
+    void testGeneratedHistoryIsConsistent() throws Exception {
+        try (Connection conn = open("consistent.db")) {
+            new SyntheticDataGenerator(7L, SCALE, 2024).generate(conn);
+
+            assertEquals(0, count(conn, "SELECT COUNT(*) FROM matches m WHERE m.goals_for != "
+                    + "(SELECT COALESCE(SUM(goals), 0) FROM player_match_stats s WHERE s.match_id = m.match_id)"));
+            assertEquals(0, count(conn, "SELECT COUNT(*) FROM matches m WHERE m.goals_for != "
+                    + "(SELECT COUNT(*) FROM match_events e WHERE e.match_id = m.match_id AND e.event_type = 'GOAL')"));
+            assertEquals(0, count(conn, "SELECT COUNT(*) FROM player_match_stats WHERE shots < goals"));
+            assertEquals(0, count(conn, "SELECT COUNT(*) FROM players WHERE status = 'UNAVAILABLE' "
+                    + "AND shirt_number IS NOT NULL"));
+            assertEquals(20, count(conn, "SELECT COUNT(*) FROM players WHERE shirt_number IS NOT NULL"));
+            assertEquals(0, count(conn, "PRAGMA foreign_key_check"));
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSameData() throws Exception {
+        String query = "SELECT group_concat(first_name || last_name || position || overall_rating, ',') FROM players";
+        String events = "SELECT group_concat(match_id || event_type || minute || second || "
+                + "COALESCE(player_id, 0), ',') FROM match_events";
+        try (Connection first = open("first.db"); Connection second = open("second.db");
+             Connection other = open("other.db")) {
+            new SyntheticDataGenerator(11L, SCALE, 2024).generate(first);
+            new SyntheticDataGenerator(11L, SCALE, 2024).generate(second);
+            new SyntheticDataGenerator(12L, SCALE, 2024).generate(other);
+
+            assertEquals(text(first, query), text(second, query));
+            assertEquals(text(first, events), text(second, events));
+            assertNotEquals(text(first, events), text(other, events));
+        }
+    }
+
+    @Test
+    void testRefusesNonEmptyDatabase() throws Exception {
+        try (Connection conn = open("twice.db")) {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(7L, SCALE, 2024);
+            generator.generate(conn);
+            assertThrows(IllegalStateException.class, () -> generator.generate(conn));
+        }
+    }
+
+    private Connection open(String name) throws SQLException {
+        Connection conn = DriverManager.getConnection("jdbc:sqlite:" + dir.resolve(name));
+        DatabaseInitializer.applySchema(conn);
+        return conn;
+    }
+
+    private static long count(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            long rows = 0;
+            if (sql.startsWith("PRAGMA")) {
+                while (rs.next()) {
+                    rows++;
+                }
+                return rows;
+            }
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static String text(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.futclub.database;
+
+import com.futclub.database.dao.PlayerDAO;
+import com.futclub.database.dao.PlayerDAOImpl;
+import com.futclub.database.exception.DAOException;
+import com.futclub.database.exception.DatabaseException;
+import com.futclub.model.Player;
+import com.futclub.database.test.util.TemplateDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the single-writer queue and its group commit.
+ */
+@ExtendWith(TemplateDatabase.class)
+class WriteQueueTest {
+
+    private static final String INSERT_PLAYER =
+            "INSERT INTO players (first_name, last_name, date_of_birth, position) VALUES (?, ?, '1997-03-03', 'CM')";
+
+    private WriteQueue queue;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // A wide flush window makes the batching deterministic.
+        queue = new WriteQueue(DatabaseConnection.getPool(), 100, 200L, 256, 1000L);
+        queue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void testPendingWritesShareOneCommit() throws Exception {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(queue.submit(insertPlayer("Queued", "Player" + i)));
+        }
+
+        Set<Integer> keys = new HashSet<>();
+        for (CompletableFuture<Integer> future : futures) {
+            keys.add(future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(20, keys.size(), "Each write should get its own generated key");
+        assertFalse(keys.contains(0));
+        assertEquals(1, queue.getCommitCount(), "All writes should be committed together");
+        assertEquals(20, queue.getLastBatchSize());
+        assertEquals(20, countPlayers("Queued"));
+    }
+
+    @Test
+    void testFailedWriteDoesNotUndoItsBatch() throws Exception {
+        CompletableFuture<Integer> first = queue.submit(insertPlayer("Batch", "First"));
+        CompletableFuture<Integer> invalid = queue.submit(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO players (first_name, last_name, date_of_birth, position) VALUES ('Bad', 'Pos', '1990-01-01', 'XX')")) {
+                return pstmt.executeUpdate();
+            }
+        });
+        CompletableFuture<Integer> last = queue.submit(insertPlayer("Batch", "Last"));
+
+        assertTrue(first.get(5, TimeUnit.SECONDS) > 0);
+        assertTrue(last.get(5, TimeUnit.SECONDS) > 0);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, failure.getCause());
+
+        assertEquals(2, countPlayers("Batch"));
+        assertEquals(1, queue.getFailedWriteCount());
+    }
+
+    @Test
+    void testMetricsAreRecorded() throws Exception {
+        queue.submit(insertPlayer("Metric", "One")).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(1, queue.getWriteCount());
+        assertTrue(queue.getAverageCommitLatencyMillis() > 0.0);
+        assertTrue(queue.getMaxCommitLatencyMillis() >= queue.getAverageCommitLatencyMillis());
+        assertTrue(queue.getAverageWriteLatencyMillis() >= queue.getAverageCommitLatencyMillis());
+    }
+
+    @Test
+    void testDaoWritesGoThroughSharedQueue() throws Exception {
+        WriteQueue shared = DatabaseConnection.getWriteQueue();
+        assertNotNull(shared);
+        long before = shared.getWriteCount();
+
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+        Player player = new Player();
+        player.setFirstName("Shared");
+        player.setLastName("Queue");
+        player.setDateOfBirth(Date.valueOf("1998-08-08"));
+        player.setPosition("ST");
+        player.setShirtNumber(88);
+        player.setStatus("AVAILABLE");
+        player.setOverallRating(60);
+        player.setFitnessLevel(90);
+        playerDAO.insert(player);
+
+        assertTrue(player.getPlayerId() > 0, "Generated key should be set once the write commits");
+        assertEquals(before + 1, shared.getWriteCount());
+    }
+
+    @Test
+    void testWritesInsideTransactionRunInline() throws Exception {
+        WriteQueue shared = DatabaseConnection.getWriteQueue();
+        long before = shared.getWriteCount();
+
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(conn -> {
+            WriteQueue.execute(insertPlayer("Inline", "Rollback"));
+            throw new IllegalStateException("force rollback");
+        }));
+
+        assertEquals(before, shared.getWriteCount(), "Transactional writes should bypass the queue");
+        assertEquals(0, countPlayers("Inline"));
+    }
+
+    @Test
+    void testInsertAllBackfillsKeysInOneCommit() throws Exception {
+        WriteQueue shared = DatabaseConnection.getWriteQueue();
+        long commits = shared.getCommitCount();
+
+        List<String> names = List.of("One", "Two", "Three", "Four");
+        List<Integer> keys = new ArrayList<>(List.of(0, 0, 0, 0));
+        WriteQueue.insertAll(INSERT_PLAYER, names, (pstmt, name) -> {
+            pstmt.setString(1, "Batched");
+            pstmt.setString(2, name);
+        }, (name, key) -> keys.set(names.indexOf(name), key));
+
+        assertEquals(commits + 1, shared.getCommitCount(), "The whole batch should share one commit");
+        assertEquals(4, countPlayers("Batched"));
+        for (int i = 0; i < names.size(); i++) {
+            try (Connection conn = DatabaseConnection.getReadConnection();
+                 PreparedStatement pstmt = conn.prepareStatement("SELECT last_name FROM players WHERE player_id = ?")) {
+                pstmt.setInt(1, keys.get(i));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    assertTrue(rs.next(), "Generated key should point at the inserted row");
+                    assertEquals(names.get(i), rs.getString(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFailedBatchWritesNothing() {
+        List<String> positions = List.of("CM", "XX", "ST");
+        assertThrows(SQLException.class, () -> WriteQueue.updateAll(
+                "INSERT INTO players (first_name, last_name, date_of_birth, position) VALUES ('Partial', 'Batch', '1995-05-05', ?)",
+                positions, (pstmt, position) -> pstmt.setString(1, position)));
+
+        assertDoesNotThrow(() -> assertEquals(0, countPlayers("Partial")));
+    }
+
+    @Test
+    void testSubmitAfterShutdownFails() {
+        queue.shutdown();
+        CompletableFuture<Integer> future = queue.submit(insertPlayer("Late", "Write"));
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void testSubmitsRacingShutdownAllComplete() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            WriteQueue racing = new WriteQueue(DatabaseConnection.getPool(), 100, 0L, 256, 1000L);
+            racing.start();
+            List<CompletableFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+            CountDownLatch ready = new CountDownLatch(4);
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread submitter = new Thread(() -> {
+                    ready.countDown();
+                    for (int i = 0; i < 25; i++) {
+                        futures.add(racing.submit(insertPlayer("Racing", "Write")));
+                    }
+                });
+                submitter.start();
+                submitters.add(submitter);
+            }
+            ready.await();
+            racing.shutdown();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+
+            for (CompletableFuture<Integer> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(SQLException.class, e.getCause());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAsyncWriteErrorInsideTransactionFailsFuture() {
+        AtomicReference<CompletableFuture<Integer>> returned = new AtomicReference<>();
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(conn -> {
+            returned.set(WriteQueue.executeAsync(failing -> {
+                throw new SQLException("constraint failed");
+            }));
+            throw new IllegalStateException("force rollback");
+        }));
+
+        CompletableFuture<Integer> future = returned.get();
+        assertNotNull(future, "The error should come back in the future, not be thrown");
+        ExecutionException error = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(DAOException.class, error.getCause());
+    }
+
+    private static WriteQueue.WriteOperation<Integer> insertPlayer(String firstName, String lastName) {
+        return conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_PLAYER, java.sql.Statement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, firstName);
+                pstmt.setString(2, lastName);
+                pstmt.executeUpdate();
+                ResultSet keys = pstmt.getGeneratedKeys();
+                return keys.next() ? keys.getInt(1) : 0;
+            }
+        };
+    }
+
+    private static int countPlayers(String firstName) throws SQLException {
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT COUNT(*) FROM players WHERE first_name = ?")) {
+            pstmt.setString(1, firstName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+}
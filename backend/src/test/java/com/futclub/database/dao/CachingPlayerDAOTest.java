@@ -0,0 +1,112 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.EntityCache;
+import com.futclub.database.TransactionManager;
+import com.futclub.database.exception.DatabaseException;
+import com.futclub.database.test.util.TemplateDatabase;
+import com.futclub.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the caching PlayerDAO decorator.
+ */
+@ExtendWith(TemplateDatabase.class)
+class CachingPlayerDAOTest {
+
+    private CachingPlayerDAO playerDAO;
+    private Player first;
+    private Player second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        playerDAO = new CachingPlayerDAO(new PlayerDAOImpl(), 100);
+        List<Player> players = playerDAO.getAll();
+        first = players.get(0);
+        second = players.get(1);
+    }
+
+    @Test
+    void testRepeatedLookupsAreServedFromMemory() throws Exception {
+        Player loaded = playerDAO.getById(first.getPlayerId());
+        Player again = playerDAO.getById(first.getPlayerId());
+        assertNotSame(loaded, again, "Every caller should get its own copy");
+        assertEquals(loaded.getLastName(), again.getLastName());
+
+        Map<Integer, Player> batch = playerDAO.getByIds(List.of(first.getPlayerId(), second.getPlayerId()));
+        assertEquals(loaded.getLastName(), batch.get(first.getPlayerId()).getLastName());
+        assertEquals(second.getLastName(), batch.get(second.getPlayerId()).getLastName());
+
+        EntityCache<Player> cache = playerDAO.getCache();
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testUpdateDropsCachedPlayer() throws Exception {
+        Player cached = playerDAO.getById(first.getPlayerId());
+        Player edited = new PlayerDAOImpl().getById(first.getPlayerId());
+        edited.setLastName("Rewritten");
+
+        playerDAO.update(edited);
+
+        Player reloaded = playerDAO.getById(first.getPlayerId());
+        assertNotSame(cached, reloaded);
+        assertEquals("Rewritten", reloaded.getLastName());
+    }
+
+    @Test
+    void testUnsavedEditsDoNotReachTheCache() throws Exception {
+        Player edited = playerDAO.getById(first.getPlayerId());
+        edited.setLastName("Unsaved");
+        edited.getDateOfBirth().setTime(0L);
+
+        Player reloaded = playerDAO.getById(first.getPlayerId());
+        assertEquals(first.getLastName(), reloaded.getLastName());
+        assertEquals(first.getDateOfBirth(), reloaded.getDateOfBirth());
+        assertEquals(1, playerDAO.getCache().getHits());
+    }
+
+    @Test
+    void testRolledBackWritesAreNotCached() throws Exception {
+        playerDAO.getById(first.getPlayerId());
+
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(conn -> {
+            Player edited = playerDAO.getById(first.getPlayerId());
+            edited.setLastName("RolledBack");
+            playerDAO.update(edited);
+            assertEquals("RolledBack", playerDAO.getById(first.getPlayerId()).getLastName());
+            throw new IllegalStateException("force rollback");
+        }));
+
+        assertEquals(first.getLastName(), playerDAO.getById(first.getPlayerId()).getLastName());
+    }
+
+    @Test
+    void testDeleteDropsCachedPlayer() throws Exception {
+        Player player = new Player();
+        player.setFirstName("Short");
+        player.setLastName("Stay");
+        player.setDateOfBirth(Date.valueOf("2002-03-04"));
+        player.setPosition("CB");
+        player.setShirtNumber(97);
+        player.setStatus("AVAILABLE");
+        player.setOverallRating(60);
+        player.setFitnessLevel(70);
+        playerDAO.insert(player);
+        assertNotNull(playerDAO.getById(player.getPlayerId()));
+
+        playerDAO.delete(player.getPlayerId());
+
+        assertNull(playerDAO.getById(player.getPlayerId()));
+        assertEquals(0, playerDAO.getCache().size());
+    }
+}
@@ -1,25 +1,33 @@
 package com.futclub.database.dao;
 
-import com.futclub.database.DatabaseInitializer;
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.test.util.TemplateDatabase;
 import com.futclub.model.Match;
+import com.futclub.model.MatchSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Simple tests for MatchDAO operations.
  */
+@ExtendWith(TemplateDatabase.class)
 class MatchDAOTest {
 
     private MatchDAOImpl matchDAO;
 
     @BeforeEach
     void setUp() throws Exception {
-        DatabaseInitializer.initializeDatabase();
-        DatabaseInitializer.loadSeedData();
         matchDAO = new MatchDAOImpl();
     }
 
@@ -62,4 +70,85 @@ class MatchDAOTest {
         assertNotNull(retrieved, "Should retrieve match by ID");
         assertEquals(firstMatch.getMatchId(), retrieved.getMatchId());
     }
+
+    @Test
+    void testPagesWalkAllMatchesInOrder() throws Exception {
+        Match added = new Match();
+        added.setMatchDate(Timestamp.valueOf("2025-03-01 18:30:00"));
+        added.setOpponent("Girona");
+        added.setVenue("AWAY");
+        added.setCompetition("La Liga");
+        added.setMatchStatus("SCHEDULED");
+        matchDAO.insert(added);
+
+        List<Integer> paged = new ArrayList<>();
+        List<Match> page = matchDAO.page(null, 0, 2);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 2, "Pages should respect the limit");
+            page.forEach(match -> paged.add(match.getMatchId()));
+            Match last = page.get(page.size() - 1);
+            page = matchDAO.page(last.getMatchDate(), last.getMatchId(), 2);
+        }
+
+        List<Integer> all = matchDAO.getAll().stream().map(Match::getMatchId).toList();
+        assertEquals(all, paged, "Pages should return every match once, in list order");
+    }
+
+    @Test
+    void testSummariesMatchFullRows() throws Exception {
+        List<MatchSummary> summaries = matchDAO.getSummaries();
+        assertEquals(matchDAO.getAll().size(), summaries.size(), "Should summarise every match");
+
+        for (MatchSummary summary : summaries) {
+            Match match = matchDAO.getById(summary.matchId());
+            assertEquals(match.getOpponent(), summary.opponent());
+            assertEquals(match.getMatchStatus(), summary.matchStatus());
+            if ("COMPLETED".equals(summary.matchStatus())) {
+                assertEquals(match.getGoalsFor() + "-" + match.getGoalsAgainst(), summary.score());
+            } else if ("SCHEDULED".equals(summary.matchStatus())) {
+                assertNull(summary.score(), "Scheduled matches have no score");
+            }
+        }
+    }
+
+    @Test
+    void testGetByIdsReturnsMatchesKeyedById() throws Exception {
+        List<Match> matches = matchDAO.getAll();
+        List<Integer> ids = new ArrayList<>();
+        for (Match match : matches) {
+            ids.add(match.getMatchId());
+        }
+        ids.add(Integer.MAX_VALUE);
+
+        Map<Integer, Match> found = matchDAO.getByIds(ids);
+        assertEquals(matches.size(), found.size());
+        for (Match match : matches) {
+            assertEquals(match.getOpponent(), found.get(match.getMatchId()).getOpponent());
+            assertEquals(match.getMatchDate(), found.get(match.getMatchId()).getMatchDate());
+        }
+    }
+
+    @Test
+    void testPagesWalkTheDateIndexWithoutSorting() throws Exception {
+        String firstPage = plan("SELECT * FROM matches ORDER BY match_date DESC, match_id DESC LIMIT 10");
+        String nextPage = plan("SELECT * FROM matches WHERE (match_date, match_id) < (1700000000000, 5) " +
+                "ORDER BY match_date DESC, match_id DESC LIMIT 10");
+
+        assertTrue(firstPage.contains("idx_matches_date"), firstPage);
+        assertFalse(firstPage.contains("TEMP B-TREE"), firstPage);
+        assertTrue(nextPage.contains("idx_matches_date"), nextPage);
+        assertFalse(nextPage.contains("TEMP B-TREE"), nextPage);
+    }
+
+    private static String plan(String sql) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        return plan.toString();
+    }
 }
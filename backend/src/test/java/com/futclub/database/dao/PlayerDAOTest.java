@@ -1,26 +1,35 @@
 package com.futclub.database.dao;
 
 import com.futclub.database.DatabaseConnection;
-import com.futclub.database.DatabaseInitializer;
+import com.futclub.database.test.util.TemplateDatabase;
 import com.futclub.model.Player;
+import com.futclub.model.PlayerSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Simple tests for PlayerDAO CRUD operations.
  */
+@ExtendWith(TemplateDatabase.class)
 class PlayerDAOTest {
 
     private PlayerDAOImpl playerDAO;
 
     @BeforeEach
     void setUp() throws Exception {
-        DatabaseInitializer.initializeDatabase();
-        DatabaseInitializer.loadSeedData();
         playerDAO = new PlayerDAOImpl();
     }
 
@@ -63,4 +72,84 @@ class PlayerDAOTest {
             assertEquals("ST", player.getPosition(), "All players should have ST position");
         }
     }
+
+    @Test
+    void testPagesWalkAllPlayersInShirtOrder() throws Exception {
+        List<Player> paged = new ArrayList<>();
+        List<Player> page = playerDAO.page(-1, 0, 5);
+        while (!page.isEmpty()) {
+            paged.addAll(page);
+            Player last = page.get(page.size() - 1);
+            page = playerDAO.page(last.getShirtNumber(), last.getPlayerId(), 5);
+        }
+
+        assertEquals(playerDAO.getAll().size(), paged.size(), "Pages should return every player once");
+        for (int i = 1; i < paged.size(); i++) {
+            assertTrue(paged.get(i - 1).getShirtNumber() <= paged.get(i).getShirtNumber(),
+                    "Players should come in shirt-number order");
+        }
+    }
+
+    @Test
+    void testSummariesMatchFullRows() throws Exception {
+        List<PlayerSummary> summaries = playerDAO.getSummaries();
+        assertEquals(playerDAO.getAll().size(), summaries.size(), "Should summarise every player");
+
+        PlayerSummary first = summaries.get(0);
+        Player player = playerDAO.getById(first.playerId());
+        assertEquals((player.getFirstName() + " " + player.getLastName()).trim(), first.name());
+        assertEquals(player.getShirtNumber(), first.shirtNumber());
+        assertEquals(player.getPosition(), first.position());
+        assertEquals(player.getStatus(), first.status());
+    }
+
+    @Test
+    void testRowMapperResolvesColumnsByName() throws Exception {
+        Player expected = playerDAO.getAll().get(0);
+        String sql = "SELECT preferred_foot, weight_kg, height_cm, nationality, contract_end, joined_date, " +
+                "injury_details, fitness_level, overall_rating, status, shirt_number, position, date_of_birth, " +
+                "last_name, first_name, player_id FROM players WHERE player_id = ?";
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, expected.getPlayerId());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                PlayerDAOImpl.PlayerRowMapper mapper = new PlayerDAOImpl.PlayerRowMapper(rs);
+                assertTrue(rs.next(), "Player row should be returned");
+                Player mapped = mapper.map(rs);
+                assertEquals(expected.getPlayerId(), mapped.getPlayerId());
+                assertEquals(expected.getFirstName(), mapped.getFirstName());
+                assertEquals(expected.getLastName(), mapped.getLastName());
+                assertEquals(expected.getShirtNumber(), mapped.getShirtNumber());
+                assertEquals(expected.getDateOfBirth(), mapped.getDateOfBirth());
+                assertEquals(expected.getPreferredFoot(), mapped.getPreferredFoot());
+            }
+        }
+    }
+
+    @Test
+    void testGetByIdsSkipsMissingAndRepeatedIds() throws Exception {
+        List<Player> players = playerDAO.getAll();
+        Player first = players.get(0);
+        Player second = players.get(1);
+
+        Map<Integer, Player> found = playerDAO.getByIds(
+                Arrays.asList(first.getPlayerId(), second.getPlayerId(), first.getPlayerId(), null, -1));
+        assertEquals(2, found.size());
+        assertEquals(first.getLastName(), found.get(first.getPlayerId()).getLastName());
+        assertEquals(second.getLastName(), found.get(second.getPlayerId()).getLastName());
+        assertTrue(playerDAO.getByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void testGetByIdsSpansSeveralChunks() throws Exception {
+        List<Integer> ids = IntStream.rangeClosed(1, IdLookup.MAX_CHUNK * 2 + 3).boxed().toList();
+
+        Map<Integer, Player> found = playerDAO.getByIds(ids);
+
+        Map<Integer, Player> expected = playerDAO.getAll().stream()
+                .filter(player -> ids.contains(player.getPlayerId()))
+                .collect(Collectors.toMap(Player::getPlayerId, player -> player));
+        assertFalse(expected.isEmpty(), "Seed players should have ids in range");
+        assertEquals(expected.keySet(), found.keySet());
+    }
 }
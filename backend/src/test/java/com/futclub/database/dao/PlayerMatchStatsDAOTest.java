@@ -0,0 +1,127 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.test.util.TemplateDatabase;
+import com.futclub.model.LeaderboardEntry;
+import com.futclub.model.LeaderboardFilter;
+import com.futclub.model.Match;
+import com.futclub.model.Player;
+import com.futclub.model.PlayerMatchStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the PlayerMatchStatsDAO leaderboards.
+ */
+@ExtendWith(TemplateDatabase.class)
+class PlayerMatchStatsDAOTest {
+
+    private PlayerMatchStatsDAOImpl statsDAO;
+    private PlayerDAOImpl playerDAO;
+    private MatchDAOImpl matchDAO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statsDAO = new PlayerMatchStatsDAOImpl();
+        playerDAO = new PlayerDAOImpl();
+        matchDAO = new MatchDAOImpl();
+    }
+
+    @Test
+    void testLeadersCarryPlayerIdentity() throws Exception {
+        List<LeaderboardEntry> leaders = statsDAO.getScoringLeaders(LeaderboardFilter.all(), 5);
+        assertFalse(leaders.isEmpty(), "Seed stats should produce scoring leaders");
+
+        List<PlayerMatchStats> topScorers = statsDAO.getTopScorers(5);
+        assertEquals(topScorers.size(), leaders.size());
+        for (int i = 0; i < leaders.size(); i++) {
+            LeaderboardEntry entry = leaders.get(i);
+            assertEquals(topScorers.get(i).getPlayerId(), entry.playerId());
+            assertEquals(topScorers.get(i).getGoals(), entry.goals());
+
+            Player player = playerDAO.getById(entry.playerId());
+            assertEquals(player.getFirstName() + " " + player.getLastName(), entry.name());
+            assertEquals(player.getPosition(), entry.position());
+            assertEquals(player.getShirtNumber(), entry.shirtNumber());
+            assertEquals(statsDAO.getByPlayerId(entry.playerId()).size(), entry.appearances());
+        }
+
+        List<LeaderboardEntry> rated = statsDAO.getRatingLeaders(LeaderboardFilter.all(), 5);
+        List<PlayerMatchStats> topRated = statsDAO.getTopRatedPlayers(5);
+        assertEquals(topRated.stream().map(PlayerMatchStats::getPlayerId).toList(),
+                rated.stream().map(LeaderboardEntry::playerId).toList());
+    }
+
+    @Test
+    void testCompetitionFilterOnlyCountsItsMatches() throws Exception {
+        String competition = "Champions League";
+        Set<Integer> matchIds = matchDAO.getByCompetition(competition).stream()
+                .map(Match::getMatchId)
+                .collect(Collectors.toSet());
+        LeaderboardFilter filter = new LeaderboardFilter(competition, null, null);
+
+        List<LeaderboardEntry> leaders = statsDAO.getScoringLeaders(filter, 100);
+        assertFalse(leaders.isEmpty(), "Seed data has Champions League stats");
+        for (LeaderboardEntry entry : leaders) {
+            List<PlayerMatchStats> stats = statsDAO.getByPlayerId(entry.playerId()).stream()
+                    .filter(s -> matchIds.contains(s.getMatchId()))
+                    .toList();
+            assertEquals(stats.size(), entry.appearances());
+            assertEquals(stats.stream().mapToInt(PlayerMatchStats::getGoals).sum(), entry.goals());
+        }
+        for (int i = 1; i < leaders.size(); i++) {
+            assertTrue(leaders.get(i - 1).goals() >= leaders.get(i).goals(), "Leaders should be sorted by goals");
+        }
+        assertTrue(matchDAO.getCompetitions().contains(competition));
+    }
+
+    @Test
+    void testDateRangeFilterIncludesFromAndExcludesTo() throws Exception {
+        Match first = matchDAO.getById(1);
+        Timestamp from = first.getMatchDate();
+        Timestamp to = new Timestamp(from.getTime() + 1);
+        LeaderboardFilter filter = new LeaderboardFilter(null, from, to);
+
+        List<LeaderboardEntry> leaders = statsDAO.getRatingLeaders(filter, 100);
+
+        List<PlayerMatchStats> matchStats = statsDAO.getByMatchId(first.getMatchId());
+        assertEquals(matchStats.stream().filter(s -> s.getMinutesPlayed() > 0).count(), leaders.size());
+        for (LeaderboardEntry entry : leaders) {
+            assertEquals(1, entry.appearances(), "Only the first match is in range");
+        }
+
+        for (LeaderboardEntry entry : statsDAO.getScoringLeaders(new LeaderboardFilter(null, to, null), 100)) {
+            long later = statsDAO.getByPlayerId(entry.playerId()).stream()
+                    .filter(s -> s.getMatchId() != first.getMatchId())
+                    .count();
+            assertEquals(later, entry.appearances(), "Stats from before the range should not be counted");
+        }
+    }
+
+    @Test
+    void testCompetitionFilterUsesCompetitionIndex() throws Exception {
+        String sql = "EXPLAIN QUERY PLAN SELECT s.player_id, SUM(s.goals) FROM matches m " +
+                "JOIN player_match_stats s ON s.match_id = m.match_id " +
+                "JOIN players p ON p.player_id = s.player_id WHERE m.competition = 'La Liga' GROUP BY s.player_id";
+        StringBuilder plan = new StringBuilder();
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        assertTrue(plan.toString().contains("idx_matches_competition"), plan.toString());
+    }
+}
@@ -1,11 +1,19 @@
 package com.futclub.database.operations;
 
 import com.futclub.database.BaseDAOTest;
+import com.futclub.database.DatabaseConnection;
 import com.futclub.database.TransactionManager;
+import com.futclub.database.TransactionMode;
+import com.futclub.database.dao.PlayerDAO;
+import com.futclub.database.dao.PlayerDAOImpl;
 import com.futclub.database.exception.DatabaseException;
+import com.futclub.model.Player;
 import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -114,4 +122,99 @@ class TransactionManagerTest extends BaseDAOTest {
             }
         });
     }
+
+    @Test
+    void testDaoCallsJoinThreadTransaction() {
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+        int before = playerDAO.getAll().size();
+
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(conn -> {
+            playerDAO.insert(newPlayer("Joined", 71));
+            assertTrue(TransactionManager.isTransactionActive());
+            assertEquals(before + 1, playerDAO.getAll().size(), "Reads inside the transaction see its writes");
+            throw new IllegalStateException("force rollback");
+        }));
+
+        assertFalse(TransactionManager.isTransactionActive());
+        assertEquals(before, playerDAO.getAll().size(), "DAO insert should have been rolled back");
+    }
+
+    @Test
+    void testFailedDaoWriteAbortsTransaction() throws Exception {
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+        Player invalid = newPlayer("Invalid", 77);
+        invalid.setDateOfBirth(null);
+
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(conn -> {
+            playerDAO.insert(newPlayer("Partial", 76));
+            playerDAO.insert(invalid);
+        }));
+
+        assertEquals(0, countShirt(76), "A DAO error must roll back the writes before it");
+        assertEquals(0, invalid.getPlayerId());
+    }
+
+    @Test
+    void testNestedTransactionRollsBackToSavepoint() throws Exception {
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+
+        TransactionManager.executeTransaction(conn -> {
+            playerDAO.insert(newPlayer("Outer", 72));
+            assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(inner -> {
+                playerDAO.insert(newPlayer("Inner", 73));
+                throw new IllegalStateException("inner failure");
+            }));
+            TransactionManager.executeTransaction(inner -> playerDAO.insert(newPlayer("Sibling", 74)));
+        });
+
+        assertEquals(1, countShirt(72), "Outer work should commit");
+        assertEquals(0, countShirt(73), "Failed savepoint should be rolled back");
+        assertEquals(1, countShirt(74), "Released savepoint should commit with the outer transaction");
+    }
+
+    @Test
+    void testReadOnlyTransactionRejectsWrites() {
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+        int count = TransactionManager.inTransaction(TransactionMode.READ_ONLY, conn -> playerDAO.getAll().size());
+        assertTrue(count > 0);
+
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(TransactionMode.READ_ONLY,
+                conn -> TransactionManager.executeTransaction(TransactionMode.IMMEDIATE, inner -> { })));
+        assertThrows(DatabaseException.class, () -> TransactionManager.executeTransaction(TransactionMode.READ_ONLY,
+                conn -> {
+                    try (Connection writer = DatabaseConnection.getWriteConnection()) {
+                        fail("Write lease should not be handed out in a read-only transaction");
+                    }
+                }));
+    }
+
+    @Test
+    void testExclusiveModeCommits() {
+        PlayerDAO playerDAO = new PlayerDAOImpl();
+        TransactionManager.executeTransaction(TransactionMode.EXCLUSIVE, conn -> playerDAO.insert(newPlayer("Exclusive", 75)));
+        assertDoesNotThrow(() -> assertEquals(1, countShirt(75)));
+    }
+
+    private static Player newPlayer(String firstName, int shirtNumber) {
+        Player player = new Player();
+        player.setFirstName(firstName);
+        player.setLastName("Tx");
+        player.setDateOfBirth(Date.valueOf("1994-04-04"));
+        player.setPosition("CM");
+        player.setShirtNumber(shirtNumber);
+        player.setStatus("AVAILABLE");
+        player.setOverallRating(70);
+        player.setFitnessLevel(80);
+        return player;
+    }
+
+    private int countShirt(int shirtNumber) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT COUNT(*) FROM players WHERE shirt_number = ?")) {
+            pstmt.setInt(1, shirtNumber);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
 }
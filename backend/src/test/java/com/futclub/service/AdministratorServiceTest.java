@@ -21,6 +21,7 @@ import java.sql.Date;
 import java.sql.Timestamp;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class AdministratorServiceTest extends BaseDAOTest {
 
@@ -68,6 +69,26 @@ class AdministratorServiceTest extends BaseDAOTest {
         assertThat(players).extracting(Player::getPlayerId).doesNotContain(player.getPlayerId());
     }
 
+    @Test
+    void registersAndUpdatesSquadInOneBatch() {
+        List<Player> squad = List.of(newPlayer("Squad", "One"), newPlayer("Squad", "Two"), newPlayer("Squad", "Three"));
+
+        administratorService.registerPlayers(administratorUser, squad);
+        assertThat(squad).extracting(Player::getPlayerId).doesNotContain(0).doesNotHaveDuplicates();
+
+        squad.forEach(player -> player.setFitnessLevel(60));
+        administratorService.updatePlayers(administratorUser, squad);
+
+        List<Player> players = administratorService.listPlayers(administratorUser);
+        assertThat(players)
+                .filteredOn(player -> player.getFirstName().equals("Squad"))
+                .extracting(Player::getLastName, Player::getFitnessLevel)
+                .containsExactlyInAnyOrder(
+                        tuple("One", 60),
+                        tuple("Two", 60),
+                        tuple("Three", 60));
+    }
+
     @Test
     void registersStaffMember() {
         AnalystUser staffUser = new AnalystUser();
@@ -119,4 +140,16 @@ class AdministratorServiceTest extends BaseDAOTest {
         matches = administratorService.listMatches(administratorUser);
         assertThat(matches).extracting(Match::getMatchId).doesNotContain(match.getMatchId());
     }
+
+    private static Player newPlayer(String firstName, String lastName) {
+        Player player = new Player();
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setDateOfBirth(Date.valueOf("2003-04-04"));
+        player.setPosition("CB");
+        player.setStatus("AVAILABLE");
+        player.setOverallRating(65);
+        player.setFitnessLevel(90);
+        return player;
+    }
 }
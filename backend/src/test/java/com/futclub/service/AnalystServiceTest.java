@@ -1,19 +1,27 @@
 package com.futclub.service;
 
 import com.futclub.database.BaseDAOTest;
+import com.futclub.database.dao.MatchDAOImpl;
 import com.futclub.database.dao.MatchEventDAO;
 import com.futclub.database.dao.MatchEventDAOImpl;
+import com.futclub.database.dao.PlayerDAOImpl;
 import com.futclub.database.dao.PlayerMatchStatsDAO;
 import com.futclub.database.dao.PlayerMatchStatsDAOImpl;
 import com.futclub.database.dao.UserDAO;
 import com.futclub.database.dao.UserDAOImpl;
 import com.futclub.model.AnalystUser;
+import com.futclub.model.Match;
 import com.futclub.model.MatchEvent;
+import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class AnalystServiceTest extends BaseDAOTest {
 
@@ -24,7 +32,7 @@ class AnalystServiceTest extends BaseDAOTest {
     void initService() {
         PlayerMatchStatsDAO statsDAO = new PlayerMatchStatsDAOImpl();
         MatchEventDAO eventDAO = new MatchEventDAOImpl();
-        analystService = new AnalystService(statsDAO, eventDAO);
+        analystService = new AnalystService(statsDAO, eventDAO, new PlayerDAOImpl(), new MatchDAOImpl());
 
         UserDAO userDAO = new UserDAOImpl();
         analystUser = (AnalystUser) userDAO.getByUsername("analyst.jones");
@@ -89,4 +97,58 @@ class AnalystServiceTest extends BaseDAOTest {
         performance = analystService.viewPlayerPerformanceByMatch(analystUser, 4);
         assertThat(performance).extracting(PlayerMatchStats::getStatsId).doesNotContain(stats.getStatsId());
     }
+
+    @Test
+    void recordsWholeMatchSheetInOneBatch() {
+        List<PlayerMatchStats> sheet = List.of(statsFor(8), statsFor(9), statsFor(10));
+
+        analystService.createPlayerMatchStats(analystUser, sheet);
+        assertThat(sheet).extracting(PlayerMatchStats::getStatsId).doesNotContain(0).doesNotHaveDuplicates();
+
+        sheet.forEach(stats -> stats.setPassesCompleted(stats.getPassesCompleted() + 1));
+        analystService.updatePlayerMatchStats(analystUser, sheet);
+
+        List<PlayerMatchStats> performance = analystService.viewPlayerPerformanceByMatch(analystUser, 4);
+        assertThat(performance)
+                .filteredOn(stats -> stats.getPlayerId() >= 8 && stats.getPlayerId() <= 10)
+                .extracting(PlayerMatchStats::getStatsId, PlayerMatchStats::getPassesCompleted)
+                .containsExactlyInAnyOrder(
+                        tuple(sheet.get(0).getStatsId(), 21),
+                        tuple(sheet.get(1).getStatsId(), 21),
+                        tuple(sheet.get(2).getStatsId(), 21));
+    }
+
+    @Test
+    void resolvesStatsAndEventsToPlayersAndMatches() {
+        List<PlayerMatchStats> performance = analystService.viewPlayerPerformanceByMatch(analystUser, 1);
+        assertThat(performance).isNotEmpty();
+
+        Map<Integer, Player> players = analystService.getPlayersForStats(analystUser, performance);
+        assertThat(players.keySet()).isEqualTo(performance.stream()
+                .map(PlayerMatchStats::getPlayerId)
+                .collect(Collectors.toSet()));
+        assertThat(players.values()).allSatisfy(player -> assertThat(player.getLastName()).isNotBlank());
+
+        Map<Integer, Match> matches = analystService.getMatchesForStats(analystUser, performance);
+        assertThat(matches).containsOnlyKeys(1);
+
+        List<MatchEvent> timeline = analystService.getTimelineForMatch(analystUser, 1);
+        Map<Integer, Player> eventPlayers = analystService.getPlayersForEvents(analystUser, timeline);
+        assertThat(eventPlayers.keySet()).isEqualTo(timeline.stream()
+                .map(MatchEvent::getPlayerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+
+    private static PlayerMatchStats statsFor(int playerId) {
+        PlayerMatchStats stats = new PlayerMatchStats();
+        stats.setPlayerId(playerId);
+        stats.setMatchId(4);
+        stats.setMinutesPlayed(90);
+        stats.setRating(7.0);
+        stats.setPassesCompleted(20);
+        stats.setPassesAttempted(24);
+        stats.setWasStarter(true);
+        return stats;
+    }
 }
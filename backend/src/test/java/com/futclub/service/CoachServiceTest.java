@@ -3,6 +3,7 @@ package com.futclub.service;
 import com.futclub.database.BaseDAOTest;
 import com.futclub.database.dao.AttendanceDAO;
 import com.futclub.database.dao.AttendanceDAOImpl;
+import com.futclub.database.dao.PlayerDAOImpl;
 import com.futclub.database.dao.PlayerMatchStatsDAO;
 import com.futclub.database.dao.PlayerMatchStatsDAOImpl;
 import com.futclub.database.dao.StaffDAO;
@@ -13,13 +14,16 @@ import com.futclub.database.dao.UserDAO;
 import com.futclub.database.dao.UserDAOImpl;
 import com.futclub.model.AttendanceRecord;
 import com.futclub.model.CoachUser;
+import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
 import com.futclub.model.TrainingSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class CoachServiceTest extends BaseDAOTest {
 
@@ -32,7 +36,8 @@ class CoachServiceTest extends BaseDAOTest {
         AttendanceDAO attendanceDAO = new AttendanceDAOImpl();
         PlayerMatchStatsDAO playerMatchStatsDAO = new PlayerMatchStatsDAOImpl();
         StaffDAO staffDAO = new StaffDAOImpl();
-        coachService = new CoachService(trainingSessionDAO, attendanceDAO, playerMatchStatsDAO, staffDAO);
+        coachService = new CoachService(trainingSessionDAO, attendanceDAO, playerMatchStatsDAO, staffDAO,
+                new PlayerDAOImpl());
 
         UserDAO userDAO = new UserDAOImpl();
         coachUser = (CoachUser) userDAO.getByUsername("coach.smith");
@@ -78,6 +83,24 @@ class CoachServiceTest extends BaseDAOTest {
             .contains("LATE");
     }
 
+    @Test
+    void recordsWholeSessionAttendance() {
+        List<AttendanceRecord> firstPass = List.of(attendance(1, "PRESENT"), attendance(2, "PRESENT"), attendance(3, "ABSENT"));
+        coachService.recordSessionAttendance(coachUser, 2, firstPass);
+        assertThat(firstPass).extracting(AttendanceRecord::getAttendanceId).doesNotContain(0).doesNotHaveDuplicates();
+
+        List<AttendanceRecord> secondPass = List.of(attendance(3, "EXCUSED"), attendance(4, "LATE"));
+        coachService.recordSessionAttendance(coachUser, 2, secondPass);
+        assertThat(secondPass.get(0).getAttendanceId()).isEqualTo(firstPass.get(2).getAttendanceId());
+        assertThat(secondPass.get(1).getAttendanceId()).isGreaterThan(0);
+
+        List<AttendanceRecord> sessionAttendance = coachService.getAttendanceForSession(coachUser, 2);
+        assertThat(sessionAttendance)
+            .filteredOn(a -> a.getPlayerId() >= 1 && a.getPlayerId() <= 4)
+            .extracting(AttendanceRecord::getPlayerId, AttendanceRecord::getStatus)
+            .containsExactly(tuple(1, "PRESENT"), tuple(2, "PRESENT"), tuple(3, "EXCUSED"), tuple(4, "LATE"));
+    }
+
     @Test
     void managePlayerPerformanceLifecycle() {
         PlayerMatchStats stats = new PlayerMatchStats();
@@ -112,4 +135,28 @@ class CoachServiceTest extends BaseDAOTest {
         matchStats = coachService.getPerformanceForMatch(coachUser, 4);
         assertThat(matchStats).extracting(PlayerMatchStats::getStatsId).doesNotContain(stats.getStatsId());
     }
+
+    @Test
+    void resolvesStatsAndAttendanceToPlayers() {
+        List<PlayerMatchStats> matchStats = coachService.getPerformanceForMatch(coachUser, 1);
+        assertThat(matchStats).isNotEmpty();
+
+        Map<Integer, Player> players = coachService.getPlayersForStats(coachUser, matchStats);
+        assertThat(players).hasSize((int) matchStats.stream().mapToInt(PlayerMatchStats::getPlayerId).distinct().count());
+        for (PlayerMatchStats stats : matchStats) {
+            assertThat(players.get(stats.getPlayerId()).getPlayerId()).isEqualTo(stats.getPlayerId());
+        }
+
+        List<AttendanceRecord> records = List.of(attendance(players.keySet().iterator().next(), "PRESENT"),
+                attendance(-1, "ABSENT"));
+        assertThat(coachService.getPlayersForAttendance(coachUser, records))
+                .containsOnlyKeys(records.get(0).getPlayerId());
+    }
+
+    private static AttendanceRecord attendance(int playerId, String status) {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setPlayerId(playerId);
+        record.setStatus(status);
+        return record;
+    }
 }
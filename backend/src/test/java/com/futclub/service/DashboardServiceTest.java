@@ -0,0 +1,151 @@
+package com.futclub.service;
+
+import com.futclub.database.BaseDAOTest;
+import com.futclub.database.dao.DashboardDAOImpl;
+import com.futclub.database.dao.MatchDAO;
+import com.futclub.database.dao.MatchDAOImpl;
+import com.futclub.database.dao.PlayerDAO;
+import com.futclub.database.dao.PlayerDAOImpl;
+import com.futclub.database.dao.StaffDAO;
+import com.futclub.database.dao.StaffDAOImpl;
+import com.futclub.database.dao.TrainingSessionDAO;
+import com.futclub.database.dao.TrainingSessionDAOImpl;
+import com.futclub.database.dao.UserDAO;
+import com.futclub.database.dao.UserDAOImpl;
+import com.futclub.model.AdministratorUser;
+import com.futclub.model.CoachUser;
+import com.futclub.model.DashboardCounts;
+import com.futclub.model.Match;
+import com.futclub.model.Player;
+import com.futclub.model.TrainingSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardServiceTest extends BaseDAOTest {
+
+    private static final long TTL_MILLIS = 1_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private PlayerDAO playerDAO;
+    private StaffDAO staffDAO;
+    private MatchDAO matchDAO;
+    private TrainingSessionDAO trainingSessionDAO;
+    private DashboardService dashboardService;
+    private AdministratorService administratorService;
+    private AdministratorUser administratorUser;
+    private CoachUser coachUser;
+
+    @BeforeEach
+    void initService() {
+        clock.set(System.currentTimeMillis());
+        playerDAO = new PlayerDAOImpl();
+        staffDAO = new StaffDAOImpl();
+        matchDAO = new MatchDAOImpl();
+        trainingSessionDAO = new TrainingSessionDAOImpl();
+        dashboardService = new DashboardService(new DashboardDAOImpl(), staffDAO, TTL_MILLIS, clock::get);
+        administratorService = new AdministratorService(playerDAO, staffDAO, matchDAO, dashboardService);
+
+        UserDAO userDAO = new UserDAOImpl();
+        administratorUser = (AdministratorUser) userDAO.getByUsername("admin.wilson");
+        coachUser = (CoachUser) userDAO.getByUsername("coach.smith");
+        assertThat(administratorUser).isNotNull();
+        assertThat(coachUser).isNotNull();
+    }
+
+    @Test
+    void countsMatchFullTableScans() {
+        int coachId = staffDAO.getByUserId(coachUser.getUserId()).getStaffId();
+        int otherStaffId = staffDAO.getAll().stream()
+                .filter(staff -> staff.getStaffId() != coachId)
+                .findFirst()
+                .orElseThrow()
+                .getStaffId();
+        addFutureSession(otherStaffId, 1);
+        addFutureSession(coachId, 2);
+
+        DashboardCounts counts = dashboardService.getCounts(administratorUser);
+
+        List<Player> players = playerDAO.getAll();
+        List<Match> upcoming = matchDAO.getUpcomingMatches();
+        List<TrainingSession> sessions = upcomingSessions(trainingSessionDAO.getAll());
+        assertThat(counts.totalPlayers()).isEqualTo(players.size());
+        assertThat(counts.availablePlayers()).isEqualTo(countStatus(players, "AVAILABLE"));
+        assertThat(counts.injuredPlayers()).isEqualTo(countStatus(players, "INJURED"));
+        assertThat(counts.upcomingMatches()).isEqualTo(upcoming.size());
+        assertThat(counts.nextMatchId()).isEqualTo(upcoming.isEmpty() ? 0 : upcoming.get(0).getMatchId());
+        assertThat(counts.upcomingSessions()).isEqualTo(sessions.size());
+        assertThat(counts.nextSessionId()).isEqualTo(sessions.get(0).getSessionId());
+        assertThat(counts.totalStaff()).isEqualTo(staffDAO.getAll().size());
+
+        DashboardCounts coachCounts = dashboardService.getCounts(coachUser);
+        List<TrainingSession> coachSessions = upcomingSessions(trainingSessionDAO.getByCoachId(coachId));
+        assertThat(coachCounts.upcomingSessions()).isEqualTo(coachSessions.size()).isLessThan(sessions.size());
+        assertThat(coachCounts.totalPlayers()).isEqualTo(counts.totalPlayers());
+    }
+
+    @Test
+    void servesCachedCountsUntilTtlExpires() {
+        DashboardCounts first = dashboardService.getCounts(administratorUser);
+        try (var stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE players SET status = 'INJURED' WHERE status = 'AVAILABLE'");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        clock.addAndGet(TTL_MILLIS - 1);
+        assertThat(dashboardService.getCounts(administratorUser)).isSameAs(first);
+
+        clock.addAndGet(1);
+        DashboardCounts refreshed = dashboardService.getCounts(administratorUser);
+        assertThat(refreshed.availablePlayers()).isZero();
+        assertThat(refreshed.injuredPlayers()).isEqualTo(first.injuredPlayers() + first.availablePlayers());
+    }
+
+    @Test
+    void serviceWritesInvalidateCachedCounts() {
+        DashboardCounts before = dashboardService.getCounts(administratorUser);
+
+        Player player = new Player();
+        player.setFirstName("Cache");
+        player.setLastName("Buster");
+        player.setDateOfBirth(Date.valueOf("2001-02-03"));
+        player.setPosition("ST");
+        player.setShirtNumber(98);
+        player.setStatus("AVAILABLE");
+        player.setOverallRating(70);
+        player.setFitnessLevel(80);
+        administratorService.registerPlayer(administratorUser, player);
+
+        DashboardCounts after = dashboardService.getCounts(administratorUser);
+        assertThat(after.totalPlayers()).isEqualTo(before.totalPlayers() + 1);
+        assertThat(after.availablePlayers()).isEqualTo(before.availablePlayers() + 1);
+    }
+
+    private void addFutureSession(int coachId, int daysAhead) {
+        TrainingSession session = new TrainingSession();
+        session.setSessionDate(new Timestamp(clock.get() + daysAhead * 86_400_000L));
+        session.setFocus("Set pieces");
+        session.setLocation("Pitch 1");
+        session.setDurationMinutes(60);
+        session.setIntensity("LOW");
+        session.setCoachId(coachId);
+        trainingSessionDAO.insert(session);
+    }
+
+    private List<TrainingSession> upcomingSessions(List<TrainingSession> sessions) {
+        return sessions.stream()
+                .filter(session -> session.getSessionDate() != null && session.getSessionDate().getTime() > clock.get())
+                .sorted(Comparator.comparing(TrainingSession::getSessionDate))
+                .toList();
+    }
+
+    private static int countStatus(List<Player> players, String status) {
+        return (int) players.stream().filter(p -> status.equalsIgnoreCase(p.getStatus())).count();
+    }
+}
@@ -0,0 +1,130 @@
+package com.futclub.benchmarks;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.DatabaseInitializer;
+import com.futclub.database.PragmaProfile;
+import com.futclub.database.SyntheticDataGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Pre-populated SQLite files the benchmarks run against.
+ *
+ * A dataset of N rows is a {@link SyntheticDataGenerator} history with N match
+ * events, spread over one season per 20k events (up to 50), with the squad,
+ * stats, training sessions and attendance that go with it. Files are built
+ * once under bench-data/ (override with -Dbench.data.dir) and reused by later runs.
+ */
+public final class BenchmarkDatabase {
+
+    private static final long SEED = 20240801L;
+
+    /** Administrator login created in every dataset; the user with id 2 is a coach. */
+    public static final String ADMIN_USERNAME = "admin.gen1";
+
+    private final int rows;
+    private final Path file;
+    private int players;
+    private int matches;
+    private int events;
+    private int stats;
+    private int sessions;
+
+    private BenchmarkDatabase(int rows) {
+        this.rows = rows;
+        Path dir = Path.of(System.getProperty("bench.data.dir", "bench-data"));
+        this.file = dir.resolve("futclub-" + rows + ".db").toAbsolutePath();
+    }
+
+    /**
+     * Builds the dataset if needed and points the DAO layer at it.
+     */
+    public static BenchmarkDatabase open(int rows) throws SQLException, IOException {
+        BenchmarkDatabase database = new BenchmarkDatabase(rows);
+        if (!Files.exists(database.file)) {
+            database.build();
+        }
+        database.countRows();
+        DatabaseConnection.useDatabase(database.getUrl());
+        return database;
+    }
+
+    public String getUrl() {
+        return "jdbc:sqlite:" + file;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public int getMatchCount() {
+        return matches;
+    }
+
+    public int getEventCount() {
+        return events;
+    }
+
+    public int getStatsCount() {
+        return stats;
+    }
+
+    public int getSessionCount() {
+        return sessions;
+    }
+
+    /**
+     * Opens a plain JDBC connection to the dataset, outside the pool.
+     */
+    public Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(getUrl());
+    }
+
+    private void build() throws SQLException, IOException {
+        Files.createDirectories(file.getParent());
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        Files.deleteIfExists(partial);
+
+        System.out.println("Building " + rows + "-row benchmark dataset at " + file);
+        int seasons = Math.max(1, Math.min(50, rows / 20_000));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED,
+                SyntheticDataGenerator.Scale.of(seasons, rows), SyntheticDataGenerator.currentSeasonYear());
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + partial)) {
+            PragmaProfile.forName(PragmaProfile.BULK_LOAD).applyTo(conn);
+            DatabaseInitializer.applySchema(conn);
+            System.out.println("Generated " + generator.generate(conn));
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ANALYZE");
+                stmt.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+            }
+        }
+        Files.move(partial, file);
+    }
+
+    private void countRows() throws SQLException {
+        try (Connection conn = openConnection()) {
+            players = count(conn, "players");
+            matches = count(conn, "matches");
+            events = count(conn, "match_events");
+            stats = count(conn, "player_match_stats");
+            sessions = count(conn, "training_sessions");
+        }
+    }
+
+    private static int count(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
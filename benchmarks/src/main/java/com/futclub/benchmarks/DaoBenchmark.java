@@ -0,0 +1,248 @@
+package com.futclub.benchmarks;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.dao.AttendanceDAOImpl;
+import com.futclub.database.dao.MatchDAOImpl;
+import com.futclub.database.dao.MatchEventDAOImpl;
+import com.futclub.database.dao.PlayerDAOImpl;
+import com.futclub.database.dao.PlayerMatchStatsDAOImpl;
+import com.futclub.database.dao.StaffDAOImpl;
+import com.futclub.database.dao.TrainingSessionDAOImpl;
+import com.futclub.database.dao.UserDAOImpl;
+import com.futclub.model.AttendanceRecord;
+import com.futclub.model.Match;
+import com.futclub.model.MatchEvent;
+import com.futclub.model.Player;
+import com.futclub.model.PlayerMatchStats;
+import com.futclub.model.Staff;
+import com.futclub.model.TrainingSession;
+import com.futclub.model.User;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Create, read, update and delete paths of every DAO against a pre-populated dataset.
+ * Writes insert and then delete a row, or rewrite an existing one, so the
+ * dataset keeps its size across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private final PlayerDAOImpl playerDAO = new PlayerDAOImpl();
+    private final MatchDAOImpl matchDAO = new MatchDAOImpl();
+    private final MatchEventDAOImpl matchEventDAO = new MatchEventDAOImpl();
+    private final PlayerMatchStatsDAOImpl statsDAO = new PlayerMatchStatsDAOImpl();
+    private final TrainingSessionDAOImpl sessionDAO = new TrainingSessionDAOImpl();
+    private final AttendanceDAOImpl attendanceDAO = new AttendanceDAOImpl();
+    private final StaffDAOImpl staffDAO = new StaffDAOImpl();
+    private final UserDAOImpl userDAO = new UserDAOImpl();
+    private int cursor;
+
+    private Player player;
+    private Match match;
+    private PlayerMatchStats stats;
+    private AttendanceRecord attendance;
+    private Staff staff;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open(rows);
+        player = playerDAO.getById(1);
+        match = matchDAO.getById(1);
+        stats = statsDAO.getById(1);
+        attendance = attendanceDAO.getById(1);
+        staff = staffDAO.getById(1);
+        user = userDAO.getByUsername(BenchmarkDatabase.ADMIN_USERNAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    /** Walks ids so lookups do not keep hitting the same page. */
+    private int nextId(int bound) {
+        cursor = cursor * 1_103_515_245 + 12_345;
+        return (cursor >>> 1) % bound + 1;
+    }
+
+    @Benchmark
+    public Player playerGetById() {
+        return playerDAO.getById(nextId(database.getPlayerCount()));
+    }
+
+    @Benchmark
+    public List<Player> playerGetAll() {
+        return playerDAO.getAll();
+    }
+
+    @Benchmark
+    public List<Player> playerGetByPosition() {
+        return playerDAO.getByPosition("CM");
+    }
+
+    @Benchmark
+    public Player playerUpdate() {
+        playerDAO.update(player);
+        return player;
+    }
+
+    @Benchmark
+    public Match matchGetById() {
+        return matchDAO.getById(nextId(database.getMatchCount()));
+    }
+
+    @Benchmark
+    public List<Match> matchGetUpcoming() {
+        return matchDAO.getUpcomingMatches();
+    }
+
+    @Benchmark
+    public Match matchUpdate() {
+        matchDAO.update(match);
+        return match;
+    }
+
+    @Benchmark
+    public int matchInsertDelete() {
+        Match created = new Match();
+        created.setMatchDate(new Timestamp(System.currentTimeMillis()));
+        created.setOpponent("Benchmark FC");
+        created.setVenue("HOME");
+        created.setCompetition("Friendly");
+        created.setMatchStatus("SCHEDULED");
+        matchDAO.insert(created);
+        matchDAO.delete(created.getMatchId());
+        return created.getMatchId();
+    }
+
+    @Benchmark
+    public MatchEvent matchEventGetById() {
+        return matchEventDAO.getById(nextId(database.getEventCount()));
+    }
+
+    @Benchmark
+    public List<MatchEvent> matchEventGetByMatch() {
+        return matchEventDAO.getByMatchIdOrdered(nextId(database.getMatchCount()));
+    }
+
+    @Benchmark
+    public int matchEventInsertDelete() {
+        MatchEvent event = new MatchEvent();
+        event.setMatchId(1);
+        event.setPlayerId(1);
+        event.setEventType("SHOT");
+        event.setMinute(45);
+        event.setDescription("benchmark");
+        matchEventDAO.insert(event);
+        matchEventDAO.delete(event.getEventId());
+        return event.getEventId();
+    }
+
+    @Benchmark
+    public PlayerMatchStats statsGetById() {
+        return statsDAO.getById(nextId(database.getStatsCount()));
+    }
+
+    @Benchmark
+    public List<PlayerMatchStats> statsGetByMatch() {
+        return statsDAO.getByMatchId(nextId(database.getMatchCount()));
+    }
+
+    @Benchmark
+    public List<PlayerMatchStats> statsGetByPlayer() {
+        return statsDAO.getByPlayerId(nextId(database.getPlayerCount()));
+    }
+
+    @Benchmark
+    public PlayerMatchStats statsUpdate() {
+        statsDAO.update(stats);
+        return stats;
+    }
+
+    @Benchmark
+    public TrainingSession sessionGetById() {
+        return sessionDAO.getById(nextId(database.getSessionCount()));
+    }
+
+    @Benchmark
+    public List<TrainingSession> sessionGetRecent() {
+        return sessionDAO.getRecentSessions(10);
+    }
+
+    @Benchmark
+    public int sessionInsertDelete() {
+        TrainingSession session = new TrainingSession();
+        session.setSessionDate(new Timestamp(System.currentTimeMillis()));
+        session.setFocus("Benchmark");
+        session.setLocation("Pitch 1");
+        session.setDurationMinutes(60);
+        session.setIntensity("LOW");
+        sessionDAO.insert(session);
+        sessionDAO.delete(session.getSessionId());
+        return session.getSessionId();
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> attendanceGetBySession() {
+        return attendanceDAO.getBySessionId(nextId(database.getSessionCount()));
+    }
+
+    @Benchmark
+    public AttendanceRecord attendanceGetByPlayerAndSession() {
+        return attendanceDAO.getByPlayerAndSession(nextId(database.getPlayerCount()),
+                nextId(database.getSessionCount()));
+    }
+
+    @Benchmark
+    public AttendanceRecord attendanceUpdate() {
+        attendanceDAO.update(attendance);
+        return attendance;
+    }
+
+    @Benchmark
+    public Staff staffGetByUserId() {
+        return staffDAO.getByUserId(nextId(10));
+    }
+
+    @Benchmark
+    public Staff staffUpdate() {
+        staffDAO.update(staff);
+        return staff;
+    }
+
+    @Benchmark
+    public User userGetByUsername() {
+        return userDAO.getByUsername(BenchmarkDatabase.ADMIN_USERNAME);
+    }
+
+    @Benchmark
+    public User userUpdate() {
+        userDAO.update(user);
+        return user;
+    }
+}
@@ -0,0 +1,76 @@
+package com.futclub.benchmarks;
+
+import com.futclub.database.DatabaseConnection;
+import com.futclub.database.dao.DashboardDAO;
+import com.futclub.database.dao.DashboardDAOImpl;
+import com.futclub.frontend.backend.BackendFacade;
+import com.futclub.model.AdministratorUser;
+import com.futclub.model.CoachUser;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BackendFacade.loadDashboard as seen by an administrator and by a coach.
+ * Those calls are served from the dashboard cache after the first one, so
+ * {@code countsQuery} times the uncached aggregate query on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private BackendFacade facade;
+    private AdministratorUser administrator;
+    private CoachUser coach;
+    private DashboardDAO dashboardDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.open(rows);
+        facade = new BackendFacade();
+        administrator = new AdministratorUser();
+        administrator.setUserId(1);
+        coach = new CoachUser();
+        coach.setUserId(2);
+        dashboardDAO = new DashboardDAOImpl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseConnection.closeConnection();
+    }
+
+    @Benchmark
+    public Object loadDashboardAsAdministrator() {
+        return facade.loadDashboard(administrator);
+    }
+
+    @Benchmark
+    public Object loadDashboardAsCoach() {
+        return facade.loadDashboard(coach);
+    }
+
+    @Benchmark
+    public Object countsQuery() {
+        return dashboardDAO.getCounts(new Timestamp(System.currentTimeMillis()), null);
+    }
+}
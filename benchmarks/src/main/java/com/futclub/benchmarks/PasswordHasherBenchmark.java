@@ -0,0 +1,50 @@
+package com.futclub.benchmarks;
+
+import com.futclub.security.PasswordHasher;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of hashing and checking a password with the production BCrypt settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "Benchmark#2024";
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = PasswordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return PasswordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchesCorrectPassword() {
+        return PasswordHasher.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean matchesWrongPassword() {
+        return PasswordHasher.matches("wrong-password", hash);
+    }
+}
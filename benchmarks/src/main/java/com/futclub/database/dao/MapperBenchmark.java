@@ -0,0 +1,155 @@
+package com.futclub.database.dao;
+
+import com.futclub.benchmarks.BenchmarkDatabase;
+import com.futclub.database.EpochDates;
+import com.futclub.database.RowMapper;
+import com.futclub.model.AttendanceRecord;
+import com.futclub.model.Match;
+import com.futclub.model.MatchEvent;
+import com.futclub.model.Player;
+import com.futclub.model.PlayerMatchStats;
+import com.futclub.model.Staff;
+import com.futclub.model.TrainingSession;
+import com.futclub.model.User;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The DAO row mappers and the EpochDates date decoder, each applied to a
+ * result set already positioned on a row. Mappers are bound to their result
+ * set during setup, so only the column reads and object construction are
+ * measured. Lives in the DAO package to reach the package-private mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final List<Statement> statements = new ArrayList<>();
+    private Connection connection;
+    private ResultSet players;
+    private ResultSet matches;
+    private ResultSet events;
+    private ResultSet stats;
+    private ResultSet sessions;
+    private ResultSet attendance;
+    private ResultSet staff;
+    private ResultSet users;
+    private int joinedDateColumn;
+
+    private RowMapper<Player> playerMapper;
+    private RowMapper<Match> matchMapper;
+    private RowMapper<MatchEvent> eventMapper;
+    private RowMapper<PlayerMatchStats> statsMapper;
+    private RowMapper<TrainingSession> sessionMapper;
+    private RowMapper<AttendanceRecord> attendanceMapper;
+    private RowMapper<Staff> staffMapper;
+    private RowMapper<User> userMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = BenchmarkDatabase.open(1_000).openConnection();
+        players = firstRow("SELECT * FROM players WHERE player_id = 1");
+        matches = firstRow("SELECT * FROM matches WHERE match_id = 1");
+        events = firstRow("SELECT * FROM match_events WHERE event_id = 1");
+        stats = firstRow("SELECT * FROM player_match_stats WHERE stats_id = 1");
+        sessions = firstRow("SELECT * FROM training_sessions WHERE session_id = 1");
+        attendance = firstRow("SELECT * FROM attendance WHERE attendance_id = 1");
+        staff = firstRow("SELECT * FROM staff WHERE staff_id = 1");
+        users = firstRow("SELECT * FROM users WHERE user_id = 1");
+        joinedDateColumn = players.findColumn("joined_date");
+
+        playerMapper = new PlayerDAOImpl.PlayerRowMapper(players);
+        matchMapper = new MatchDAOImpl.MatchRowMapper(matches);
+        eventMapper = new MatchEventDAOImpl.MatchEventRowMapper(events);
+        statsMapper = new PlayerMatchStatsDAOImpl.StatsRowMapper(stats);
+        sessionMapper = new TrainingSessionDAOImpl.TrainingSessionRowMapper(sessions);
+        attendanceMapper = new AttendanceDAOImpl.AttendanceRowMapper(attendance);
+        staffMapper = new StaffDAOImpl.StaffRowMapper(staff);
+        userMapper = new UserDAOImpl.UserRowMapper(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        for (Statement statement : statements) {
+            statement.close();
+        }
+        connection.close();
+    }
+
+    private ResultSet firstRow(String sql) throws SQLException {
+        Statement statement = connection.createStatement();
+        statements.add(statement);
+        ResultSet rs = statement.executeQuery(sql);
+        if (!rs.next()) {
+            throw new IllegalStateException("Benchmark dataset has no row for: " + sql);
+        }
+        return rs;
+    }
+
+    @Benchmark
+    public Player extractPlayer() throws SQLException {
+        return playerMapper.map(players);
+    }
+
+    @Benchmark
+    public Date getNullableDate() throws SQLException {
+        return EpochDates.getDate(players, joinedDateColumn);
+    }
+
+    @Benchmark
+    public Match extractMatch() throws SQLException {
+        return matchMapper.map(matches);
+    }
+
+    @Benchmark
+    public MatchEvent extractMatchEvent() throws SQLException {
+        return eventMapper.map(events);
+    }
+
+    @Benchmark
+    public PlayerMatchStats extractStats() throws SQLException {
+        return statsMapper.map(stats);
+    }
+
+    @Benchmark
+    public TrainingSession extractTrainingSession() throws SQLException {
+        return sessionMapper.map(sessions);
+    }
+
+    @Benchmark
+    public AttendanceRecord extractAttendance() throws SQLException {
+        return attendanceMapper.map(attendance);
+    }
+
+    @Benchmark
+    public Staff extractStaff() throws SQLException {
+        return staffMapper.map(staff);
+    }
+
+    @Benchmark
+    public User extractUser() throws SQLException {
+        return userMapper.map(users);
+    }
+}
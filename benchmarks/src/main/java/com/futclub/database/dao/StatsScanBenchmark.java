@@ -0,0 +1,152 @@
+package com.futclub.database.dao;
+
+import com.futclub.database.DatabaseInitializer;
+import com.futclub.database.PragmaProfile;
+import com.futclub.database.RowMapper;
+import com.futclub.model.PlayerMatchStats;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full scans of player_match_stats mapped by column name, as the DAOs used to,
+ * against the index-resolved {@link PlayerMatchStatsDAOImpl.StatsRowMapper}.
+ *
+ * The synthetic datasets hold far fewer stats rows than events, so this
+ * benchmark builds its own file with {@code rows} stats lines (players x
+ * matches) under bench-data/ and reuses it on later runs. Divide the score by
+ * {@code rows} for the per-row cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StatsScanBenchmark {
+
+    private static final String SCAN_SQL = "SELECT * FROM player_match_stats ORDER BY stats_id";
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Connection connection;
+    private PreparedStatement scan;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        Path dir = Path.of(System.getProperty("bench.data.dir", "bench-data"));
+        Path file = dir.resolve("stats-scan-" + rows + ".db").toAbsolutePath();
+        if (!Files.exists(file)) {
+            build(file);
+        }
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+        scan = connection.prepareStatement(SCAN_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        scan.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int scanByColumnName(Blackhole blackhole) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = scan.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(mapByName(rs));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int scanByColumnIndex(Blackhole blackhole) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = scan.executeQuery()) {
+            RowMapper<PlayerMatchStats> mapper = new PlayerMatchStatsDAOImpl.StatsRowMapper(rs);
+            while (rs.next()) {
+                blackhole.consume(mapper.map(rs));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The per-row name lookups the DAO mapper made before it resolved indexes.
+     */
+    private static PlayerMatchStats mapByName(ResultSet rs) throws SQLException {
+        PlayerMatchStats stats = new PlayerMatchStats();
+        stats.setStatsId(rs.getInt("stats_id"));
+        stats.setPlayerId(rs.getInt("player_id"));
+        stats.setMatchId(rs.getInt("match_id"));
+        stats.setMinutesPlayed(rs.getInt("minutes_played"));
+        stats.setGoals(rs.getInt("goals"));
+        stats.setAssists(rs.getInt("assists"));
+        stats.setRating(rs.getDouble("rating"));
+        stats.setShots(rs.getInt("shots"));
+        stats.setShotsOnTarget(rs.getInt("shots_on_target"));
+        stats.setPassesCompleted(rs.getInt("passes_completed"));
+        stats.setPassesAttempted(rs.getInt("passes_attempted"));
+        stats.setTackles(rs.getInt("tackles"));
+        stats.setInterceptions(rs.getInt("interceptions"));
+        stats.setYellowCards(rs.getInt("yellow_cards"));
+        stats.setRedCards(rs.getInt("red_cards"));
+        stats.setFoulsCommitted(rs.getInt("fouls_committed"));
+        stats.setFoulsWon(rs.getInt("fouls_won"));
+        stats.setWasStarter(rs.getBoolean("was_starter"));
+        return stats;
+    }
+
+    private void build(Path file) throws SQLException, IOException {
+        Files.createDirectories(file.getParent());
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        Files.deleteIfExists(partial);
+
+        System.out.println("Building " + rows + "-row stats scan dataset at " + file);
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + partial)) {
+            PragmaProfile.forName(PragmaProfile.BULK_LOAD).applyTo(conn);
+            DatabaseInitializer.applySchema(conn);
+            // Foreign keys are off on this plain connection, so the stats lines
+            // need no players or matches behind them.
+            try (PreparedStatement insert = conn.prepareStatement(
+                    "WITH RECURSIVE n(i) AS (SELECT 0 UNION ALL SELECT i + 1 FROM n WHERE i + 1 < ?) " +
+                    "INSERT INTO player_match_stats (player_id, match_id, minutes_played, goals, assists, " +
+                    "rating, shots, shots_on_target, passes_completed, passes_attempted, tackles, " +
+                    "interceptions, yellow_cards, red_cards, fouls_committed, fouls_won, was_starter) " +
+                    "SELECT i % 1000 + 1, i / 1000 + 1, i % 91, i % 3, i % 2, 1.0 + (i % 90) / 10.0, " +
+                    "i % 7, i % 4, i % 60, i % 60 + 10, i % 5, i % 4, i % 2, 0, i % 3, i % 3, i % 2 FROM n")) {
+                insert.setInt(1, rows);
+                insert.executeUpdate();
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+            }
+        }
+        Files.move(partial, file);
+    }
+}
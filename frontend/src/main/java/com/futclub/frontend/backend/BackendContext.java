@@ -3,6 +3,11 @@ package com.futclub.frontend.backend;
 import com.futclub.database.DatabaseInitializer;
 import com.futclub.database.dao.AttendanceDAO;
 import com.futclub.database.dao.AttendanceDAOImpl;
+import com.futclub.database.dao.CachingMatchDAO;
+import com.futclub.database.dao.CachingPlayerDAO;
+import com.futclub.database.dao.CachingStaffDAO;
+import com.futclub.database.dao.DashboardDAO;
+import com.futclub.database.dao.DashboardDAOImpl;
 import com.futclub.database.dao.MatchDAO;
 import com.futclub.database.dao.MatchDAOImpl;
 import com.futclub.database.dao.MatchEventDAO;
@@ -20,6 +25,7 @@ import com.futclub.database.dao.UserDAOImpl;
 import com.futclub.service.AdministratorService;
 import com.futclub.service.AnalystService;
 import com.futclub.service.CoachService;
+import com.futclub.service.DashboardService;
 import com.futclub.service.auth.AuthenticationService;
 import java.sql.SQLException;
 
@@ -38,28 +44,33 @@ public final class BackendContext {
     private final AttendanceDAO attendanceDAO;
     private final PlayerMatchStatsDAO playerMatchStatsDAO;
     private final MatchEventDAO matchEventDAO;
+    private final DashboardDAO dashboardDAO;
 
     private final AuthenticationService authenticationService;
     private final AdministratorService administratorService;
     private final CoachService coachService;
     private final AnalystService analystService;
+    private final DashboardService dashboardService;
 
     private BackendContext() {
         initializeSchema();
         this.userDAO = new UserDAOImpl();
         ensureSeedData();
-        this.playerDAO = new PlayerDAOImpl();
-        this.staffDAO = new StaffDAOImpl();
-        this.matchDAO = new MatchDAOImpl();
+        this.playerDAO = CachingPlayerDAO.fromConfig(new PlayerDAOImpl());
+        this.staffDAO = CachingStaffDAO.fromConfig(new StaffDAOImpl());
+        this.matchDAO = CachingMatchDAO.fromConfig(new MatchDAOImpl());
         this.trainingSessionDAO = new TrainingSessionDAOImpl();
         this.attendanceDAO = new AttendanceDAOImpl();
         this.playerMatchStatsDAO = new PlayerMatchStatsDAOImpl();
         this.matchEventDAO = new MatchEventDAOImpl();
+        this.dashboardDAO = new DashboardDAOImpl();
 
+        this.dashboardService = new DashboardService(dashboardDAO, staffDAO);
         this.authenticationService = new AuthenticationService(userDAO);
-        this.administratorService = new AdministratorService(playerDAO, staffDAO, matchDAO);
-        this.coachService = new CoachService(trainingSessionDAO, attendanceDAO, playerMatchStatsDAO, staffDAO);
-        this.analystService = new AnalystService(playerMatchStatsDAO, matchEventDAO);
+        this.administratorService = new AdministratorService(playerDAO, staffDAO, matchDAO, dashboardService);
+        this.coachService = new CoachService(trainingSessionDAO, attendanceDAO, playerMatchStatsDAO, staffDAO,
+                playerDAO, dashboardService);
+        this.analystService = new AnalystService(playerMatchStatsDAO, matchEventDAO, playerDAO, matchDAO);
     }
 
     public static synchronized BackendContext getInstance() {
@@ -103,6 +114,10 @@ public final class BackendContext {
         return analystService;
     }
 
+    public DashboardService dashboardService() {
+        return dashboardService;
+    }
+
     public UserDAO userDAO() {
         return userDAO;
     }
@@ -134,4 +149,8 @@ public final class BackendContext {
     public MatchEventDAO matchEventDAO() {
         return matchEventDAO;
     }
+
+    public DashboardDAO dashboardDAO() {
+        return dashboardDAO;
+    }
 }
@@ -1,24 +1,37 @@
 package com.futclub.frontend.backend;
 
+import com.futclub.database.TransactionManager;
+import com.futclub.database.exception.DatabaseException;
 import com.futclub.model.AdministratorUser;
 import com.futclub.model.AnalystUser;
 import com.futclub.model.CoachUser;
+import com.futclub.model.DashboardCounts;
+import com.futclub.model.LeaderboardEntry;
+import com.futclub.model.LeaderboardFilter;
 import com.futclub.model.Match;
 import com.futclub.model.MatchEvent;
+import com.futclub.model.MatchSummary;
 import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
+import com.futclub.model.PlayerSummary;
 import com.futclub.model.Staff;
 import com.futclub.model.TrainingSession;
 import com.futclub.model.User;
 import com.futclub.model.enums.UserRole;
 import com.futclub.service.CoachService;
 import com.futclub.service.auth.AuthenticationService;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * High-level facade that adapts backend services for the JavaFX UI.
@@ -66,16 +79,34 @@ public class BackendFacade {
         newUser.setUsername(username.trim());
         newUser.setActive(true);
 
-        context.authenticationService().register(newUser, password);
-        if (newUser.getUserId() <= 0) {
-            return RegistrationResult.failure("Unable to create the user account.");
-        }
-
         Staff staff = new Staff();
         staff.setFullName(fullName.trim());
-        staff.setUserId(newUser.getUserId());
         staff.setHireDate(Date.valueOf(LocalDate.now()));
-        context.staffDAO().insert(staff);
+
+        // Hash before taking the write lock, then commit both rows together.
+        context.authenticationService().prepareRegistration(newUser, password);
+        try {
+            TransactionManager.executeTransaction(conn -> {
+                // A retried attempt must not see ids left by the rolled-back one.
+                newUser.setUserId(0);
+                staff.setStaffId(0);
+                context.userDAO().insert(newUser);
+                if (newUser.getUserId() <= 0) {
+                    throw new IllegalStateException("Unable to create the user account.");
+                }
+                staff.setUserId(newUser.getUserId());
+                context.staffDAO().insert(staff);
+                if (staff.getStaffId() <= 0) {
+                    throw new IllegalStateException("Unable to create the staff profile.");
+                }
+            });
+        } catch (DatabaseException ex) {
+            newUser.setUserId(0);
+            staff.setStaffId(0);
+            String reason = ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+            return RegistrationResult.failure(reason);
+        }
+        context.dashboardService().invalidate();
 
         return RegistrationResult.success(newUser, staff);
     }
@@ -84,37 +115,24 @@ public class BackendFacade {
         if (user == null) {
             return new DashboardSnapshot(0, 0, 0, 0, 0, null, null, 0);
         }
-        List<Player> players = context.playerDAO().getAll();
-        int totalPlayers = players.size();
-        int availablePlayers = (int) players.stream()
-                .filter(p -> "AVAILABLE".equalsIgnoreCase(p.getStatus()))
-                .count();
-        int injuredPlayers = (int) players.stream()
-                .filter(p -> "INJURED".equalsIgnoreCase(p.getStatus()))
-                .count();
-
-        List<Match> upcomingMatches = context.matchDAO().getUpcomingMatches();
-        Match nextMatch = upcomingMatches.isEmpty() ? null : upcomingMatches.get(0);
-
-        List<TrainingSession> sessionsSource = resolveSessionsSource(user);
-        Instant now = Instant.now();
-        List<TrainingSession> upcomingSessions = sessionsSource.stream()
-            .filter(session -> session.getSessionDate() != null && session.getSessionDate().toInstant().isAfter(now))
-            .sorted(Comparator.comparing(TrainingSession::getSessionDate))
-            .toList();
-        TrainingSession nextTraining = upcomingSessions.isEmpty() ? null : upcomingSessions.get(0);
-
-        int totalStaff = context.staffDAO().getAll().size();
+        DashboardCounts counts = context.dashboardService().getCounts(user);
+        if (counts == null) {
+            return new DashboardSnapshot(0, 0, 0, 0, 0, null, null, 0);
+        }
+        Match nextMatch = counts.nextMatchId() > 0 ? context.matchDAO().getById(counts.nextMatchId()) : null;
+        TrainingSession nextTraining = counts.nextSessionId() > 0
+                ? context.trainingSessionDAO().getById(counts.nextSessionId())
+                : null;
 
         return new DashboardSnapshot(
-                totalPlayers,
-                availablePlayers,
-                injuredPlayers,
-                upcomingMatches.size(),
-            upcomingSessions.size(),
+                counts.totalPlayers(),
+                counts.availablePlayers(),
+                counts.injuredPlayers(),
+                counts.upcomingMatches(),
+                counts.upcomingSessions(),
                 nextMatch,
                 nextTraining,
-                totalStaff
+                counts.totalStaff()
         );
     }
 
@@ -125,6 +143,31 @@ public class BackendFacade {
         return List.copyOf(context.playerDAO().getAll());
     }
 
+    /**
+     * Gets the squad as lightweight summaries for pickers and name lookups.
+     */
+    public List<PlayerSummary> listPlayerSummaries(User user) {
+        if (user == null) {
+            return List.of();
+        }
+        return List.copyOf(context.playerDAO().getSummaries());
+    }
+
+    /**
+     * Gets one page of the squad in shirt-number order.
+     *
+     * @param pageToken the token from the previous page, or null for the first page
+     */
+    public Page<Player> listPlayers(User user, String pageToken, int pageSize) {
+        if (user == null) {
+            return Page.empty();
+        }
+        requirePageSize(pageSize);
+        long[] after = decodePageToken(pageToken, -1L, 0L);
+        List<Player> players = context.playerDAO().page((int) after[0], (int) after[1], pageSize + 1);
+        return toPage(players, pageSize, player -> encodePageToken(player.getShirtNumber(), player.getPlayerId()));
+    }
+
     public List<Match> listUpcomingMatches(User user) {
         if (user == null) {
             return List.of();
@@ -158,6 +201,33 @@ public class BackendFacade {
         return context.matchDAO().getAll();
     }
 
+    /**
+     * Gets every match, newest first, as lightweight summaries for pickers.
+     */
+    public List<MatchSummary> listMatchSummaries(User user) {
+        if (user == null) {
+            return List.of();
+        }
+        return List.copyOf(context.matchDAO().getSummaries());
+    }
+
+    /**
+     * Gets one page of all matches, newest first.
+     *
+     * @param pageToken the token from the previous page, or null for the first page
+     */
+    public Page<Match> listAllMatches(User user, String pageToken, int pageSize) {
+        if (user == null) {
+            return Page.empty();
+        }
+        requirePageSize(pageSize);
+        long[] after = decodePageToken(pageToken, Long.MIN_VALUE, 0L);
+        Timestamp afterDate = after[0] == Long.MIN_VALUE ? null : new Timestamp(after[0]);
+        List<Match> matches = context.matchDAO().page(afterDate, (int) after[1], pageSize + 1);
+        return toPage(matches, pageSize,
+                match -> encodePageToken(match.getMatchDate().getTime(), match.getMatchId()));
+    }
+
     public OperationResult<Player> registerPlayer(User user, Player player) {
         if (!(user instanceof AdministratorUser admin)) {
             return OperationResult.failure("Only administrators can register players.");
@@ -218,25 +288,60 @@ public class BackendFacade {
         }
     }
 
-    public List<MatchEvent> getMatchTimeline(User user, int matchId) {
+    /**
+     * Gets one page of a match timeline in minute order.
+     *
+     * @param pageToken the token from the previous page, or null for the first page
+     */
+    public Page<MatchEvent> getMatchTimeline(User user, int matchId, String pageToken, int pageSize) {
         if (!(user instanceof AnalystUser analystUser)) {
+            return Page.empty();
+        }
+        requirePageSize(pageSize);
+        long[] after = decodePageToken(pageToken, -1L, 0L, 0L);
+        List<MatchEvent> events = context.analystService().getTimelinePage(
+                analystUser, matchId, (int) after[0], (int) after[1], (int) after[2], pageSize + 1);
+        return toPage(events, pageSize,
+                event -> encodePageToken(event.getMinute(), event.getSecond(), event.getEventId()));
+    }
+
+    /**
+     * Gets the names of the players a page of events mentions, keyed by player id, in one lookup.
+     */
+    public Map<Integer, String> getEventPlayerNames(User user, List<MatchEvent> events) {
+        if (!(user instanceof AnalystUser analystUser) || events.isEmpty()) {
+            return Map.of();
+        }
+        return context.analystService().getPlayersForEvents(analystUser, events).values().stream()
+                .collect(Collectors.toMap(Player::getPlayerId,
+                        player -> (player.getFirstName() + " " + player.getLastName()).trim()));
+    }
+
+    /**
+     * Gets the ten top scorers in the matches the filter keeps.
+     */
+    public List<LeaderboardEntry> getTopScorers(User user, LeaderboardFilter filter) {
+        if (user == null) {
             return List.of();
         }
-        return context.analystService().getTimelineForMatch(analystUser, matchId);
+        return context.playerMatchStatsDAO().getScoringLeaders(filter, 10);
     }
 
-    public List<PlayerMatchStats> getTopScorers(User user) {
+    /**
+     * Gets the ten best-rated players in the matches the filter keeps.
+     */
+    public List<LeaderboardEntry> getTopRatedPlayers(User user, LeaderboardFilter filter) {
         if (user == null) {
             return List.of();
         }
-        return context.playerMatchStatsDAO().getTopScorers(10);
+        return context.playerMatchStatsDAO().getRatingLeaders(filter, 10);
     }
 
-    public List<PlayerMatchStats> getTopRatedPlayers(User user) {
+    public List<String> listCompetitions(User user) {
         if (user == null) {
             return List.of();
         }
-        return context.playerMatchStatsDAO().getTopRatedPlayers(10);
+        return context.matchDAO().getCompetitions();
     }
 
     public List<PlayerMatchStats> getPlayerStats(User user, int playerId) {
@@ -261,6 +366,58 @@ public class BackendFacade {
         return context.trainingSessionDAO().getAll();
     }
 
+    /**
+     * Trims a result fetched with one extra row to the page size; the extra
+     * row only tells us whether another page exists.
+     */
+    private static <T> Page<T> toPage(List<T> fetched, int pageSize, Function<T, String> tokenOf) {
+        if (fetched.size() <= pageSize) {
+            return new Page<>(List.copyOf(fetched), null);
+        }
+        List<T> items = List.copyOf(fetched.subList(0, pageSize));
+        return new Page<>(items, tokenOf.apply(items.get(pageSize - 1)));
+    }
+
+    private static void requirePageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+    }
+
+    private static String encodePageToken(long... keys) {
+        StringBuilder token = new StringBuilder();
+        for (long key : keys) {
+            if (token.length() > 0) {
+                token.append(':');
+            }
+            token.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a page token, or returns the first-page keys when there is none.
+     */
+    private static long[] decodePageToken(String token, long... firstPage) {
+        if (token == null || token.isBlank()) {
+            return firstPage;
+        }
+        String[] parts;
+        long[] keys = new long[firstPage.length];
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            for (int i = 0; i < parts.length && i < keys.length; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page token", ex);
+        }
+        if (parts.length != keys.length) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+        return keys;
+    }
+
     private User createUserForRole(UserRole role) {
         return switch (role) {
             case COACH -> new CoachUser();
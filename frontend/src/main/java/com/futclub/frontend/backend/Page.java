@@ -0,0 +1,18 @@
+package com.futclub.frontend.backend;
+
+import java.util.List;
+
+/**
+ * One page of a list screen. Pass {@code nextPageToken} back to the facade to
+ * fetch the following page; it is null on the last page.
+ */
+public record Page<T>(List<T> items, String nextPageToken) {
+
+    public static <T> Page<T> empty() {
+        return new Page<>(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+}
@@ -3,10 +3,15 @@ package com.futclub.frontend.ui;
 import com.futclub.frontend.backend.BackendFacade;
 import com.futclub.frontend.backend.DashboardSnapshot;
 import com.futclub.frontend.backend.OperationResult;
+import com.futclub.frontend.backend.Page;
+import com.futclub.model.LeaderboardEntry;
+import com.futclub.model.LeaderboardFilter;
 import com.futclub.model.Match;
 import com.futclub.model.MatchEvent;
+import com.futclub.model.MatchSummary;
 import com.futclub.model.Player;
 import com.futclub.model.PlayerMatchStats;
+import com.futclub.model.PlayerSummary;
 import com.futclub.model.Staff;
 import com.futclub.model.TrainingSession;
 import com.futclub.model.User;
@@ -18,6 +23,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -30,6 +36,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
+import javafx.scene.control.ButtonBar.ButtonData;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
@@ -57,6 +64,8 @@ public class HomeView {
         private static final List<String> MATCH_EVENT_TYPES = List.of(
             "GOAL", "ASSIST", "SHOT", "YELLOW_CARD", "RED_CARD", "FOUL", "PENALTY", "SUBSTITUTION", "OTHER"
         );
+        private static final String ALL_COMPETITIONS = "All competitions";
+        private static final int TIMELINE_PAGE_SIZE = 50;
 
     private final MainApp mainApp;
     private final User user;
@@ -176,7 +185,7 @@ public class HomeView {
 
     private void showPlayersDialog() {
         BackendFacade backend = mainApp.getBackendFacade();
-        List<Player> players = backend.listPlayers(user);
+        List<PlayerSummary> players = backend.listPlayerSummaries(user);
         String content = players.isEmpty()
                 ? "No players found."
                 : players.stream()
@@ -534,12 +543,12 @@ public class HomeView {
     }
 
     private void showLogMatchEventDialog() {
-        List<Match> matches = mainApp.getBackendFacade().listAllMatches(user);
+        List<MatchSummary> matches = mainApp.getBackendFacade().listMatchSummaries(user);
         if (matches.isEmpty()) {
             showAlert(AlertType.INFORMATION, "No matches", "There are no matches available to log events.");
             return;
         }
-        List<Player> players = mainApp.getBackendFacade().listPlayers(user);
+        List<PlayerSummary> players = mainApp.getBackendFacade().listPlayerSummaries(user);
 
         Dialog<Void> dialog = new Dialog<>();
         dialog.setTitle("Log match event");
@@ -548,11 +557,11 @@ public class HomeView {
 
         GridPane grid = createFormGrid();
 
-        ComboBox<Match> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
+        ComboBox<MatchSummary> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
         configureMatchComboBox(matchBox);
         matchBox.getSelectionModel().selectFirst();
 
-        ComboBox<Player> playerBox = new ComboBox<>(FXCollections.observableArrayList(players));
+        ComboBox<PlayerSummary> playerBox = new ComboBox<>(FXCollections.observableArrayList(players));
         configurePlayerComboBox(playerBox);
         playerBox.setPromptText("Optional");
 
@@ -578,7 +587,7 @@ public class HomeView {
         Button okButton = (Button) dialog.getDialogPane().lookupButton(ButtonType.OK);
         okButton.addEventFilter(ActionEvent.ACTION, event -> {
             StringJoiner errors = new StringJoiner("\n");
-            Match selectedMatch = matchBox.getValue();
+            MatchSummary selectedMatch = matchBox.getValue();
             if (selectedMatch == null) {
                 errors.add("Match must be selected.");
             }
@@ -602,9 +611,9 @@ public class HomeView {
             }
 
             MatchEvent matchEvent = new MatchEvent();
-            matchEvent.setMatchId(selectedMatch.getMatchId());
-            Player selectedPlayer = playerBox.getValue();
-            matchEvent.setPlayerId(selectedPlayer != null ? selectedPlayer.getPlayerId() : null);
+            matchEvent.setMatchId(selectedMatch.matchId());
+            PlayerSummary selectedPlayer = playerBox.getValue();
+            matchEvent.setPlayerId(selectedPlayer != null ? selectedPlayer.playerId() : null);
             matchEvent.setEventType(eventType);
             matchEvent.setMinute(minute);
             matchEvent.setSecond(second != null ? second : 0);
@@ -626,12 +635,12 @@ public class HomeView {
     }
 
     private void showRecordPlayerStatsDialog() {
-        List<Match> matches = mainApp.getBackendFacade().listAllMatches(user);
+        List<MatchSummary> matches = mainApp.getBackendFacade().listMatchSummaries(user);
         if (matches.isEmpty()) {
             showAlert(AlertType.INFORMATION, "No matches", "There are no matches available for statistics.");
             return;
         }
-        List<Player> players = mainApp.getBackendFacade().listPlayers(user);
+        List<PlayerSummary> players = mainApp.getBackendFacade().listPlayerSummaries(user);
         if (players.isEmpty()) {
             showAlert(AlertType.INFORMATION, "No players", "There are no players available for statistics.");
             return;
@@ -644,11 +653,11 @@ public class HomeView {
 
         GridPane grid = createFormGrid();
 
-        ComboBox<Match> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
+        ComboBox<MatchSummary> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
         configureMatchComboBox(matchBox);
         matchBox.getSelectionModel().selectFirst();
 
-        ComboBox<Player> playerBox = new ComboBox<>(FXCollections.observableArrayList(players));
+        ComboBox<PlayerSummary> playerBox = new ComboBox<>(FXCollections.observableArrayList(players));
         configurePlayerComboBox(playerBox);
         playerBox.getSelectionModel().selectFirst();
 
@@ -680,8 +689,8 @@ public class HomeView {
         Button okButton = (Button) dialog.getDialogPane().lookupButton(ButtonType.OK);
         okButton.addEventFilter(ActionEvent.ACTION, event -> {
             StringJoiner errors = new StringJoiner("\n");
-            Match selectedMatch = matchBox.getValue();
-            Player selectedPlayer = playerBox.getValue();
+            MatchSummary selectedMatch = matchBox.getValue();
+            PlayerSummary selectedPlayer = playerBox.getValue();
             if (selectedMatch == null) {
                 errors.add("Match must be selected.");
             }
@@ -710,8 +719,8 @@ public class HomeView {
             }
 
             PlayerMatchStats stats = new PlayerMatchStats();
-            stats.setMatchId(selectedMatch.getMatchId());
-            stats.setPlayerId(selectedPlayer.getPlayerId());
+            stats.setMatchId(selectedMatch.matchId());
+            stats.setPlayerId(selectedPlayer.playerId());
             stats.setMinutesPlayed(minutes != null ? minutes : 0);
             stats.setGoals(goals != null ? goals : 0);
             stats.setAssists(assists != null ? assists : 0);
@@ -742,18 +751,18 @@ public class HomeView {
     }
 
     private void showMatchTimelineDialog() {
-        List<Match> matches = mainApp.getBackendFacade().listAllMatches(user);
+        List<MatchSummary> matches = mainApp.getBackendFacade().listMatchSummaries(user);
         if (matches.isEmpty()) {
             showAlert(AlertType.INFORMATION, "No matches", "There are no matches available to review.");
             return;
         }
 
-        Dialog<Match> dialog = new Dialog<>();
+        Dialog<MatchSummary> dialog = new Dialog<>();
         dialog.setTitle("Select match");
         dialog.setHeaderText("Choose a match to view its timeline");
         dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
-        ComboBox<Match> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
+        ComboBox<MatchSummary> matchBox = new ComboBox<>(FXCollections.observableArrayList(matches));
         configureMatchComboBox(matchBox);
         matchBox.getSelectionModel().selectFirst();
 
@@ -763,16 +772,53 @@ public class HomeView {
 
         dialog.setResultConverter(button -> button == ButtonType.OK ? matchBox.getValue() : null);
 
-        Optional<Match> selection = dialog.showAndWait();
-        selection.ifPresent(match -> {
-            List<MatchEvent> events = mainApp.getBackendFacade().getMatchTimeline(user, match.getMatchId());
-            String content = events.isEmpty()
-                    ? "No events have been logged for this match."
-                    : events.stream()
-                    .map(this::formatEvent)
+        Optional<MatchSummary> selection = dialog.showAndWait();
+        selection.ifPresent(this::showMatchTimeline);
+    }
+
+    /**
+     * Shows a match timeline one page at a time; "Load more" appends the next page.
+     */
+    private void showMatchTimeline(MatchSummary match) {
+        BackendFacade facade = mainApp.getBackendFacade();
+        Dialog<Void> dialog = new Dialog<>();
+        dialog.setTitle("Match timeline");
+        dialog.setHeaderText(formatMatch(match));
+        ButtonType loadMoreType = new ButtonType("Load more", ButtonData.LEFT);
+        dialog.getDialogPane().getButtonTypes().addAll(loadMoreType, ButtonType.CLOSE);
+
+        TextArea timeline = new TextArea();
+        timeline.setEditable(false);
+        timeline.setWrapText(true);
+        timeline.setPrefRowCount(15);
+        timeline.setPrefColumnCount(48);
+        dialog.getDialogPane().setContent(timeline);
+
+        Button loadMoreButton = (Button) dialog.getDialogPane().lookupButton(loadMoreType);
+        String[] nextPageToken = {null};
+        Runnable loadPage = () -> {
+            Page<MatchEvent> page = facade.getMatchTimeline(user, match.matchId(), nextPageToken[0],
+                    TIMELINE_PAGE_SIZE);
+            Map<Integer, String> playerNames = facade.getEventPlayerNames(user, page.items());
+            String lines = page.items().stream()
+                    .map(event -> formatEvent(event, playerNames))
                     .collect(Collectors.joining("\n"));
-            showInfoDialog("Match timeline", formatMatch(match), content);
+            if (!lines.isEmpty()) {
+                timeline.appendText(timeline.getText().isEmpty() ? lines : "\n" + lines);
+            }
+            nextPageToken[0] = page.nextPageToken();
+            loadMoreButton.setDisable(!page.hasNext());
+        };
+        loadMoreButton.addEventFilter(ActionEvent.ACTION, event -> {
+            loadPage.run();
+            event.consume();
         });
+
+        loadPage.run();
+        if (timeline.getText().isEmpty()) {
+            timeline.setText("No events have been logged for this match.");
+        }
+        dialog.showAndWait();
     }
 
     private GridPane createFormGrid() {
@@ -783,25 +829,25 @@ public class HomeView {
         return grid;
     }
 
-    private void configureMatchComboBox(ComboBox<Match> matchBox) {
+    private void configureMatchComboBox(ComboBox<MatchSummary> matchBox) {
         matchBox.setConverter(new StringConverter<>() {
             @Override
-            public String toString(Match match) {
+            public String toString(MatchSummary match) {
                 return match == null ? "" : formatMatch(match);
             }
 
             @Override
-            public Match fromString(String string) {
+            public MatchSummary fromString(String string) {
                 return null;
             }
         });
         matchBox.setPrefWidth(320);
     }
 
-    private void configurePlayerComboBox(ComboBox<Player> playerBox) {
+    private void configurePlayerComboBox(ComboBox<PlayerSummary> playerBox) {
         playerBox.setConverter(new StringConverter<>() {
             @Override
-            public String toString(Player player) {
+            public String toString(PlayerSummary player) {
                 if (player == null) {
                     return "";
                 }
@@ -809,7 +855,7 @@ public class HomeView {
             }
 
             @Override
-            public Player fromString(String string) {
+            public PlayerSummary fromString(String string) {
                 return null;
             }
         });
@@ -827,7 +873,7 @@ public class HomeView {
         return date + " • " + focus + " @ " + location;
     }
 
-    private String formatEvent(MatchEvent event) {
+    private String formatEvent(MatchEvent event, Map<Integer, String> playerNames) {
         StringBuilder builder = new StringBuilder();
         builder.append(event.getMinute()).append("'");
         if (event.getSecond() > 0) {
@@ -837,7 +883,7 @@ public class HomeView {
         String type = event.getEventType() != null ? event.getEventType() : "EVENT";
         builder.append(type);
         if (event.getPlayerId() != null) {
-            builder.append(" - ").append(resolvePlayerName(event.getPlayerId()));
+            builder.append(" - ").append(resolvePlayerName(event.getPlayerId(), playerNames));
         }
         if (event.getDescription() != null && !event.getDescription().isBlank()) {
             builder.append(" | ").append(event.getDescription());
@@ -845,20 +891,12 @@ public class HomeView {
         return builder.toString();
     }
 
-    private String resolvePlayerName(Integer playerId) {
+    private String resolvePlayerName(Integer playerId, Map<Integer, String> playerNames) {
         if (playerId == null || playerId <= 0) {
             return "Team";
         }
-        return mainApp.getBackendFacade().listPlayers(user).stream()
-                .filter(player -> player.getPlayerId() == playerId)
-                .map(player -> {
-                    String fullName = (player.getFirstName() != null ? player.getFirstName() : "") + " " +
-                            (player.getLastName() != null ? player.getLastName() : "");
-                    String trimmed = fullName.trim();
-                    return trimmed.isEmpty() ? "Player #" + playerId : trimmed;
-                })
-                .findFirst()
-                .orElse("Player #" + playerId);
+        String name = playerNames.get(playerId);
+        return name == null || name.isEmpty() ? "Player #" + playerId : name;
     }
 
     private void showAlert(AlertType type, String title, String content) {
@@ -945,16 +983,11 @@ public class HomeView {
         return user.getUsername();
     }
 
-    private String formatPlayer(Player player) {
-        String numberPart = player.getShirtNumber() > 0 ? "#" + player.getShirtNumber() + " " : "";
-        String firstName = player.getFirstName() != null ? player.getFirstName() : "";
-        String lastName = player.getLastName() != null ? player.getLastName() : "";
-        String name = (firstName + " " + lastName).trim();
-        if (name.isEmpty()) {
-            name = "Player";
-        }
-        String position = player.getPosition() != null ? player.getPosition() : "-";
-        String status = player.getStatus() != null ? player.getStatus() : "UNKNOWN";
+    private String formatPlayer(PlayerSummary player) {
+        String numberPart = player.shirtNumber() > 0 ? "#" + player.shirtNumber() + " " : "";
+        String name = player.name() != null && !player.name().isEmpty() ? player.name() : "Player";
+        String position = player.position() != null ? player.position() : "-";
+        String status = player.status() != null ? player.status() : "UNKNOWN";
         return numberPart + name + " (" + position + ") - " + status;
     }
 
@@ -968,6 +1001,16 @@ public class HomeView {
         return date + " • vs " + opponent + " (" + competition + ")";
     }
 
+    private String formatMatch(MatchSummary match) {
+        String opponent = match.opponent() != null ? match.opponent() : "Opponent";
+        String score = match.score() != null ? " (" + match.score() + ")" : "";
+        if (match.matchDate() == null) {
+            return "vs " + opponent + score;
+        }
+        String date = match.matchDate().toLocalDateTime().format(DATE_TIME_FORMATTER);
+        return date + " • vs " + opponent + score;
+    }
+
     private String formatTraining(TrainingSession session) {
         if (session.getSessionDate() == null) {
             return session.getFocus() != null ? session.getFocus() : "Training";
@@ -988,25 +1031,40 @@ public class HomeView {
                 "Top scorers", "Top rated players"
         ));
         viewBox.setValue("Top scorers");
+        ComboBox<String> competitionBox = new ComboBox<>(FXCollections.observableArrayList(ALL_COMPETITIONS));
+        competitionBox.getItems().addAll(mainApp.getBackendFacade().listCompetitions(user));
+        competitionBox.setValue(ALL_COMPETITIONS);
+        DatePicker fromPicker = new DatePicker();
+        DatePicker toPicker = new DatePicker();
         grid.addRow(0, new Label("View"), viewBox);
+        grid.addRow(1, new Label("Competition"), competitionBox);
+        grid.addRow(2, new Label("From"), fromPicker);
+        grid.addRow(3, new Label("To"), toPicker);
         dialog.getDialogPane().setContent(grid);
 
         dialog.setResultConverter(button -> button == ButtonType.OK ? viewBox.getValue() : null);
 
         Optional<String> selection = dialog.showAndWait();
         selection.ifPresent(viewType -> {
-            List<PlayerMatchStats> stats;
+            String competition = ALL_COMPETITIONS.equals(competitionBox.getValue()) ? null : competitionBox.getValue();
+            // The range covers whole days: from midnight on the first to midnight after the last.
+            Timestamp from = fromPicker.getValue() != null ? Timestamp.valueOf(fromPicker.getValue().atStartOfDay()) : null;
+            Timestamp to = toPicker.getValue() != null
+                    ? Timestamp.valueOf(toPicker.getValue().plusDays(1).atStartOfDay())
+                    : null;
+            LeaderboardFilter filter = new LeaderboardFilter(competition, from, to);
+
+            List<LeaderboardEntry> leaders;
             String title;
-
             if ("Top scorers".equals(viewType)) {
-                stats = mainApp.getBackendFacade().getTopScorers(user);
+                leaders = mainApp.getBackendFacade().getTopScorers(user, filter);
                 title = "Top 10 Scorers";
             } else {
-                stats = mainApp.getBackendFacade().getTopRatedPlayers(user);
+                leaders = mainApp.getBackendFacade().getTopRatedPlayers(user, filter);
                 title = "Top 10 Rated Players";
             }
 
-            if (stats.isEmpty()) {
+            if (leaders.isEmpty()) {
                 showAlert(AlertType.INFORMATION, title, "No player statistics available yet.");
                 return;
             }
@@ -1016,27 +1074,16 @@ public class HomeView {
             content.append(String.format("│ %-31s │ Goal │ Rating │ Matches  │\n", "Player"));
             content.append("├─────────────────────────────────┼──────┼────────┼──────────┤\n");
 
-            List<Player> allPlayers = mainApp.getBackendFacade().listPlayers(user);
-            for (PlayerMatchStats stat : stats) {
-                Player player = allPlayers.stream()
-                        .filter(p -> p.getPlayerId() == stat.getPlayerId())
-                        .findFirst()
-                        .orElse(null);
-
-                String playerName = player != null
-                        ? (player.getFirstName() != null ? player.getFirstName() : "") + " " +
-                          (player.getLastName() != null ? player.getLastName() : "")
-                        : "Unknown Player";
-                playerName = playerName.trim();
-                if (playerName.isEmpty()) {
-                    playerName = "Player #" + stat.getPlayerId();
+            for (LeaderboardEntry entry : leaders) {
+                String playerName = entry.name();
+                if (playerName == null || playerName.isEmpty()) {
+                    playerName = "Player #" + entry.playerId();
                 }
-
-                Integer goals = stat.getGoals();
-                if (goals == null) goals = 0;
-                Double rating = stat.getRating();
-                if (rating == null) rating = 0.0;
-                content.append(String.format("│ %-31s │ %4d │ %6.1f │ %8d │\n", playerName, goals, rating, 1));
+                if (entry.shirtNumber() > 0) {
+                    playerName = "#" + entry.shirtNumber() + " " + playerName;
+                }
+                content.append(String.format("│ %-31s │ %4d │ %6.1f │ %8d │\n",
+                        playerName, entry.goals(), entry.averageRating(), entry.appearances()));
             }
             content.append("└─────────────────────────────────┴──────┴────────┴──────────┘\n");
 